@@ -1,5 +1,6 @@
 plugins {
     alias(libs.plugins.android.application)
+    alias(libs.plugins.baselineprofile)
 }
 
 android {
@@ -14,6 +15,11 @@ android {
         versionName = "1.0"
 
         testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
+
+        // 분석 백엔드 (에뮬레이터에서 호스트 PC의 로컬 서버)
+        buildConfigField("String", "API_BASE_URL", "\"http://10.0.2.2:8000/api/v1/\"")
+        // 백엔드가 준비되기 전까지는 로컬 엔진으로 분석
+        buildConfigField("boolean", "USE_REMOTE_API", "false")
     }
 
     buildTypes {
@@ -25,18 +31,30 @@ android {
             )
         }
     }
+    buildFeatures {
+        buildConfig = true
+    }
     compileOptions {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
     }
 }
 
+// 생성: ./gradlew :app:generateBaselineProfile (연결된 에뮬레이터/기기에서 :macrobenchmark 실행)
+baselineProfile {
+    useConnectedDevices = true
+}
+
 dependencies {
 
     implementation(libs.appcompat)
     implementation(libs.material)
     implementation(libs.constraintlayout)
     implementation(libs.cardview)
+    implementation(libs.recyclerview)
+    // 설치 시 Baseline Profile을 미리 컴파일 (첫 실행 속도 개선)
+    implementation(libs.profileinstaller)
+    baselineProfile(project(":macrobenchmark"))
 
     // Network libraries for MCP connection
     implementation(libs.retrofit)
@@ -46,6 +64,7 @@ dependencies {
     implementation(libs.gson)
 
     testImplementation(libs.junit)
+    testImplementation(libs.okhttp.mockwebserver)
     androidTestImplementation(libs.ext.junit)
     androidTestImplementation(libs.espresso.core)
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.ebusiness.ebiz;
+
+import android.content.Context;
+import com.ebusiness.ebiz.network.ApiClient;
+import com.ebusiness.ebiz.network.ApiConfig;
+
+/**
+ * 앱 전역 ApiClient 제공
+ * OkHttpClient의 커넥션 풀과 캐시를 공유하도록 프로세스당 하나만 생성
+ */
+final class ApiProvider {
+    private static ApiClient instance;
+
+    private ApiProvider() {
+    }
+
+    static synchronized ApiClient get(Context context) {
+        if (instance == null) {
+            ApiConfig config = ApiConfig.builder(BuildConfig.API_BASE_URL)
+                    .loggingEnabled(BuildConfig.DEBUG)
+                    .build();
+            instance = new ApiClient(config, context.getApplicationContext().getCacheDir());
+        }
+        return instance;
+    }
+
+    /**
+     * 백엔드 연동 사용 여부 (미사용 시 로컬 엔진으로 분석)
+     */
+    static boolean isRemoteEnabled() {
+        return BuildConfig.USE_REMOTE_API;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ebusiness.ebiz;
+
+import android.os.Handler;
+import android.os.Looper;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 앱 전역 스레드 풀
+ * 분석 계산 등 UI 스레드를 막으면 안 되는 작업을 백그라운드에서 실행하고 결과를 메인 스레드로 전달
+ */
+public final class AppExecutors {
+    private static final int WORKER_COUNT =
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private static final ExecutorService BACKGROUND =
+            Executors.newFixedThreadPool(WORKER_COUNT, namedThreadFactory("ebiz-worker"));
+
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
+    private AppExecutors() {
+    }
+
+    /**
+     * 계산 작업용 백그라운드 스레드 풀
+     */
+    public static ExecutorService background() {
+        return BACKGROUND;
+    }
+
+    /**
+     * 메인(UI) 스레드에서 실행
+     */
+    public static void runOnMain(Runnable runnable) {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            runnable.run();
+        } else {
+            MAIN_HANDLER.post(runnable);
+        }
+    }
+
+    static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        };
+    }
+}
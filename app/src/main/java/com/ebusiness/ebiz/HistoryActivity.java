@@ -0,0 +1,273 @@
+package com.ebusiness.ebiz;
+
+import android.content.Intent;
+import android.os.Bundle;
+import android.os.SystemClock;
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.util.Log;
+import android.view.View;
+import android.widget.Button;
+import android.widget.EditText;
+import android.widget.ImageButton;
+import android.widget.TextView;
+import androidx.annotation.NonNull;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import com.ebusiness.ebiz.data.AnalysisHistoryStore;
+import com.ebusiness.ebiz.data.HistoryItem;
+import com.ebusiness.ebiz.data.HistorySort;
+import com.ebusiness.ebiz.data.HistoryWindow;
+import com.ebusiness.ebiz.metrics.ActivityMetrics;
+
+/**
+ * 분석 이력 화면
+ * 저장된 분석 결과를 최신순/위험도순으로 보여주고, 선택 시 보고서를 다시 연다
+ *
+ * 목록은 RecyclerView로 뷰를 재사용하고, 끝에 가까워지면 다음 페이지를 이어서 불러온다.
+ * 메모리에는 HistoryWindow로 최근 MAX_PAGES 페이지만 보관하고, 버린 페이지는 위로 돌아갈 때 다시 조회한다.
+ * 검색어를 입력하면 제목/설명/답변 전문 검색 결과를 관련도 순으로 보여준다(입력이 멈춘 뒤 한 번 조회).
+ */
+public class HistoryActivity extends AppCompatActivity {
+    private static final String TAG = "HistoryActivity";
+    private static final int PAGE_SIZE = 30;
+    private static final int MAX_PAGES = 5;
+    // 창 끝까지 남은 항목이 이 개수 이하가 되면 다음(이전) 페이지 요청
+    private static final int PREFETCH_DISTANCE = 10;
+    private static final int SEARCH_LIMIT = 100;
+    private static final long SEARCH_DEBOUNCE_MS = 250;
+
+    // UI Components
+    private ImageButton btnBack;
+    private EditText searchInput;
+    private TextView historyCount;
+    private Button btnSortDate, btnSortRisk;
+    private RecyclerView historyList;
+    private LinearLayoutManager layoutManager;
+    private TextView emptyView;
+    private HistoryAdapter adapter;
+
+    // Data
+    private AnalysisHistoryStore historyStore;
+    private HistorySort sort = HistorySort.DATE;
+    private final HistoryWindow window = new HistoryWindow(PAGE_SIZE, MAX_PAGES);
+    private boolean isLoading = false;
+    private int loadGeneration = 0; // 정렬/검색어 변경 전에 요청한 결과를 무시하기 위한 값
+    private String query = "";
+    private final Runnable searchTask = this::applySearchQuery;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        ActivityMetrics.trackFirstFrame(this);
+        setContentView(R.layout.activity_history);
+
+        historyStore = AnalysisHistoryStore.getInstance(this);
+
+        initializeViews();
+        setupClickListeners();
+        loadHistory();
+        historyStore.prepareSearchAsync();
+    }
+
+    private void initializeViews() {
+        btnBack = findViewById(R.id.btn_back);
+        searchInput = findViewById(R.id.search_input);
+        historyCount = findViewById(R.id.history_count);
+        btnSortDate = findViewById(R.id.btn_sort_date);
+        btnSortRisk = findViewById(R.id.btn_sort_risk);
+        historyList = findViewById(R.id.history_list);
+        emptyView = findViewById(R.id.empty_view);
+
+        adapter = new HistoryAdapter(window, this::openReport);
+        layoutManager = new LinearLayoutManager(this);
+        historyList.setLayoutManager(layoutManager);
+        historyList.setHasFixedSize(true);
+        historyList.setAdapter(adapter);
+    }
+
+    private void setupClickListeners() {
+        btnBack.setOnClickListener(v -> finish());
+
+        btnSortDate.setOnClickListener(v -> changeSort(HistorySort.DATE));
+        btnSortRisk.setOnClickListener(v -> changeSort(HistorySort.RISK_SCORE));
+
+        // 입력이 SEARCH_DEBOUNCE_MS 동안 멈추면 검색
+        searchInput.addTextChangedListener(new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {}
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                searchInput.removeCallbacks(searchTask);
+                searchInput.postDelayed(searchTask, SEARCH_DEBOUNCE_MS);
+            }
+        });
+
+        // 스크롤이 창 끝에 가까워지면 그 방향의 페이지 로드
+        historyList.addOnScrollListener(new RecyclerView.OnScrollListener() {
+            @Override
+            public void onScrolled(@NonNull RecyclerView recyclerView, int dx, int dy) {
+                if (dy > 0 && window.needsAfter(layoutManager.findLastVisibleItemPosition(), PREFETCH_DISTANCE)) {
+                    loadNextPage();
+                } else if (dy < 0
+                        && window.needsBefore(layoutManager.findFirstVisibleItemPosition(), PREFETCH_DISTANCE)) {
+                    loadPreviousPage();
+                }
+            }
+        });
+    }
+
+    private void changeSort(HistorySort newSort) {
+        if (sort == newSort && query.isEmpty()) {
+            return;
+        }
+        sort = newSort;
+        // 정렬을 고르면 검색을 해제하고 전체 목록으로 돌아감
+        if (!query.isEmpty()) {
+            searchInput.removeCallbacks(searchTask);
+            searchInput.setText("");
+            query = "";
+        }
+        loadHistory();
+    }
+
+    private void applySearchQuery() {
+        String newQuery = searchInput.getText().toString().trim();
+        if (newQuery.equals(query)) {
+            return;
+        }
+        query = newQuery;
+        if (query.isEmpty()) {
+            loadHistory();
+        } else {
+            search(query);
+        }
+    }
+
+    /**
+     * 검색 결과는 관련도 순 한 페이지만 표시 (페이지 추가 로드 없음)
+     */
+    private void search(String text) {
+        loadGeneration++;
+        isLoading = false;
+        updateSortButtons();
+
+        int generation = loadGeneration;
+        historyStore.searchAsync(text, SEARCH_LIMIT, items -> {
+            if (isFinishing() || isDestroyed() || generation != loadGeneration) {
+                return;
+            }
+            window.setAll(items);
+            adapter.notifyDataSetChanged();
+            layoutManager.scrollToPosition(0);
+            historyCount.setText("검색 결과 " + items.size() + "건");
+            emptyView.setText("검색 결과가 없습니다");
+            emptyView.setVisibility(items.isEmpty() ? View.VISIBLE : View.GONE);
+        });
+    }
+
+    private void loadHistory() {
+        updateSortButtons();
+
+        loadGeneration++;
+        isLoading = false;
+        window.clear();
+        adapter.notifyDataSetChanged();
+        loadNextPage();
+
+        historyStore.countAsync(count -> {
+            if (!isFinishing() && !isDestroyed()) {
+                historyCount.setText("저장된 분석 " + count + "건");
+            }
+        });
+    }
+
+    /**
+     * 마지막 항목 다음부터 한 페이지 조회 (인덱스 정렬 + LIMIT이므로 이력 수와 무관하게 빠름)
+     */
+    private void loadNextPage() {
+        if (isLoading || !window.hasMoreAfter()) {
+            return;
+        }
+        isLoading = true;
+
+        int generation = loadGeneration;
+        long startTime = SystemClock.elapsedRealtime();
+        historyStore.loadPageAsync(sort, window.last(), PAGE_SIZE, page -> {
+            if (isFinishing() || isDestroyed() || generation != loadGeneration) {
+                return;
+            }
+            isLoading = false;
+            window.append(page);
+            emptyView.setText("아직 저장된 분석이 없습니다");
+            emptyView.setVisibility(window.size() == 0 ? View.VISIBLE : View.GONE);
+            Log.d(TAG, "History page loaded in " + (SystemClock.elapsedRealtime() - startTime) + "ms");
+            // 빠르게 스크롤해 창을 벗어난 경우 이어서 요청
+            loadVisiblePages();
+        });
+    }
+
+    /**
+     * 창 앞쪽에서 버렸던 페이지를 다시 조회 (위로 스크롤할 때)
+     */
+    private void loadPreviousPage() {
+        if (isLoading || !window.hasMoreBefore()) {
+            return;
+        }
+        isLoading = true;
+
+        int generation = loadGeneration;
+        historyStore.loadPageBeforeAsync(sort, window.first(), PAGE_SIZE, page -> {
+            if (isFinishing() || isDestroyed() || generation != loadGeneration) {
+                return;
+            }
+            isLoading = false;
+            window.prepend(page);
+            loadVisiblePages();
+        });
+    }
+
+    private void loadVisiblePages() {
+        int firstVisible = layoutManager.findFirstVisibleItemPosition();
+        int lastVisible = layoutManager.findLastVisibleItemPosition();
+        if (lastVisible == RecyclerView.NO_POSITION) {
+            return;
+        }
+        if (window.needsAfter(lastVisible, PREFETCH_DISTANCE)) {
+            loadNextPage();
+        } else if (window.needsBefore(firstVisible, PREFETCH_DISTANCE)) {
+            loadPreviousPage();
+        }
+    }
+
+    private void updateSortButtons() {
+        // 검색 중에는 관련도 순이므로 정렬 버튼을 모두 비활성 표시
+        boolean byDate = query.isEmpty() && sort == HistorySort.DATE;
+        boolean byRisk = query.isEmpty() && sort == HistorySort.RISK_SCORE;
+        btnSortDate.setSelected(byDate);
+        btnSortRisk.setSelected(byRisk);
+        btnSortDate.setAlpha(byDate ? 1.0f : 0.6f);
+        btnSortRisk.setAlpha(byRisk ? 1.0f : 0.6f);
+    }
+
+    private void openReport(HistoryItem item) {
+        Log.d(TAG, "Opening saved analysis " + item.id);
+
+        Intent intent = new Intent(this, ReportActivity.class);
+        intent.putExtra("analysis_id", item.id);
+        startActivity(intent);
+
+        overridePendingTransition(android.R.anim.fade_in, android.R.anim.fade_out);
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        searchInput.removeCallbacks(searchTask);
+    }
+}
@@ -0,0 +1,107 @@
+package com.ebusiness.ebiz;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import com.ebusiness.ebiz.data.HistoryItem;
+import com.ebusiness.ebiz.data.HistoryWindow;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * 분석 이력 목록 어댑터
+ * HistoryWindow에 보관된 항목만 그리고, 창 밖(아직 불러오지 않았거나 버린 페이지)은 자리표시로 둔다.
+ * 창이 바뀐 범위만 notifyItemRange*로 반영하므로 페이지를 불러올 때 전체 목록을 비교하지 않는다.
+ */
+class HistoryAdapter extends RecyclerView.Adapter<HistoryAdapter.ViewHolder> implements HistoryWindow.Listener {
+
+    interface OnItemClickListener {
+        void onItemClick(HistoryItem item);
+    }
+
+    private final HistoryWindow window;
+    private final OnItemClickListener clickListener;
+    private final SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy.MM.dd HH:mm", Locale.KOREA);
+    private final Date date = new Date();
+
+    HistoryAdapter(HistoryWindow window, OnItemClickListener clickListener) {
+        this.window = window;
+        this.clickListener = clickListener;
+        window.setListener(this);
+    }
+
+    @Override
+    public int getItemCount() {
+        return window.size();
+    }
+
+    @Override
+    public void onChanged(int position, int count) {
+        notifyItemRangeChanged(position, count);
+    }
+
+    @Override
+    public void onInserted(int position, int count) {
+        notifyItemRangeInserted(position, count);
+    }
+
+    @Override
+    public void onRemoved(int position, int count) {
+        notifyItemRangeRemoved(position, count);
+    }
+
+    @NonNull
+    @Override
+    public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View itemView = LayoutInflater.from(parent.getContext()).inflate(R.layout.history_item, parent, false);
+        ViewHolder holder = new ViewHolder(itemView);
+
+        // 클릭 리스너는 뷰 생성 시 한 번만 등록
+        itemView.setOnClickListener(v -> {
+            int position = holder.getBindingAdapterPosition();
+            HistoryItem item = position != RecyclerView.NO_POSITION ? window.get(position) : null;
+            if (item != null) {
+                clickListener.onItemClick(item);
+            }
+        });
+        return holder;
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
+        HistoryItem item = window.get(position);
+        if (item == null) {
+            // 불러오는 중인 자리표시
+            holder.title.setText("");
+            holder.meta.setText("불러오는 중...");
+            holder.loss.setText("");
+            holder.score.setText("");
+            return;
+        }
+
+        date.setTime(item.createdAt);
+        holder.title.setText(item.title);
+        holder.meta.setText(dateFormat.format(date) + " · 예산 " + item.budget);
+        holder.loss.setText("예상 손실 ₩" + String.format(Locale.KOREA, "%,d", item.totalExpectedLoss));
+        holder.score.setText(String.valueOf((int) item.overallRiskScore));
+    }
+
+    static class ViewHolder extends RecyclerView.ViewHolder {
+        final TextView title;
+        final TextView meta;
+        final TextView loss;
+        final TextView score;
+
+        ViewHolder(View itemView) {
+            super(itemView);
+            title = itemView.findViewById(R.id.history_title);
+            meta = itemView.findViewById(R.id.history_meta);
+            loss = itemView.findViewById(R.id.history_loss);
+            score = itemView.findViewById(R.id.history_score);
+        }
+    }
+}
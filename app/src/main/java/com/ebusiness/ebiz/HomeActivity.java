@@ -1,15 +1,22 @@
 package com.ebusiness.ebiz;
 
 import android.content.Intent;
+import android.os.Build;
 import android.os.Bundle;
+import android.os.SystemClock;
+import android.os.Trace;
 import android.util.Log;
+import android.view.View;
+import android.view.ViewTreeObserver;
 import android.widget.Button;
 import android.widget.ImageView;
-import android.widget.LinearLayout;
 import android.widget.TextView;
 import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
 import androidx.cardview.widget.CardView;
+import com.ebusiness.ebiz.data.AnalysisHistoryStore;
+import com.ebusiness.ebiz.data.HistorySummary;
+import com.ebusiness.ebiz.metrics.ActivityMetrics;
 
 /**
  * Risk Manager 홈 화면 Activity
@@ -18,37 +25,72 @@ import androidx.cardview.widget.CardView;
 public class HomeActivity extends AppCompatActivity {
     private static final String TAG = "HomeActivity";
 
+    // 시작 성능 추적 (systrace/Perfetto, Macrobenchmark)
+    private static final String TRACE_ON_CREATE = "HomeActivity.onCreate";
+    private static final String TRACE_INFLATE = "HomeActivity.inflate";
+    private static final String TRACE_FIRST_FRAME = "HomeActivity.firstFrame";
+    private static final int TRACE_FIRST_FRAME_COOKIE = 1;
+
     // UI Components - CSS Design
     private TextView logoEmoji;
     private TextView mainTitle;
     private TextView subtitle;
 
-    // Feature Cards (LinearLayout in CSS design)
-    private LinearLayout featureCard1;
-    private LinearLayout featureCard2;
-    private LinearLayout featureCard3;
+    // Feature Cards (카드 배경 View - 내용은 같은 ConstraintLayout에 겹쳐 배치)
+    private View featureCard1;
+    private View featureCard2;
+    private View featureCard3;
 
     // CTA Buttons
     private Button btnNewProject;
     private Button btnViewHistory;
 
-    // Info Banner (LinearLayout in CSS design)
-    private LinearLayout infoBanner;
+    // Info Banner (배너 배경 View)
+    private View infoBanner;
+
+    // 지연 초기화 상태
+    private long createStartedAt;
+    private boolean deferredInitDone = false;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
-        super.onCreate(savedInstanceState);
-        setContentView(R.layout.activity_home);
-
-        // UI 초기화
-        initializeViews();
-        setupClickListeners();
+        createStartedAt = SystemClock.elapsedRealtime();
+        beginFirstFrameTrace();
+        Trace.beginSection(TRACE_ON_CREATE);
+        try {
+            super.onCreate(savedInstanceState);
+            ActivityMetrics.trackFirstFrame(this);
+            inflateContentView();
+
+            // 첫 프레임에 필요한 Hero 영역과 주 버튼만 초기화
+            initializeViews();
+            setupPrimaryClickListeners();
+
+            // 기능 카드, 정보 배너, 데이터 로딩은 첫 프레임이 그려진 뒤 초기화
+            runAfterFirstFrame(this::onFirstFrameDrawn);
+        } finally {
+            Trace.endSection();
+        }
 
         Log.d(TAG, "Risk Manager HomeActivity created successfully");
     }
 
     /**
-     * UI 컴포넌트 초기화
+     * 레이아웃 inflate 시간 측정 (평면화한 레이아웃의 효과 확인용)
+     */
+    private void inflateContentView() {
+        long startedAt = SystemClock.elapsedRealtimeNanos();
+        Trace.beginSection(TRACE_INFLATE);
+        try {
+            setContentView(R.layout.activity_home);
+        } finally {
+            Trace.endSection();
+        }
+        Log.d(TAG, "Layout inflated in " + (SystemClock.elapsedRealtimeNanos() - startedAt) / 1000 + "us");
+    }
+
+    /**
+     * UI 컴포넌트 초기화 (첫 프레임 필수 요소)
      */
     private void initializeViews() {
         // Hero Section - CSS Design
@@ -56,25 +98,110 @@ public class HomeActivity extends AppCompatActivity {
         mainTitle = findViewById(R.id.main_title);
         subtitle = findViewById(R.id.subtitle);
 
-        // Feature Cards - LinearLayout in CSS design
-        featureCard1 = findViewById(R.id.feature_card_1);
-        featureCard2 = findViewById(R.id.feature_card_2);
-        featureCard3 = findViewById(R.id.feature_card_3);
-
         // CTA Buttons
         btnNewProject = findViewById(R.id.btn_new_project);
         btnViewHistory = findViewById(R.id.btn_view_history);
+    }
 
-        // Info Banner - LinearLayout in CSS design
+    /**
+     * 첫 프레임 이후 초기화 - 스크롤 아래쪽 기능 카드와 정보 배너
+     */
+    private void initializeSecondaryViews() {
+        // Feature Cards - 카드 배경 View
+        featureCard1 = findViewById(R.id.feature_card_1);
+        featureCard2 = findViewById(R.id.feature_card_2);
+        featureCard3 = findViewById(R.id.feature_card_3);
+
+        // Info Banner - 배너 배경 View
         infoBanner = findViewById(R.id.info_banner);
 
         Log.d(TAG, "All CSS-based UI components initialized");
     }
 
     /**
-     * 클릭 리스너 설정
+     * 첫 프레임이 화면에 그려진 직후 한 번 실행
+     * (OnDrawListener는 그리기 도중 제거할 수 없으므로 다음 메시지로 넘겨 실행)
      */
-    private void setupClickListeners() {
+    private void runAfterFirstFrame(Runnable action) {
+        View content = findViewById(android.R.id.content);
+        content.getViewTreeObserver().addOnDrawListener(new ViewTreeObserver.OnDrawListener() {
+            private boolean posted = false;
+
+            @Override
+            public void onDraw() {
+                if (posted) {
+                    return;
+                }
+                posted = true;
+                content.post(() -> {
+                    content.getViewTreeObserver().removeOnDrawListener(this);
+                    action.run();
+                });
+            }
+        });
+    }
+
+    private void onFirstFrameDrawn() {
+        if (isFinishing() || isDestroyed()) {
+            return;
+        }
+        endFirstFrameTrace();
+        Log.d(TAG, "Time to first frame: " + (SystemClock.elapsedRealtime() - createStartedAt) + "ms");
+
+        initializeSecondaryViews();
+        setupSecondaryClickListeners();
+        deferredInitDone = true;
+        refreshHomeData();
+
+        // 저장된 분석 재계산 작업 등록 (충전 중/유휴 상태에서만 실행)
+        ReanalysisJobService.schedule(this);
+
+        // 모든 요소가 준비되었음을 알림 (Macrobenchmark의 timeToFullDisplay)
+        reportFullyDrawn();
+    }
+
+    private void beginFirstFrameTrace() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            Trace.beginAsyncSection(TRACE_FIRST_FRAME, TRACE_FIRST_FRAME_COOKIE);
+        }
+    }
+
+    private void endFirstFrameTrace() {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            Trace.endAsyncSection(TRACE_FIRST_FRAME, TRACE_FIRST_FRAME_COOKIE);
+        }
+    }
+
+    /**
+     * 첫 프레임에서 바로 사용할 수 있어야 하는 주 버튼 클릭 리스너
+     */
+    private void setupPrimaryClickListeners() {
+        // Primary Button: 새 프로젝트 분석하기
+        btnNewProject.setOnClickListener(v -> {
+            Log.d(TAG, "New project button clicked");
+            Toast.makeText(this, "새 프로젝트 분석을 시작합니다", Toast.LENGTH_SHORT).show();
+            onNewProjectClicked();
+        });
+
+        // Secondary Button: 분석 이력 보기
+        btnViewHistory.setOnClickListener(v -> {
+            Log.d(TAG, "View history button clicked");
+            Toast.makeText(this, "분석 이력을 확인합니다", Toast.LENGTH_SHORT).show();
+            onViewHistoryClicked();
+        });
+
+        // Logo Emoji (CSS Design)
+        logoEmoji.setOnClickListener(v -> {
+            Log.d(TAG, "Logo emoji clicked");
+            Toast.makeText(this, "📊 Risk Manager v1.0", Toast.LENGTH_SHORT).show();
+            showAppInfo();
+        });
+    }
+
+    /**
+     * 첫 프레임 이후 설정하는 클릭 리스너
+     */
+    private void setupSecondaryClickListeners() {
         // Feature Card 1: 최적 2개의 모델 제공
         featureCard1.setOnClickListener(v -> {
             Log.d(TAG, "Feature card 1 clicked: 최적 2개의 모델 제공");
@@ -96,33 +223,12 @@ public class HomeActivity extends AppCompatActivity {
             onFeatureCard3Clicked();
         });
 
-        // Primary Button: 새 프로젝트 분석하기
-        btnNewProject.setOnClickListener(v -> {
-            Log.d(TAG, "New project button clicked");
-            Toast.makeText(this, "새 프로젝트 분석을 시작합니다", Toast.LENGTH_SHORT).show();
-            onNewProjectClicked();
-        });
-
-        // Secondary Button: 분석 이력 보기
-        btnViewHistory.setOnClickListener(v -> {
-            Log.d(TAG, "View history button clicked");
-            Toast.makeText(this, "분석 이력을 확인합니다", Toast.LENGTH_SHORT).show();
-            onViewHistoryClicked();
-        });
-
         // Info Banner
         infoBanner.setOnClickListener(v -> {
             Log.d(TAG, "Info banner clicked");
             Toast.makeText(this, "프로젝트 리스크에 대한 통계 정보", Toast.LENGTH_LONG).show();
             onInfoBannerClicked();
         });
-
-        // Logo Emoji (CSS Design)
-        logoEmoji.setOnClickListener(v -> {
-            Log.d(TAG, "Logo emoji clicked");
-            Toast.makeText(this, "📊 Risk Manager v1.0", Toast.LENGTH_SHORT).show();
-            showAppInfo();
-        });
     }
 
     /**
@@ -157,11 +263,8 @@ public class HomeActivity extends AppCompatActivity {
     private void onFeatureCard3Clicked() {
         Log.d(TAG, "Navigating to reports and history");
 
-        // TODO: 보고서 및 이력 화면으로 이동
-        // Intent intent = new Intent(this, ReportsActivity.class);
-        // startActivity(intent);
-
-        showFeatureComingSoon("보고서 & 이력");
+        // 보고서 및 이력 화면으로 이동
+        openHistory();
     }
 
     /**
@@ -184,11 +287,16 @@ public class HomeActivity extends AppCompatActivity {
     private void onViewHistoryClicked() {
         Log.d(TAG, "Opening analysis history");
 
-        // TODO: 분석 이력 화면으로 이동
-        // Intent intent = new Intent(this, AnalysisHistoryActivity.class);
-        // startActivity(intent);
+        // 분석 이력 화면으로 이동
+        openHistory();
+    }
+
+    private void openHistory() {
+        Intent intent = new Intent(this, HistoryActivity.class);
+        startActivity(intent);
 
-        Toast.makeText(this, "분석 이력 기능 - 준비 중", Toast.LENGTH_LONG).show();
+        // 부드러운 전환 애니메이션
+        overridePendingTransition(android.R.anim.fade_in, android.R.anim.fade_out);
     }
 
     /**
@@ -241,18 +349,32 @@ public class HomeActivity extends AppCompatActivity {
         super.onResume();
         Log.d(TAG, "HomeActivity resumed");
 
-        // 화면 활성화 시 추가 작업이 필요한 경우 여기에 구현
-        refreshHomeData();
+        // 첫 실행 시에는 첫 프레임 이후 onFirstFrameDrawn에서 새로고침
+        if (deferredInitDone) {
+            refreshHomeData();
+        }
     }
 
     /**
-     * 홈 화면 데이터 새로고침
+     * 홈 화면 데이터 새로고침 (DB 조회는 저장소의 백그라운드 스레드에서 수행)
+     * 점수는 ReanalysisJobService가 미리 다시 계산해 두므로 여기서는 조회만 한다
      */
     private void refreshHomeData() {
         Log.d(TAG, "Refreshing home screen data");
 
-        // TODO: 실시간 데이터 업데이트가 필요한 경우 구현
-        // 예: 최근 분석 결과, 알림 등
+        AnalysisHistoryStore.getInstance(this).summaryAsync(summary -> {
+            if (isFinishing() || isDestroyed()) {
+                return;
+            }
+            btnViewHistory.setText(historyButtonText(summary));
+        });
+    }
+
+    private static String historyButtonText(HistorySummary summary) {
+        if (summary.count <= 0) {
+            return "분석 이력 보기";
+        }
+        return "분석 이력 보기 (" + summary.count + "건 · 평균 위험도 " + Math.round(summary.averageRiskScore) + ")";
     }
 
     @Override
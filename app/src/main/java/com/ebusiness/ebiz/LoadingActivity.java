@@ -2,10 +2,17 @@ package com.ebusiness.ebiz;
 
 import android.content.Intent;
 import android.os.Bundle;
-import android.os.Handler;
+import android.util.Log;
 import android.widget.ImageButton;
 import android.widget.TextView;
+import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
+import com.ebusiness.ebiz.metrics.ActivityMetrics;
+import com.ebusiness.ebiz.metrics.Metrics;
+import com.ebusiness.ebiz.session.AnalysisSession;
+import com.ebusiness.ebiz.session.QuestionPrefetcher;
+import com.ebusiness.ebiz.session.SessionRepository;
+import java.util.concurrent.Future;
 
 /**
  * 분석 중 로딩 화면
@@ -18,21 +25,33 @@ public class LoadingActivity extends AppCompatActivity {
     private ImageButton btnBack;
     private TextView projectNameDisplay; // some_id에 해당하는 TextView
 
-    // Loading simulation
-    private Handler loadingHandler;
-    private Runnable loadingRunnable;
-    private static final int LOADING_DURATION_MIN = 3000; // 3초
-    private static final int LOADING_DURATION_MAX = 5000; // 5초
+    // 분석 작업 (완료되는 즉시 다음 화면으로 이동)
+    private Future<?> analysisTask;
+    private QuestionPrefetcher.Pending pending; // 입력 화면에서 미리 시작한 요청
+    private QuestionPrefetcher.Request currentRequest;
+    private volatile boolean cancelled = false;
+    private AnalysisSession session;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        ActivityMetrics.trackFirstFrame(this);
         setContentView(R.layout.activity_loading);
 
         initializeViews();
         setupClickListeners();
+
+        session = SessionRepository.getInstance().get(
+                getIntent().getStringExtra(SessionRepository.EXTRA_SESSION_ID));
+        if (session == null) {
+            // 프로세스 재시작 등으로 세션이 사라진 경우 입력 화면으로 돌아감
+            Toast.makeText(this, "프로젝트 정보를 다시 입력해주세요", Toast.LENGTH_SHORT).show();
+            finish();
+            return;
+        }
+
         displayProjectInfo();
-        startLoadingSimulation();
+        startAnalysis();
     }
 
     private void initializeViews() {
@@ -44,17 +63,13 @@ public class LoadingActivity extends AppCompatActivity {
         // 뒤로 가기 버튼
         btnBack.setOnClickListener(v -> {
             // 로딩 중단하고 이전 화면으로 돌아가기
-            if (loadingHandler != null && loadingRunnable != null) {
-                loadingHandler.removeCallbacks(loadingRunnable);
-            }
+            cancelAnalysis();
             finish();
         });
     }
 
     private void displayProjectInfo() {
-        // Intent에서 프로젝트 정보 가져오기
-        Intent intent = getIntent();
-        String projectTitle = intent.getStringExtra("project_title");
+        String projectTitle = session.getTitle();
 
         // android:id="@+id/some_id"에 프로젝트명 표시
         if (projectTitle != null && !projectTitle.isEmpty()) {
@@ -64,30 +79,84 @@ public class LoadingActivity extends AppCompatActivity {
         }
     }
 
-    private void startLoadingSimulation() {
-        // 3-5초 후 다음 화면으로 이동 (실제로는 API 호출 완료 시)
-        int loadingDuration = LOADING_DURATION_MIN +
-            (int) (Math.random() * (LOADING_DURATION_MAX - LOADING_DURATION_MIN));
+    private void startAnalysis() {
+        // 입력 화면에서 같은 내용으로 미리 요청해 둔 질문이 있으면 사용
+        pending = QuestionLoader.prefetcher(this)
+                .take(session.getTitle(), session.getDescription(), session.getBudgetText());
+        if (pending != null && pending.isDone()) {
+            QuestionPrefetcher.Result result = pending.await();
+            pending = null;
+            if (result != null) {
+                Metrics.counter(Metrics.QUESTIONS_PREFETCH_HITS).increment();
+                Log.d(TAG, "Using prefetched questions");
+                onLoadingComplete(result);
+                return;
+            }
+        }
 
-        loadingHandler = new Handler();
-        loadingRunnable = new Runnable() {
-            @Override
-            public void run() {
-                onLoadingComplete();
+        // 선행 요청이 진행 중이면 그 결과를 기다리고, 없거나 실패했으면 새로 생성
+        QuestionPrefetcher.Pending inFlight = pending;
+        QuestionPrefetcher.Request request = new QuestionPrefetcher.Request(
+                session.getTitle(), session.getDescription(), session.getBudgetText());
+        currentRequest = request;
+        Metrics.counter(inFlight != null
+                ? Metrics.QUESTIONS_PREFETCH_IN_FLIGHT : Metrics.QUESTIONS_PREFETCH_MISSES).increment();
+
+        // 질문 생성은 백그라운드에서 수행하고, 끝나는 즉시 다음 화면으로 이동
+        analysisTask = AppExecutors.background().submit(() -> {
+            try {
+                QuestionPrefetcher.Result result = inFlight != null ? inFlight.await() : null;
+                if (result == null && !request.isCancelled()) {
+                    result = QuestionLoader.create(this).load(request);
+                }
+                QuestionPrefetcher.Result loaded = result;
+                if (loaded != null) {
+                    AppExecutors.runOnMain(() -> onLoadingComplete(loaded));
+                }
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Question generation failed", e);
+                AppExecutors.runOnMain(this::onLoadingFailed);
             }
-        };
+        });
+    }
+
+    private void cancelAnalysis() {
+        cancelled = true;
+        if (pending != null) {
+            pending.cancel();
+            pending = null;
+        }
+        if (currentRequest != null) {
+            currentRequest.cancel();
+        }
+        if (analysisTask != null) {
+            analysisTask.cancel(true);
+            analysisTask = null;
+        }
+    }
 
-        loadingHandler.postDelayed(loadingRunnable, loadingDuration);
+    private void onLoadingFailed() {
+        if (cancelled || isFinishing() || isDestroyed()) {
+            return;
+        }
+        Toast.makeText(this, "분석 중 오류가 발생했습니다. 다시 시도해주세요", Toast.LENGTH_SHORT).show();
+        finish();
     }
 
-    private void onLoadingComplete() {
-        // AI 질문 화면으로 이동
-        Intent intent = new Intent(this, QuestionsActivity.class);
+    private void onLoadingComplete(QuestionPrefetcher.Result result) {
+        // 뒤로 가기 등으로 취소된 경우 이동하지 않음
+        if (cancelled || isFinishing() || isDestroyed()) {
+            return;
+        }
 
-        // 프로젝트 정보 전달
-        intent.putExtra("project_title", getIntent().getStringExtra("project_title"));
-        intent.putExtra("project_description", getIntent().getStringExtra("project_description"));
-        intent.putExtra("project_budget", getIntent().getStringExtra("project_budget"));
+        if (result.remoteSessionId != null) {
+            session.setRemoteSessionId(result.remoteSessionId);
+        }
+        session.setQuestions(result.questions);
+
+        // AI 질문 화면으로 이동 (질문은 세션에 보관)
+        Intent intent = new Intent(this, QuestionsActivity.class);
+        intent.putExtra(SessionRepository.EXTRA_SESSION_ID, session.getId());
 
         startActivity(intent);
 
@@ -100,9 +169,7 @@ public class LoadingActivity extends AppCompatActivity {
     @Override
     protected void onDestroy() {
         super.onDestroy();
-        // 핸들러 정리
-        if (loadingHandler != null && loadingRunnable != null) {
-            loadingHandler.removeCallbacks(loadingRunnable);
-        }
+        // 진행 중인 분석 작업 취소
+        cancelAnalysis();
     }
 }
@@ -7,6 +7,7 @@ import android.widget.Button;
 import android.widget.TextView;
 import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
+import com.ebusiness.ebiz.metrics.ActivityMetrics;
 
 /**
  * Risk Manager 메인 액티비티 - 앱 진입점
@@ -23,6 +24,7 @@ public class MainActivity extends AppCompatActivity {
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        ActivityMetrics.trackFirstFrame(this);
         setContentView(R.layout.activity_main);
 
         // UI 컴포넌트 초기화
@@ -52,6 +54,11 @@ public class MainActivity extends AppCompatActivity {
 
         // 버전 정보 클릭 시 상세 정보 표시
         versionInfo.setOnClickListener(v -> showVersionDetails());
+
+        // 상태 텍스트 클릭 시 성능 지표 화면 (디버그 빌드 전용, 화면은 debug 매니페스트에만 등록)
+        if (BuildConfig.DEBUG) {
+            statusTextView.setOnClickListener(v -> openMetrics());
+        }
     }
 
     /**
@@ -68,6 +75,14 @@ public class MainActivity extends AppCompatActivity {
         overridePendingTransition(android.R.anim.fade_in, android.R.anim.fade_out);
     }
 
+    /**
+     * 성능 지표 디버그 화면 열기
+     */
+    private void openMetrics() {
+        Log.d(TAG, "Opening MetricsActivity");
+        startActivity(new Intent(this, MetricsActivity.class));
+    }
+
     /**
      * 앱 정보 표시
      */
@@ -0,0 +1,57 @@
+package com.ebusiness.ebiz;
+
+import android.os.Bundle;
+import android.util.Log;
+import android.widget.Button;
+import android.widget.ImageButton;
+import android.widget.TextView;
+import android.widget.Toast;
+import androidx.appcompat.app.AppCompatActivity;
+import com.ebusiness.ebiz.metrics.ActivityMetrics;
+import com.ebusiness.ebiz.metrics.Metrics;
+import com.ebusiness.ebiz.metrics.MetricsDumper;
+import com.ebusiness.ebiz.metrics.MetricsSnapshot;
+
+/**
+ * 성능 지표 디버그 화면
+ * 화면 첫 프레임, 분석, 네트워크, 렌더링 시간 등 수집된 지표를 표시하고 파일로 덤프한다
+ * (디버그 빌드에서 MainActivity의 상태 텍스트를 눌러 진입, src/debug 매니페스트에만 등록)
+ */
+public class MetricsActivity extends AppCompatActivity {
+    private static final String TAG = "MetricsActivity";
+
+    private TextView metricsText;
+    private MetricsDumper dumper;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        ActivityMetrics.trackFirstFrame(this);
+        setContentView(R.layout.activity_metrics);
+
+        dumper = MetricsDumper.start(this);
+        metricsText = findViewById(R.id.metrics_text);
+        ImageButton btnBack = findViewById(R.id.btn_back);
+        Button btnRefresh = findViewById(R.id.btn_refresh);
+        Button btnDump = findViewById(R.id.btn_dump);
+
+        btnBack.setOnClickListener(v -> finish());
+        btnRefresh.setOnClickListener(v -> showMetrics());
+        btnDump.setOnClickListener(v -> {
+            dumper.dumpNow();
+            Toast.makeText(this, "지표를 파일로 저장합니다\n" + dumper.getFile().getPath(), Toast.LENGTH_SHORT).show();
+        });
+    }
+
+    @Override
+    protected void onResume() {
+        super.onResume();
+        showMetrics();
+    }
+
+    private void showMetrics() {
+        MetricsSnapshot snapshot = Metrics.registry().snapshot();
+        metricsText.setText(snapshot.isEmpty() ? "아직 수집된 지표가 없습니다" : snapshot.toText());
+        Log.d(TAG, "Metrics displayed");
+    }
+}
@@ -10,6 +10,13 @@ import android.widget.EditText;
 import android.widget.ImageButton;
 import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
+import com.ebusiness.ebiz.data.Draft;
+import com.ebusiness.ebiz.data.DraftStore;
+import com.ebusiness.ebiz.form.FormValidator;
+import com.ebusiness.ebiz.metrics.ActivityMetrics;
+import com.ebusiness.ebiz.session.AnalysisSession;
+import com.ebusiness.ebiz.session.QuestionPrefetcher;
+import com.ebusiness.ebiz.session.SessionRepository;
 
 /**
  * 새 프로젝트 입력 화면
@@ -18,6 +25,22 @@ import androidx.appcompat.app.AppCompatActivity;
 public class NewProjectActivity extends AppCompatActivity {
     private static final String TAG = "NewProjectActivity";
 
+    // 검증 대상 필드
+    private static final int FIELD_TITLE = 0;
+    private static final int FIELD_DESCRIPTION = 1;
+    private static final int FIELD_BUDGET = 2;
+
+    // 제출 버튼 상태 갱신 지연 (연속 입력 중에는 마지막 변경만 반영)
+    private static final long VALIDATION_DEBOUNCE_MS = 150;
+
+    // 입력이 멈춘 뒤 임시 저장본을 만드는 지연 (디스크 기록은 DraftStore가 다시 병합)
+    private static final long DRAFT_DEBOUNCE_MS = 300;
+
+    // 제목/설명 입력이 멈춘 뒤 질문 생성을 미리 시작하는 지연
+    private static final long PREFETCH_DEBOUNCE_MS = 800;
+
+    private static final String STATE_BUDGET_UNKNOWN = "budget_unknown";
+
     // UI Components
     private ImageButton btnBack;
     private EditText projectTitle;
@@ -25,21 +48,58 @@ public class NewProjectActivity extends AppCompatActivity {
     private EditText container;
     private Button input; // 미정 버튼 (가장 오른쪽 버튼)
     private Button button;
+    private Button btnImportPortfolio;
 
     // Form validation
     private boolean isBudgetUnknown = false;
+    private final FormValidator validator = new FormValidator(3);
+    private final Runnable updateSubmitState = this::checkFormValidity;
+
+    // 임시 저장
+    private DraftStore draftStore;
+    private final Runnable saveDraftTask = this::saveDraft;
+
+    // 질문 선행 요청
+    private QuestionPrefetcher prefetcher;
+    private final Runnable prefetchTask = this::prefetchQuestions;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        ActivityMetrics.trackFirstFrame(this);
         setContentView(R.layout.activity_new_project);
 
+        draftStore = DraftStore.getInstance(this);
+        prefetcher = QuestionLoader.prefetcher(this);
+
         initializeViews();
         setupClickListeners();
         setupTextWatchers();
+
+        if (savedInstanceState != null) {
+            // 입력란 내용은 EditText가 자체 복원하므로 미정 상태만 복원
+            setBudgetUnknown(savedInstanceState.getBoolean(STATE_BUDGET_UNKNOWN));
+        } else {
+            restoreDraft();
+        }
         checkFormValidity();
     }
 
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        outState.putBoolean(STATE_BUDGET_UNKNOWN, isBudgetUnknown);
+    }
+
+    @Override
+    protected void onPause() {
+        super.onPause();
+        // 백그라운드로 가면 프로세스가 종료될 수 있으므로 즉시 기록
+        button.removeCallbacks(saveDraftTask);
+        saveDraft();
+        draftStore.flushNow();
+    }
+
     private void initializeViews() {
         btnBack = findViewById(R.id.btn_back);
         projectTitle = findViewById(R.id.project_title);
@@ -47,6 +107,7 @@ public class NewProjectActivity extends AppCompatActivity {
         container = findViewById(R.id.container);
         input = findViewById(R.id.input); // 미정 버튼
         button = findViewById(R.id.button);
+        btnImportPortfolio = findViewById(R.id.btn_import_portfolio);
     }
 
     private void setupClickListeners() {
@@ -55,19 +116,15 @@ public class NewProjectActivity extends AppCompatActivity {
 
         // 예산 미정 버튼 (input)
         input.setOnClickListener(v -> {
-            isBudgetUnknown = !isBudgetUnknown;
-
+            setBudgetUnknown(!isBudgetUnknown);
             if (isBudgetUnknown) {
-                input.setSelected(true);
-                container.setText("");
-                container.setEnabled(false);
                 Toast.makeText(this, "예산이 미정으로 설정되었습니다", Toast.LENGTH_SHORT).show();
-            } else {
-                input.setSelected(false);
-                container.setEnabled(true);
             }
 
+            // 버튼을 직접 누른 경우에는 지연 없이 반영
             checkFormValidity();
+            scheduleDraftSave();
+            schedulePrefetch();
         });
 
         // 제출 버튼
@@ -76,48 +133,131 @@ public class NewProjectActivity extends AppCompatActivity {
                 submitProjectInfo();
             }
         });
+
+        // CSV/JSON 파일로 여러 프로젝트 일괄 분석
+        btnImportPortfolio.setOnClickListener(v -> startActivity(new Intent(this, PortfolioActivity.class)));
+    }
+
+    private void setBudgetUnknown(boolean unknown) {
+        isBudgetUnknown = unknown;
+        input.setSelected(unknown);
+        if (unknown) {
+            container.setText("");
+        }
+        container.setEnabled(!unknown);
+        validator.setRequired(FIELD_BUDGET, !unknown);
     }
 
     private void setupTextWatchers() {
-        TextWatcher formWatcher = new TextWatcher() {
+        projectTitle.addTextChangedListener(new FieldWatcher(FIELD_TITLE));
+        textarea.addTextChangedListener(new FieldWatcher(FIELD_DESCRIPTION));
+        container.addTextChangedListener(new FieldWatcher(FIELD_BUDGET) {
             @Override
-            public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+            public void afterTextChanged(Editable s) {
+                if (isBudgetUnknown && FormValidator.hasContent(s)) {
+                    isBudgetUnknown = false;
+                    input.setSelected(false);
+                    validator.setRequired(FIELD_BUDGET, true);
+                }
+                super.afterTextChanged(s);
+            }
+        });
+    }
 
-            @Override
-            public void onTextChanged(CharSequence s, int start, int before, int count) {}
+    /**
+     * 필드 하나의 입력 여부만 갱신하고, 폼 유효 여부가 바뀐 경우에만 버튼 갱신을 예약
+     */
+    private class FieldWatcher implements TextWatcher {
+        private final int field;
 
-            @Override
-            public void afterTextChanged(Editable s) {
-                checkFormValidity();
+        FieldWatcher(int field) {
+            this.field = field;
+        }
+
+        @Override
+        public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+
+        @Override
+        public void onTextChanged(CharSequence s, int start, int before, int count) {}
+
+        @Override
+        public void afterTextChanged(Editable s) {
+            if (validator.update(field, s)) {
+                scheduleValidation();
             }
-        };
+            scheduleDraftSave();
+            schedulePrefetch();
+        }
+    }
 
-        projectTitle.addTextChangedListener(formWatcher);
-        textarea.addTextChangedListener(formWatcher);
-        container.addTextChangedListener(new TextWatcher() {
-            @Override
-            public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+    private void scheduleValidation() {
+        button.removeCallbacks(updateSubmitState);
+        button.postDelayed(updateSubmitState, VALIDATION_DEBOUNCE_MS);
+    }
 
-            @Override
-            public void onTextChanged(CharSequence s, int start, int before, int count) {}
+    private void scheduleDraftSave() {
+        button.removeCallbacks(saveDraftTask);
+        button.postDelayed(saveDraftTask, DRAFT_DEBOUNCE_MS);
+    }
 
-            @Override
-            public void afterTextChanged(Editable s) {
-                if (!s.toString().trim().isEmpty() && isBudgetUnknown) {
-                    isBudgetUnknown = false;
-                    input.setSelected(false);
-                }
-                checkFormValidity();
+    private void schedulePrefetch() {
+        button.removeCallbacks(prefetchTask);
+        button.postDelayed(prefetchTask, PREFETCH_DEBOUNCE_MS);
+    }
+
+    /**
+     * 제목과 설명이 있으면 현재 입력으로 질문 생성을 미리 시작
+     * (같은 입력이면 진행 중인 요청을 재사용하고, 바뀌었으면 이전 요청은 취소됨)
+     */
+    private void prefetchQuestions() {
+        if (validator.isFilled(FIELD_TITLE) && validator.isFilled(FIELD_DESCRIPTION)) {
+            prefetcher.prefetch(projectTitle.getText().toString(), textarea.getText().toString(), budgetText());
+        } else {
+            prefetcher.cancel();
+        }
+    }
+
+    /**
+     * 세션에 저장되는 예산 문자열 ("3000만원", "미정")
+     */
+    private String budgetText() {
+        return isBudgetUnknown ? "미정" : container.getText().toString().trim() + "만원";
+    }
+
+    private void saveDraft() {
+        Draft draft = new Draft();
+        draft.title = projectTitle.getText().toString();
+        draft.description = textarea.getText().toString();
+        draft.budget = container.getText().toString();
+        draft.budgetUnknown = isBudgetUnknown;
+        draftStore.save(DraftStore.KEY_PROJECT, draft);
+    }
+
+    /**
+     * 이전에 작성하던 내용이 있으면 복원
+     */
+    private void restoreDraft() {
+        draftStore.load(DraftStore.KEY_PROJECT, draft -> {
+            if (draft == null || isFinishing() || isDestroyed()) {
+                return;
+            }
+            // 복원 전에 이미 입력을 시작했다면 덮어쓰지 않음
+            if (validator.isFilled(FIELD_TITLE) || validator.isFilled(FIELD_DESCRIPTION)) {
+                return;
             }
+            projectTitle.setText(draft.title);
+            textarea.setText(draft.description);
+            if (draft.budgetUnknown) {
+                setBudgetUnknown(true);
+            } else {
+                container.setText(draft.budget);
+            }
+            checkFormValidity();
         });
     }
 
     private void checkFormValidity() {
-        boolean titleFilled = !projectTitle.getText().toString().trim().isEmpty();
-        boolean descriptionFilled = !textarea.getText().toString().trim().isEmpty();
-        boolean budgetFilled = !container.getText().toString().trim().isEmpty() || isBudgetUnknown;
-
-        boolean isFormValid = titleFilled && descriptionFilled && budgetFilled;
+        boolean isFormValid = validator.isValid();
 
         button.setEnabled(isFormValid);
 
@@ -130,41 +270,49 @@ public class NewProjectActivity extends AppCompatActivity {
     }
 
     private boolean validateForm() {
-        String title = projectTitle.getText().toString().trim();
-        String description = textarea.getText().toString().trim();
-        String budget = container.getText().toString().trim();
-
-        if (title.isEmpty()) {
-            projectTitle.setError("프로젝트 제목을 입력해주세요");
-            projectTitle.requestFocus();
-            return false;
-        }
-
-        if (description.isEmpty()) {
-            textarea.setError("프로젝트 설명을 입력해주세요");
-            textarea.requestFocus();
-            return false;
+        switch (validator.firstMissing()) {
+            case FIELD_TITLE:
+                projectTitle.setError("프로젝트 제목을 입력해주세요");
+                projectTitle.requestFocus();
+                return false;
+            case FIELD_DESCRIPTION:
+                textarea.setError("프로젝트 설명을 입력해주세요");
+                textarea.requestFocus();
+                return false;
+            case FIELD_BUDGET:
+                container.setError("예산을 입력하거나 미정을 선택해주세요");
+                container.requestFocus();
+                return false;
+            default:
+                return true;
         }
+    }
 
-        if (budget.isEmpty() && !isBudgetUnknown) {
-            container.setError("예산을 입력하거나 미정을 선택해주세요");
-            container.requestFocus();
-            return false;
+    @Override
+    protected void onDestroy() {
+        button.removeCallbacks(updateSubmitState);
+        button.removeCallbacks(saveDraftTask);
+        button.removeCallbacks(prefetchTask);
+        // 분석을 시작하지 않고 화면을 떠나면 미리 받은 질문은 쓰이지 않음
+        if (isFinishing()) {
+            prefetcher.cancel();
         }
-
-        return true;
+        super.onDestroy();
     }
 
     private void submitProjectInfo() {
         String title = projectTitle.getText().toString().trim();
         String description = textarea.getText().toString().trim();
-        String budget = isBudgetUnknown ? "미정" : container.getText().toString().trim() + "만원";
+        String budget = budgetText();
+
+        // 아직 예약만 된 선행 요청은 지금 입력으로 바로 시작 (LoadingActivity가 이어받음)
+        button.removeCallbacks(prefetchTask);
+        prefetcher.prefetch(title, description, budget);
 
-        // 프로젝트 정보를 LoadingActivity로 전달
+        // 프로젝트 정보는 세션에 보관하고 LoadingActivity에는 세션 ID만 전달
+        AnalysisSession session = SessionRepository.getInstance().create(title, description, budget);
         Intent intent = new Intent(this, LoadingActivity.class);
-        intent.putExtra("project_title", title);
-        intent.putExtra("project_description", description);
-        intent.putExtra("project_budget", budget);
+        intent.putExtra(SessionRepository.EXTRA_SESSION_ID, session.getId());
 
         Toast.makeText(this, "리스크 분석을 시작합니다", Toast.LENGTH_SHORT).show();
 
@@ -0,0 +1,218 @@
+package com.ebusiness.ebiz;
+
+import android.net.Uri;
+import android.os.Bundle;
+import android.util.Log;
+import android.view.View;
+import android.widget.Button;
+import android.widget.ImageButton;
+import android.widget.TextView;
+import android.widget.Toast;
+import androidx.activity.result.ActivityResultLauncher;
+import androidx.activity.result.contract.ActivityResultContracts;
+import androidx.appcompat.app.AppCompatActivity;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import com.ebusiness.ebiz.analysis.RiskScorer;
+import com.ebusiness.ebiz.metrics.ActivityMetrics;
+import com.ebusiness.ebiz.metrics.Metrics;
+import com.ebusiness.ebiz.metrics.Timer;
+import com.ebusiness.ebiz.portfolio.PortfolioEntry;
+import com.ebusiness.ebiz.portfolio.PortfolioReader;
+import com.ebusiness.ebiz.portfolio.PortfolioScorer;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 일괄 분석 화면
+ * CSV/JSON 파일의 프로젝트를 모든 코어에서 병렬로 분석하고, 끝나는 대로 위험도 순위 목록에 추가한다
+ *
+ * 파일은 스트리밍으로 한 건씩 읽고 동시에 처리하는 프로젝트 수를 제한하므로 파일 크기와 관계없이
+ * 메모리 사용량이 일정하다. 결과는 모아 두었다가 DELIVER_INTERVAL_MS마다 한 번씩 화면에 반영한다.
+ */
+public class PortfolioActivity extends AppCompatActivity {
+    private static final String TAG = "PortfolioActivity";
+
+    private static final String[] MIME_TYPES = {
+            "text/csv", "text/comma-separated-values", "application/json", "text/plain"
+    };
+    private static final long DELIVER_INTERVAL_MS = 100;
+    private static final int CORES = Runtime.getRuntime().availableProcessors();
+
+    private static final RiskScorer RISK_SCORER = new RiskScorer();
+
+    // UI Components
+    private ImageButton btnBack;
+    private TextView status;
+    private Button btnPickFile;
+    private Button btnCancel;
+    private RecyclerView portfolioList;
+    private TextView emptyView;
+    private PortfolioAdapter adapter;
+
+    private final ActivityResultLauncher<String[]> filePicker =
+            registerForActivityResult(new ActivityResultContracts.OpenDocument(), this::onFilePicked);
+
+    // 분석 상태
+    private volatile boolean cancelled = false;
+    private final ConcurrentLinkedQueue<PortfolioEntry> pendingEntries = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean deliveryScheduled = new AtomicBoolean(false);
+    private final Runnable deliverTask = this::deliverPendingEntries;
+    private int scoredCount = 0;
+
+    @Override
+    protected void onCreate(Bundle savedInstanceState) {
+        super.onCreate(savedInstanceState);
+        ActivityMetrics.trackFirstFrame(this);
+        setContentView(R.layout.activity_portfolio);
+
+        initializeViews();
+        setupClickListeners();
+    }
+
+    private void initializeViews() {
+        btnBack = findViewById(R.id.btn_back);
+        status = findViewById(R.id.portfolio_status);
+        btnPickFile = findViewById(R.id.btn_pick_file);
+        btnCancel = findViewById(R.id.btn_cancel);
+        portfolioList = findViewById(R.id.portfolio_list);
+        emptyView = findViewById(R.id.empty_view);
+
+        adapter = new PortfolioAdapter();
+        portfolioList.setLayoutManager(new LinearLayoutManager(this));
+        portfolioList.setHasFixedSize(true);
+        portfolioList.setAdapter(adapter);
+    }
+
+    private void setupClickListeners() {
+        btnBack.setOnClickListener(v -> finish());
+        btnPickFile.setOnClickListener(v -> filePicker.launch(MIME_TYPES));
+        btnCancel.setOnClickListener(v -> {
+            cancelled = true;
+            btnCancel.setEnabled(false);
+            status.setText("중지하는 중...");
+        });
+    }
+
+    private void onFilePicked(Uri uri) {
+        if (uri == null || isFinishing() || isDestroyed()) {
+            return;
+        }
+        startImport(uri);
+    }
+
+    /**
+     * 파일 읽기 1개 스레드 + 점수 계산 코어 수만큼의 스레드로 분석 시작
+     */
+    private void startImport(Uri uri) {
+        cancelled = false;
+        scoredCount = 0;
+        pendingEntries.clear();
+        adapter.clear();
+        emptyView.setVisibility(View.GONE);
+        btnPickFile.setEnabled(false);
+        btnCancel.setEnabled(true);
+        btnCancel.setVisibility(View.VISIBLE);
+        status.setText("분석 중...");
+
+        ExecutorService pool = Executors.newFixedThreadPool(CORES + 1,
+                AppExecutors.namedThreadFactory("ebiz-portfolio"));
+        PortfolioScorer scorer = new PortfolioScorer(RISK_SCORER, pool, CORES * 2);
+
+        pool.execute(() -> {
+            Timer timer = Metrics.timer(Metrics.PORTFOLIO_IMPORT);
+            long startedAt = timer.start();
+            PortfolioScorer.Summary summary = null;
+            try (InputStream in = openInputStream(uri);
+                 PortfolioReader reader = PortfolioReader.open(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                summary = scorer.run(reader, this::onScored, () -> cancelled);
+                timer.stop(startedAt);
+                Log.d(TAG, "Imported " + summary.scored + " projects, skipped " + summary.skipped);
+            } catch (IOException | RuntimeException e) {
+                Log.w(TAG, "Failed to import portfolio", e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            PortfolioScorer.Summary result = summary;
+            AppExecutors.runOnMain(() -> onImportFinished(result));
+            // 대기 중인 계산 작업은 취소 여부를 확인하고 바로 끝나므로 정상 종료로 충분
+            pool.shutdown();
+        });
+    }
+
+    private InputStream openInputStream(Uri uri) throws IOException {
+        InputStream in = getContentResolver().openInputStream(uri);
+        if (in == null) {
+            throw new FileNotFoundException(uri.toString());
+        }
+        return in;
+    }
+
+    /**
+     * 분석 결과 수신 (계산 스레드) - 모아 두었다가 한 번에 화면에 반영
+     */
+    private void onScored(PortfolioEntry entry) {
+        Metrics.counter(Metrics.PORTFOLIO_PROJECTS).increment();
+        pendingEntries.add(entry);
+        if (deliveryScheduled.compareAndSet(false, true)) {
+            portfolioList.postDelayed(deliverTask, DELIVER_INTERVAL_MS);
+        }
+    }
+
+    private void deliverPendingEntries() {
+        deliveryScheduled.set(false);
+        if (isFinishing() || isDestroyed()) {
+            return;
+        }
+        PortfolioEntry entry;
+        while ((entry = pendingEntries.poll()) != null) {
+            adapter.add(entry);
+            scoredCount++;
+        }
+        if (!cancelled) {
+            status.setText("분석 중 · " + scoredCount + "건 완료");
+        }
+    }
+
+    private void onImportFinished(PortfolioScorer.Summary summary) {
+        if (isFinishing() || isDestroyed()) {
+            return;
+        }
+        portfolioList.removeCallbacks(deliverTask);
+        deliverPendingEntries();
+        btnCancel.setVisibility(View.GONE);
+        btnPickFile.setEnabled(true);
+
+        if (summary == null) {
+            status.setText("파일을 읽지 못했습니다");
+            Toast.makeText(this, "CSV 또는 JSON 형식의 파일을 선택해주세요", Toast.LENGTH_SHORT).show();
+        } else {
+            StringBuilder text = new StringBuilder(summary.cancelled ? "중지됨 · " : "완료 · ")
+                    .append(scoredCount).append("건");
+            if (summary.skipped > 0) {
+                text.append(" · 건너뜀 ").append(summary.skipped).append("건");
+            }
+            if (summary.failed > 0) {
+                text.append(" · 실패 ").append(summary.failed).append("건");
+            }
+            status.setText(text);
+        }
+        emptyView.setVisibility(adapter.getItemCount() == 0 ? View.VISIBLE : View.GONE);
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        // 진행 중인 분석 중단 (읽기 스레드가 남은 작업을 정리하고 스레드 풀을 종료)
+        cancelled = true;
+        portfolioList.removeCallbacks(deliverTask);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ebusiness.ebiz;
+
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import com.ebusiness.ebiz.portfolio.PortfolioEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 일괄 분석 순위 목록 어댑터
+ * 결과가 도착할 때마다 정렬 위치를 이진 탐색으로 찾아 끼워 넣으므로 목록 전체를 다시 정렬하지 않는다
+ * (행 레이아웃은 분석 이력 목록과 같은 history_item을 사용)
+ */
+class PortfolioAdapter extends RecyclerView.Adapter<HistoryAdapter.ViewHolder> {
+    private final List<PortfolioEntry> entries = new ArrayList<>();
+
+    PortfolioAdapter() {
+        setHasStableIds(true);
+    }
+
+    /**
+     * 순위 위치에 삽입 (메인 스레드에서 호출)
+     */
+    void add(PortfolioEntry entry) {
+        int position = Collections.binarySearch(entries, entry, PortfolioEntry.RANKING);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        entries.add(position, entry);
+        notifyItemInserted(position);
+    }
+
+    void clear() {
+        int count = entries.size();
+        entries.clear();
+        notifyItemRangeRemoved(0, count);
+    }
+
+    @Override
+    public int getItemCount() {
+        return entries.size();
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return entries.get(position).index;
+    }
+
+    @NonNull
+    @Override
+    public HistoryAdapter.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        View itemView = LayoutInflater.from(parent.getContext()).inflate(R.layout.history_item, parent, false);
+        return new HistoryAdapter.ViewHolder(itemView);
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull HistoryAdapter.ViewHolder holder, int position) {
+        PortfolioEntry entry = entries.get(position);
+
+        holder.title.setText(entry.title);
+        String budget = entry.budgetText.isEmpty() ? "미정" : entry.budgetText;
+        holder.meta.setText("예산 " + budget + " · RPN " + entry.rpn);
+        holder.loss.setText("예상 손실 ₩" + String.format(Locale.KOREA, "%,d", entry.totalExpectedLoss));
+        holder.score.setText(String.valueOf((int) entry.overallRiskScore));
+    }
+}
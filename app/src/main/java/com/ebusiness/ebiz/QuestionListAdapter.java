@@ -0,0 +1,193 @@
+package com.ebusiness.ebiz;
+
+import android.text.Editable;
+import android.text.InputType;
+import android.text.TextWatcher;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.EditText;
+import android.widget.TextView;
+import androidx.annotation.NonNull;
+import androidx.recyclerview.widget.RecyclerView;
+import com.ebusiness.ebiz.analysis.Question;
+import com.ebusiness.ebiz.analysis.Questionnaire;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구체화 질문 목록 어댑터
+ * 분석 기법(method)이 바뀌는 지점에 구분 제목을 넣고, 질문 카드는 재사용한다.
+ * 답변은 Questionnaire 모델에 기록하므로 카드가 재사용되어도 입력 내용이 유지된다.
+ * 키 입력 중에는 EditText 내용을 참조만 하고, 카드가 다른 질문에 재사용될 때 문자열로 옮긴다.
+ */
+class QuestionListAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+    static final int TYPE_SECTION = 0;
+    static final int TYPE_QUESTION = 1;
+
+    interface Listener {
+        /**
+         * 답변 내용 변경 (키 입력마다 호출되므로 가벼운 작업만 수행)
+         */
+        void onAnswerChanged(int questionIndex);
+
+        /**
+         * 전체 답변 완료 여부가 바뀔 때만 호출
+         */
+        void onCompletionChanged(boolean complete);
+    }
+
+    private final Questionnaire questionnaire;
+    private final Listener listener;
+
+    // 어댑터 위치 → 질문 인덱스 (구분 제목은 -1)
+    private final int[] rowQuestionIndex;
+    private final List<String> rowSectionTitle;
+
+    QuestionListAdapter(Questionnaire questionnaire, Listener listener) {
+        this.questionnaire = questionnaire;
+        this.listener = listener;
+
+        List<Integer> rows = new ArrayList<>();
+        rowSectionTitle = new ArrayList<>();
+        String currentMethod = null;
+        for (int i = 0; i < questionnaire.size(); i++) {
+            String method = questionnaire.getQuestion(i).method;
+            if (method != null && !method.equals(currentMethod)) {
+                rows.add(-1);
+                rowSectionTitle.add(method);
+                currentMethod = method;
+            }
+            rows.add(i);
+            rowSectionTitle.add(null);
+        }
+
+        rowQuestionIndex = new int[rows.size()];
+        for (int i = 0; i < rowQuestionIndex.length; i++) {
+            rowQuestionIndex[i] = rows.get(i);
+        }
+        setHasStableIds(true);
+    }
+
+    @Override
+    public int getItemCount() {
+        return rowQuestionIndex.length;
+    }
+
+    @Override
+    public int getItemViewType(int position) {
+        return rowQuestionIndex[position] < 0 ? TYPE_SECTION : TYPE_QUESTION;
+    }
+
+    @Override
+    public long getItemId(int position) {
+        return position;
+    }
+
+    /**
+     * 질문 인덱스에 해당하는 어댑터 위치 (답변 누락 질문으로 스크롤할 때 사용)
+     */
+    int positionOfQuestion(int questionIndex) {
+        for (int i = 0; i < rowQuestionIndex.length; i++) {
+            if (rowQuestionIndex[i] == questionIndex) {
+                return i;
+            }
+        }
+        return RecyclerView.NO_POSITION;
+    }
+
+    @NonNull
+    @Override
+    public RecyclerView.ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+        LayoutInflater inflater = LayoutInflater.from(parent.getContext());
+        if (viewType == TYPE_SECTION) {
+            return new SectionViewHolder(inflater.inflate(R.layout.question_section_item, parent, false));
+        }
+        return new QuestionViewHolder(inflater.inflate(R.layout.question_item, parent, false));
+    }
+
+    @Override
+    public void onBindViewHolder(@NonNull RecyclerView.ViewHolder holder, int position) {
+        if (holder instanceof SectionViewHolder) {
+            ((SectionViewHolder) holder).title.setText(rowSectionTitle.get(position));
+        } else {
+            ((QuestionViewHolder) holder).bind(rowQuestionIndex[position]);
+        }
+    }
+
+    @Override
+    public void onViewRecycled(@NonNull RecyclerView.ViewHolder holder) {
+        if (holder instanceof QuestionViewHolder) {
+            ((QuestionViewHolder) holder).release();
+        }
+    }
+
+    static class SectionViewHolder extends RecyclerView.ViewHolder {
+        final TextView title;
+
+        SectionViewHolder(View itemView) {
+            super(itemView);
+            title = itemView.findViewById(R.id.section_title);
+        }
+    }
+
+    class QuestionViewHolder extends RecyclerView.ViewHolder {
+        final TextView number;
+        final TextView text;
+        final EditText input;
+        private int questionIndex = -1;
+        private boolean binding = false;
+
+        QuestionViewHolder(View itemView) {
+            super(itemView);
+            number = itemView.findViewById(R.id.question_number);
+            text = itemView.findViewById(R.id.question_text);
+            input = itemView.findViewById(R.id.answer_input);
+
+            // TextWatcher는 뷰 생성 시 한 번만 등록하고, 현재 바인딩된 질문에 기록
+            input.addTextChangedListener(new TextWatcher() {
+                @Override
+                public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
+
+                @Override
+                public void onTextChanged(CharSequence s, int start, int before, int count) {}
+
+                @Override
+                public void afterTextChanged(Editable s) {
+                    if (binding || questionIndex < 0) {
+                        return;
+                    }
+                    if (questionnaire.editAnswer(questionIndex, s)) {
+                        listener.onCompletionChanged(questionnaire.isComplete());
+                    }
+                    listener.onAnswerChanged(questionIndex);
+                }
+            });
+        }
+
+        void bind(int index) {
+            release();
+            Question question = questionnaire.getQuestion(index);
+            questionIndex = index;
+
+            binding = true;
+            number.setText("Q" + (index + 1) + ".");
+            text.setText(question.questionText);
+            input.setInputType(question.isNumeric()
+                    ? InputType.TYPE_CLASS_NUMBER
+                    : InputType.TYPE_CLASS_TEXT | InputType.TYPE_TEXT_FLAG_MULTI_LINE);
+            String answer = questionnaire.getAnswer(index);
+            input.setText(answer != null ? answer : "");
+            binding = false;
+        }
+
+        /**
+         * 입력 중이던 답변을 모델에 문자열로 옮김 (EditText 내용이 다른 질문으로 바뀌기 전)
+         */
+        void release() {
+            if (questionIndex >= 0) {
+                questionnaire.commitAnswer(questionIndex);
+            }
+        }
+    }
+}
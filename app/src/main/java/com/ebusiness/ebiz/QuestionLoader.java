@@ -0,0 +1,93 @@
+package com.ebusiness.ebiz;
+
+import android.content.Context;
+import android.util.Log;
+import com.ebusiness.ebiz.analysis.ProjectInput;
+import com.ebusiness.ebiz.analysis.Question;
+import com.ebusiness.ebiz.analysis.QuestionGenerator;
+import com.ebusiness.ebiz.network.ProjectRequest;
+import com.ebusiness.ebiz.network.QuestionsResponse;
+import com.ebusiness.ebiz.network.RequestScheduler;
+import com.ebusiness.ebiz.session.QuestionPrefetcher;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * 구체화 질문 생성
+ * 백엔드가 켜져 있으면 API로 요청하고, 실패하면 로컬 QuestionGenerator로 대체한다
+ * (LoadingActivity와 입력 화면의 선행 요청이 함께 사용)
+ */
+final class QuestionLoader implements QuestionPrefetcher.Loader {
+    private static final String TAG = "QuestionLoader";
+
+    private static final QuestionGenerator QUESTION_GENERATOR = new QuestionGenerator();
+
+    private static QuestionPrefetcher prefetcher;
+
+    private final Context context;
+
+    private QuestionLoader(Context context) {
+        this.context = context.getApplicationContext();
+    }
+
+    static QuestionLoader create(Context context) {
+        return new QuestionLoader(context);
+    }
+
+    /**
+     * 앱 전역 선행 요청기
+     */
+    static synchronized QuestionPrefetcher prefetcher(Context context) {
+        if (prefetcher == null) {
+            prefetcher = new QuestionPrefetcher(create(context), AppExecutors.background());
+        }
+        return prefetcher;
+    }
+
+    @Override
+    public QuestionPrefetcher.Result load(QuestionPrefetcher.Request request) {
+        if (ApiProvider.isRemoteEnabled()) {
+            QuestionPrefetcher.Result remote = fetchFromAPI(request);
+            if (remote != null) {
+                return remote;
+            }
+        }
+        if (request.isCancelled()) {
+            return null;
+        }
+        List<Question> questions = QUESTION_GENERATOR.generate(request.title, request.description,
+                ProjectInput.parseBudget(request.budgetText));
+        return new QuestionPrefetcher.Result(questions, null);
+    }
+
+    /**
+     * 백엔드에서 질문 생성 (실패 시 null을 반환하여 로컬 생성으로 대체)
+     */
+    private QuestionPrefetcher.Result fetchFromAPI(QuestionPrefetcher.Request request) {
+        Call<QuestionsResponse> call = ApiProvider.get(context).getAnalysisApi()
+                .generateQuestions(new ProjectRequest(request.title, request.description, request.budgetText));
+        // 같은 입력으로 진행 중인 요청이 있으면 스케줄러가 결과를 함께 받음
+        CompletableFuture<Response<QuestionsResponse>> future = ApiProvider.get(context).getScheduler()
+                .enqueue("questions:" + request.key, call);
+        request.setCancelAction(() -> future.cancel(true));
+        try {
+            Response<QuestionsResponse> response = RequestScheduler.await(future);
+            QuestionsResponse body = response.body();
+            if (!response.isSuccessful() || body == null || body.questions == null || body.questions.isEmpty()) {
+                Log.w(TAG, "Question API returned " + response.code() + ", using local questions");
+                return null;
+            }
+            return new QuestionPrefetcher.Result(body.questions, body.sessionId);
+        } catch (IOException e) {
+            if (!future.isCancelled()) {
+                Log.w(TAG, "Question API failed, using local questions", e);
+            }
+            return null;
+        } finally {
+            request.setCancelAction(null);
+        }
+    }
+}
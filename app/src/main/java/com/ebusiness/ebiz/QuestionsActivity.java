@@ -2,20 +2,18 @@ package com.ebusiness.ebiz;
 
 import android.content.Intent;
 import android.os.Bundle;
-import android.text.Editable;
-import android.text.TextWatcher;
-import android.view.LayoutInflater;
-import android.view.View;
 import android.widget.Button;
-import android.widget.EditText;
-import android.widget.LinearLayout;
-import android.widget.TextView;
 import android.widget.Toast;
 import androidx.appcompat.app.AppCompatActivity;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.RecyclerView;
+import com.ebusiness.ebiz.analysis.QuestionGenerator;
+import com.ebusiness.ebiz.analysis.Questionnaire;
+import com.ebusiness.ebiz.data.Draft;
+import com.ebusiness.ebiz.data.DraftStore;
+import com.ebusiness.ebiz.metrics.ActivityMetrics;
+import com.ebusiness.ebiz.session.AnalysisSession;
+import com.ebusiness.ebiz.session.SessionRepository;
 
 /**
  * AI 구체화 질문 화면
@@ -24,33 +22,75 @@ import java.util.Map;
 public class QuestionsActivity extends AppCompatActivity {
     private static final String TAG = "QuestionsActivity";
 
+    // 제출 버튼 상태 갱신 지연 (연속 입력 중 버튼이 깜빡이지 않도록)
+    private static final long VALIDATION_DEBOUNCE_MS = 150;
+
+    // 입력이 멈춘 뒤 임시 저장본을 만드는 지연 (디스크 기록은 DraftStore가 다시 병합)
+    private static final long DRAFT_DEBOUNCE_MS = 300;
+
     // UI Components
-    private LinearLayout questionsContainer;
+    private RecyclerView questionsList;
     private Button btnPrevious;
     private Button btnSubmit;
 
-    // Data
-    private List<Question> questions;
-    private Map<String, String> answers;
+    private QuestionListAdapter adapter;
+
+    // Data (답변은 세션의 Questionnaire에 직접 기록)
+    private AnalysisSession session;
+    private Questionnaire questionnaire;
+
+    private final Runnable updateSubmitState = this::checkFormValidity;
+
+    // 임시 저장
+    private DraftStore draftStore;
+    private final Runnable saveDraftTask = this::saveDraft;
+    private boolean submitted = false;
 
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
+        ActivityMetrics.trackFirstFrame(this);
         setContentView(R.layout.activity_questions);
 
+        draftStore = DraftStore.getInstance(this);
+
         initializeViews();
         setupClickListeners();
+
+        session = SessionRepository.getInstance().get(
+                getIntent().getStringExtra(SessionRepository.EXTRA_SESSION_ID));
+        if (session == null) {
+            // 프로세스 재시작으로 세션이 사라진 경우 (답변은 임시 저장본으로 다시 복원됨)
+            Toast.makeText(this, "프로젝트 정보를 다시 입력해주세요", Toast.LENGTH_SHORT).show();
+            finish();
+            return;
+        }
+
         initializeQuestions();
         renderQuestions();
+
+        // 화면 회전 등으로 다시 생성된 경우 답변은 세션에 그대로 남아 있음
+        if (savedInstanceState == null) {
+            restoreDraft();
+        }
         checkFormValidity();
     }
 
+    @Override
+    protected void onPause() {
+        super.onPause();
+        // 백그라운드로 가면 프로세스가 종료될 수 있으므로 즉시 기록
+        if (!submitted && questionnaire != null) {
+            btnSubmit.removeCallbacks(saveDraftTask);
+            saveDraft();
+            draftStore.flushNow();
+        }
+    }
+
     private void initializeViews() {
-        questionsContainer = findViewById(R.id.questionsContainer);
+        questionsList = findViewById(R.id.questionsList);
         btnPrevious = findViewById(R.id.btnPrevious);
         btnSubmit = findViewById(R.id.btnSubmit);
-
-        answers = new HashMap<>();
     }
 
     private void setupClickListeners() {
@@ -68,161 +108,99 @@ public class QuestionsActivity extends AppCompatActivity {
     }
 
     private void initializeQuestions() {
-        // Mock data - 실제로는 API에서 받아올 데이터
-        questions = new ArrayList<>();
-        questions.add(new Question("q1", "Logic Model", "이 사업에 투자할 수 있는 초기 자본은 얼마인가요?"));
-        questions.add(new Question("q2", "Logic Model", "현재 보유한 기술 역량 또는 관련 경험은 어느 정도인가요?"));
-        questions.add(new Question("q3", "Logic Model", "목표 고객층이 명확히 정의되어 있나요?"));
-        questions.add(new Question("q4", "Logic Model", "경쟁사 분석을 수행했으며, 차별화 포인트가 있나요?"));
-        questions.add(new Question("q5", "Logic Model", "향후 6개월 내 최소 기능 제품(MVP)을 출시할 수 있나요?"));
-    }
-
-    private void renderQuestions() {
-        questionsContainer.removeAllViews();
-
-        for (int i = 0; i < questions.size(); i++) {
-            Question question = questions.get(i);
-            View questionCard = createQuestionCard(question, i + 1);
-            questionsContainer.addView(questionCard);
+        // LoadingActivity에서 생성한 질문이 없으면 로컬에서 생성
+        if (session.getQuestionnaire() == null) {
+            session.setQuestions(new QuestionGenerator().generate(
+                    session.getTitle(), session.getDescription(), session.getBudgetManwon()));
         }
+        questionnaire = session.getQuestionnaire();
     }
 
-    private View createQuestionCard(Question question, int questionNumber) {
-        // @+id/background_ = question card container
-        LinearLayout cardContainer = new LinearLayout(this);
-        cardContainer.setOrientation(LinearLayout.VERTICAL);
-        cardContainer.setBackgroundResource(R.drawable.question_card_background);
-
-        LinearLayout.LayoutParams cardParams = new LinearLayout.LayoutParams(
-            LinearLayout.LayoutParams.MATCH_PARENT,
-            LinearLayout.LayoutParams.WRAP_CONTENT
-        );
-        cardParams.setMargins(0, 0, 0, dpToPx(16));
-        cardContainer.setLayoutParams(cardParams);
-        cardContainer.setPadding(dpToPx(21), dpToPx(21), dpToPx(21), dpToPx(21));
-
-        // Question header
-        LinearLayout questionHeader = new LinearLayout(this);
-        questionHeader.setOrientation(LinearLayout.HORIZONTAL);
-        questionHeader.setLayoutParams(new LinearLayout.LayoutParams(
-            LinearLayout.LayoutParams.MATCH_PARENT,
-            LinearLayout.LayoutParams.WRAP_CONTENT
-        ));
-
-        // Question number
-        TextView questionNum = new TextView(this);
-        questionNum.setText("Q" + questionNumber + ".");
-        questionNum.setTextSize(16);
-        questionNum.setTextColor(getColor(R.color.button_enabled)); // FF3B4E
-        LinearLayout.LayoutParams numParams = new LinearLayout.LayoutParams(
-            LinearLayout.LayoutParams.WRAP_CONTENT,
-            LinearLayout.LayoutParams.WRAP_CONTENT
-        );
-        numParams.setMarginEnd(dpToPx(7));
-        questionNum.setLayoutParams(numParams);
-
-        // Question text - android:id="@+id/label_"
-        TextView questionText = new TextView(this);
-        questionText.setId(View.generateViewId());
-        questionText.setText(question.questionText);
-        questionText.setTextSize(14);
-        questionText.setTextColor(getColor(R.color.text_primary));
-        questionText.setLayoutParams(new LinearLayout.LayoutParams(
-            LinearLayout.LayoutParams.MATCH_PARENT,
-            LinearLayout.LayoutParams.WRAP_CONTENT
-        ));
-
-        questionHeader.addView(questionNum);
-        questionHeader.addView(questionText);
-
-        // Input field
-        EditText inputField = new EditText(this);
-        inputField.setId(View.generateViewId());
-        inputField.setHint("답변을 입력하세요...");
-        inputField.setTextSize(14);
-        inputField.setTextColor(getColor(R.color.text_primary));
-        inputField.setHintTextColor(getColor(R.color.input_hint_color));
-        inputField.setBackgroundResource(R.drawable.question_input_background);
-        inputField.setSingleLine(false);
-        inputField.setMaxLines(5);
-        inputField.setMinLines(1);
-
-        LinearLayout.LayoutParams inputParams = new LinearLayout.LayoutParams(
-            LinearLayout.LayoutParams.MATCH_PARENT,
-            LinearLayout.LayoutParams.WRAP_CONTENT
-        );
-        inputParams.setMargins(0, dpToPx(15), 0, 0);
-        inputField.setLayoutParams(inputParams);
-        inputField.setPadding(dpToPx(13), dpToPx(13), dpToPx(13), dpToPx(13));
-
-        // Text watcher for answer validation
-        inputField.addTextChangedListener(new TextWatcher() {
-            @Override
-            public void beforeTextChanged(CharSequence s, int start, int count, int after) {}
-
+    private void renderQuestions() {
+        // 질문 수가 많아도 화면에 보이는 카드만 생성하여 재사용
+        adapter = new QuestionListAdapter(questionnaire, new QuestionListAdapter.Listener() {
             @Override
-            public void onTextChanged(CharSequence s, int start, int before, int count) {}
+            public void onAnswerChanged(int questionIndex) {
+                scheduleDraftSave();
+            }
 
             @Override
-            public void afterTextChanged(Editable s) {
-                answers.put(question.questionId, s.toString().trim());
-                checkFormValidity();
+            public void onCompletionChanged(boolean complete) {
+                scheduleValidation();
             }
         });
+        questionsList.setLayoutManager(new LinearLayoutManager(this));
+        questionsList.setAdapter(adapter);
+    }
 
-        cardContainer.addView(questionHeader);
-        cardContainer.addView(inputField);
+    private void scheduleValidation() {
+        btnSubmit.removeCallbacks(updateSubmitState);
+        btnSubmit.postDelayed(updateSubmitState, VALIDATION_DEBOUNCE_MS);
+    }
 
-        return cardContainer;
+    private void scheduleDraftSave() {
+        btnSubmit.removeCallbacks(saveDraftTask);
+        btnSubmit.postDelayed(saveDraftTask, DRAFT_DEBOUNCE_MS);
     }
 
-    private void checkFormValidity() {
-        boolean allAnswered = true;
+    private void saveDraft() {
+        Draft draft = new Draft();
+        draft.title = session.getTitle();
+        draft.answers = questionnaire.toAnswerMap();
+        draftStore.save(DraftStore.KEY_ANSWERS, draft);
+    }
 
-        for (Question question : questions) {
-            String answer = answers.get(question.questionId);
-            if (answer == null || answer.isEmpty()) {
-                allAnswered = false;
-                break;
+    /**
+     * 같은 프로젝트에 대해 작성하던 답변이 있으면 복원
+     */
+    private void restoreDraft() {
+        String title = session.getTitle();
+        draftStore.load(DraftStore.KEY_ANSWERS, draft -> {
+            if (draft == null || draft.answers == null || isFinishing() || isDestroyed()) {
+                return;
             }
-        }
+            if (!title.equals(draft.title)) {
+                return;
+            }
+            questionnaire.restoreAnswers(draft.answers);
+            adapter.notifyDataSetChanged();
+            checkFormValidity();
+        });
+    }
 
-        btnSubmit.setEnabled(allAnswered);
+    private void checkFormValidity() {
+        btnSubmit.setEnabled(questionnaire.isComplete());
     }
 
     private boolean validateAnswers() {
-        for (Question question : questions) {
-            String answer = answers.get(question.questionId);
-            if (answer == null || answer.trim().isEmpty()) {
-                Toast.makeText(this, "모든 질문에 답변해주세요", Toast.LENGTH_SHORT).show();
-                return false;
-            }
+        int unanswered = questionnaire.firstUnanswered();
+        if (unanswered >= 0) {
+            Toast.makeText(this, "모든 질문에 답변해주세요", Toast.LENGTH_SHORT).show();
+            questionsList.scrollToPosition(adapter.positionOfQuestion(unanswered));
+            return false;
         }
         return true;
     }
 
-    private void submitAnswers() {
-        // 답변 데이터 준비
-        StringBuilder submissionData = new StringBuilder("답변이 제출되었습니다!\n\n");
-
-        for (int i = 0; i < questions.size(); i++) {
-            Question question = questions.get(i);
-            String answer = answers.get(question.questionId);
-            submissionData.append("Q").append(i + 1).append(": ").append(answer).append("\n");
-        }
+    @Override
+    protected void onDestroy() {
+        btnSubmit.removeCallbacks(updateSubmitState);
+        btnSubmit.removeCallbacks(saveDraftTask);
+        super.onDestroy();
+    }
 
+    private void submitAnswers() {
         Toast.makeText(this, "분석을 완료했습니다!", Toast.LENGTH_SHORT).show();
 
-        // 분석 결과 화면으로 이동
+        // 분석 결과 화면으로 이동 (프로젝트 정보와 답변은 세션에 있으므로 ID만 전달)
         Intent intent = new Intent(this, ReportActivity.class);
+        intent.putExtra(SessionRepository.EXTRA_SESSION_ID, session.getId());
 
-        // 프로젝트 정보 전달
-        intent.putExtra("project_title", getIntent().getStringExtra("project_title"));
-        intent.putExtra("project_description", getIntent().getStringExtra("project_description"));
-        intent.putExtra("project_budget", getIntent().getStringExtra("project_budget"));
-
-        // 답변 데이터 전달 (실제 구현에서는 session_id를 통해 백엔드에서 가져옴)
-        intent.putExtra("answers", submissionData.toString());
+        // 제출이 끝난 입력은 더 이상 복원하지 않음
+        submitted = true;
+        btnSubmit.removeCallbacks(saveDraftTask);
+        draftStore.clear(DraftStore.KEY_PROJECT);
+        draftStore.clear(DraftStore.KEY_ANSWERS);
 
         startActivity(intent);
 
@@ -231,22 +209,4 @@ public class QuestionsActivity extends AppCompatActivity {
 
         finish();
     }
-
-    private int dpToPx(int dp) {
-        float density = getResources().getDisplayMetrics().density;
-        return Math.round(dp * density);
-    }
-
-    // Question 데이터 클래스
-    private static class Question {
-        String questionId;
-        String method;
-        String questionText;
-
-        Question(String questionId, String method, String questionText) {
-            this.questionId = questionId;
-            this.method = method;
-            this.questionText = questionText;
-        }
-    }
 }
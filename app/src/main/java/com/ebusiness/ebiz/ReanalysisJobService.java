@@ -0,0 +1,152 @@
+package com.ebusiness.ebiz;
+
+import android.app.job.JobInfo;
+import android.app.job.JobParameters;
+import android.app.job.JobScheduler;
+import android.app.job.JobService;
+import android.content.ComponentName;
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.util.Log;
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.analysis.ProjectInput;
+import com.ebusiness.ebiz.analysis.RiskScorer;
+import com.ebusiness.ebiz.data.AnalysisHistoryStore;
+import com.ebusiness.ebiz.data.AnalysisRecord;
+import com.ebusiness.ebiz.data.ReanalysisRunner;
+import com.ebusiness.ebiz.metrics.Metrics;
+import com.ebusiness.ebiz.metrics.Timer;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 저장된 분석의 백그라운드 재계산
+ * 충전 중이거나 기기가 유휴 상태일 때, 예산이 바뀌었거나 이전 엔진 버전으로 계산한 로컬 분석을 배치 단위로 다시 계산한다
+ * (입력이 그대로인 백엔드 결과는 요약/실행 계획과 어긋나지 않도록 그대로 둔다)
+ *
+ * JobInfo의 조건은 모두 만족해야 실행되므로, "충전 중" 작업과 "유휴" 작업을 각각 등록하고
+ * 둘 중 먼저 조건이 맞는 작업이 실행한다. 진행 위치는 공유하므로 중단된 실행을 다른 작업이 이어받는다.
+ */
+public class ReanalysisJobService extends JobService {
+    private static final String TAG = "ReanalysisJobService";
+
+    private static final int JOB_ID_CHARGING = 2001;
+    private static final int JOB_ID_IDLE = 2002;
+    private static final long PERIOD_MS = TimeUnit.DAYS.toMillis(1);
+
+    private static final String PREFS_NAME = "reanalysis";
+    private static final String KEY_LAST_ID = "last_id";
+
+    private static final RiskScorer RISK_SCORER = new RiskScorer();
+
+    // 두 작업이 동시에 조건을 만족해도 한 번만 실행
+    private static final AtomicBoolean RUNNING = new AtomicBoolean(false);
+
+    private volatile boolean stopRequested = false;
+    private Future<?> task;
+
+    /**
+     * 재계산 작업 등록 (이미 등록되어 있으면 그대로 둠)
+     */
+    static void schedule(Context context) {
+        JobScheduler scheduler = context.getSystemService(JobScheduler.class);
+        if (scheduler == null) {
+            return;
+        }
+        ComponentName service = new ComponentName(context, ReanalysisJobService.class);
+        if (scheduler.getPendingJob(JOB_ID_CHARGING) == null) {
+            scheduler.schedule(new JobInfo.Builder(JOB_ID_CHARGING, service)
+                    .setRequiresCharging(true)
+                    .setPeriodic(PERIOD_MS)
+                    .setPersisted(false)
+                    .build());
+        }
+        if (scheduler.getPendingJob(JOB_ID_IDLE) == null) {
+            scheduler.schedule(new JobInfo.Builder(JOB_ID_IDLE, service)
+                    .setRequiresDeviceIdle(true)
+                    .setRequiresBatteryNotLow(true)
+                    .setPeriodic(PERIOD_MS)
+                    .setPersisted(false)
+                    .build());
+        }
+    }
+
+    @Override
+    public boolean onStartJob(JobParameters params) {
+        if (!RUNNING.compareAndSet(false, true)) {
+            Log.d(TAG, "Re-analysis already running, skipping job " + params.getJobId());
+            return false;
+        }
+
+        stopRequested = false;
+        ReanalysisRunner runner = new ReanalysisRunner(AnalysisHistoryStore.getInstance(this),
+                new PrefsCheckpoint(getSharedPreferences(PREFS_NAME, MODE_PRIVATE)),
+                ReanalysisJobService::reanalyze, ReanalysisRunner.DEFAULT_BATCH_SIZE);
+
+        task = AppExecutors.background().submit(() -> {
+            Timer timer = Metrics.timer(Metrics.REANALYSIS_RUN);
+            long startedAt = timer.start();
+            boolean reschedule = false;
+            try {
+                ReanalysisRunner.Outcome outcome = runner.run(() -> stopRequested);
+                Metrics.counter(Metrics.REANALYSIS_RECORDS).add(outcome.processed);
+                Log.d(TAG, "Re-analyzed " + outcome.processed + " records, completed=" + outcome.completed);
+                reschedule = !outcome.completed && !stopRequested;
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Re-analysis failed", e);
+                reschedule = true;
+            } finally {
+                timer.stop(startedAt);
+                RUNNING.set(false);
+            }
+            if (!stopRequested) {
+                jobFinished(params, reschedule);
+            }
+        });
+        return true;
+    }
+
+    @Override
+    public boolean onStopJob(JobParameters params) {
+        // 조건이 해제되면 현재 레코드까지만 저장하고 멈춤 (다음 실행에서 이어서 처리)
+        stopRequested = true;
+        if (task != null) {
+            task.cancel(false);
+        }
+        return true;
+    }
+
+    private static AnalysisResult reanalyze(AnalysisRecord record) {
+        ProjectInput input = new ProjectInput(record.title, record.description,
+                ProjectInput.parseBudget(record.budget), record.answers);
+        // 현재 엔진과 결과 화면과 같은 시드로 계산하므로 지금 새로 분석했을 때와 같은 값이 저장됨
+        return RISK_SCORER.score(input);
+    }
+
+    /**
+     * 진행 위치를 SharedPreferences에 기록 (프로세스가 종료되어도 유지)
+     */
+    private static final class PrefsCheckpoint implements ReanalysisRunner.Checkpoint {
+        private final SharedPreferences prefs;
+
+        PrefsCheckpoint(SharedPreferences prefs) {
+            this.prefs = prefs;
+        }
+
+        @Override
+        public long load() {
+            return prefs.getLong(KEY_LAST_ID, 0);
+        }
+
+        @Override
+        public void save(long lastId) {
+            prefs.edit().putLong(KEY_LAST_ID, lastId).apply();
+        }
+
+        @Override
+        public void clear() {
+            prefs.edit().remove(KEY_LAST_ID).apply();
+        }
+    }
+}
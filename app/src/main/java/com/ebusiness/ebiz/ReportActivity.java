@@ -1,17 +1,43 @@
 package com.ebusiness.ebiz;
 
-import android.animation.ObjectAnimator;
 import android.content.Intent;
 import android.os.Bundle;
-import android.os.Handler;
+import android.os.SystemClock;
+import android.os.Trace;
+import android.util.Log;
 import android.view.LayoutInflater;
 import android.view.View;
+import android.view.ViewStub;
 import android.widget.Button;
 import android.widget.LinearLayout;
-import android.widget.ProgressBar;
 import android.widget.TextView;
 import android.widget.Toast;
+import androidx.appcompat.app.AlertDialog;
 import androidx.appcompat.app.AppCompatActivity;
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.analysis.LossSimulator;
+import com.ebusiness.ebiz.analysis.ProjectInput;
+import com.ebusiness.ebiz.analysis.RiskScorer;
+import com.ebusiness.ebiz.analysis.RpnEngine;
+import com.ebusiness.ebiz.analysis.WhatIfModel;
+import com.ebusiness.ebiz.data.AnalysisHistoryStore;
+import com.ebusiness.ebiz.data.AnalysisRecord;
+import com.ebusiness.ebiz.data.ReportCache;
+import com.ebusiness.ebiz.export.ReportExporter;
+import com.ebusiness.ebiz.metrics.ActivityMetrics;
+import com.ebusiness.ebiz.metrics.Metrics;
+import com.ebusiness.ebiz.metrics.Timer;
+import com.ebusiness.ebiz.network.AnalysisRequest;
+import com.ebusiness.ebiz.network.AnalysisStreamParser;
+import com.ebusiness.ebiz.network.RequestScheduler;
+import com.ebusiness.ebiz.session.AnalysisSession;
+import com.ebusiness.ebiz.session.SessionRepository;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.Future;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.Response;
 
 /**
  * 분석 결과 화면 (report.html 구현)
@@ -19,54 +45,106 @@ import androidx.appcompat.app.AppCompatActivity;
  */
 public class ReportActivity extends AppCompatActivity {
     private static final String TAG = "ReportActivity";
+    private static final String TRACE_INFLATE = "ReportActivity.inflate";
+
+    // 대시보드 애니메이션 길이 (결과 표시 / 가정 분석 중 값 추적)
+    private static final long RESULT_ANIMATION_MS = 1200;
+    private static final long WHAT_IF_ANIMATION_MS = 120;
+
+    // 비용 분류 (기타 = 총액 - 나머지 분류 합계)
+    private static final String[] COST_CATEGORIES = {
+            "⏳  시간 투입 비용", "💸  직접 투자비", "👥  인력/운영비", "📦  기타 비용"
+    };
+    private static final int[] COST_COLORS = {0xFFFF3B4E, 0xFFFF3B4E, 0xFFFF3B4E, 0xFF9CA3AF};
 
     // UI Components - 백엔드 연동 매핑
     private TextView projectName;
-    private TextView riskScore; // android:id="@+id/some_id" - overall_risk_score → RPN 위험도
-    private ProgressBar riskChart; // android:id="@+id/svg" - 원형 차트
+    private RiskDashboardView riskDashboard; // overall_risk_score → 원형 차트
+    private RiskDashboardView costBreakdownView; // 비용 분류 막대 (손실액 카드)
     private TextView severity; // severity → 심각도
     private TextView occurrence; // occurrence → 발생도
     private TextView detection; // detection → 검출도
     private TextView totalLoss; // total_expected_loss → 현금손실액 시뮬레이션 금액
+    private TextView lossPercentiles; // loss_p50/p90/p99 → 손실액 분포
     private TextView aiSummary; // ai_recommendations → AI 조언
+    private ViewStub actionStepsStub; // 실행 계획 목록 (첫 단계가 도착할 때 inflate)
     private LinearLayout actionSteps; // 전문가 매칭 실행 계획
-    private ProgressBar progressTime, progressCapex, progressOpex;
+    private ViewStub externalLinkStub; // 외부 연계 카드 (결과 표시 후 inflate)
+    private ViewStub whatIfStub; // 가정 분석 카드 (결과 표시 후 inflate)
+    private WhatIfPanel whatIfPanel;
+    private final long[] costBreakdown = new long[COST_CATEGORIES.length];
     private Button saveButton, newAnalysisButton;
 
+    // 분석 엔진 (상태가 없으므로 공유)
+    private static final RpnEngine RPN_ENGINE = new RpnEngine();
+    private static final AnalysisStreamParser STREAM_PARSER = new AnalysisStreamParser();
+    private static final LossSimulator LOSS_SIMULATOR = new LossSimulator();
+    private ReportCache reportCache;
+    private String cacheKey;
+    private Future<?> analysisTask;
+    private Future<Response<ResponseBody>> streamRequest;
+
+    // 저장용 현재 분석 상태
+    private AnalysisSession session;
+    private ProjectInput projectInput;
+    private AnalysisResult currentResult;
+    private long savedAnalysisId = -1;
+    private AnalysisRecord savedRecord; // 이력에서 연 경우 저장된 분석
+
+    // 보고서 내보내기 (PDF/CSV)
+    private final ReportExportController exportController = new ReportExportController(this, this::exportSource);
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
-        setContentView(R.layout.activity_report);
+        ActivityMetrics.trackFirstFrame(this);
+        inflateContentView();
+        exportController.restoreState(savedInstanceState);
+
+        reportCache = ReportCache.getInstance(getCacheDir());
 
         initializeViews();
         setupClickListeners();
         loadAnalysisResult();
     }
 
+    /**
+     * 레이아웃 inflate 시간 측정 (평면화한 레이아웃의 효과 확인용)
+     */
+    private void inflateContentView() {
+        long startedAt = SystemClock.elapsedRealtimeNanos();
+        Trace.beginSection(TRACE_INFLATE);
+        try {
+            setContentView(R.layout.activity_report);
+        } finally {
+            Trace.endSection();
+        }
+        Log.d(TAG, "Layout inflated in " + (SystemClock.elapsedRealtimeNanos() - startedAt) / 1000 + "us");
+    }
+
     private void initializeViews() {
         projectName = findViewById(R.id.project_name);
-        riskScore = findViewById(R.id.some_id); // RPN 위험도 점수
-        riskChart = findViewById(R.id.svg); // 원형 차트
+        riskDashboard = findViewById(R.id.risk_dashboard); // 위험도 원형 차트
+        costBreakdownView = findViewById(R.id.cost_breakdown); // 비용 분류 막대
+        costBreakdownView.setCategories(COST_CATEGORIES, COST_COLORS);
         severity = findViewById(R.id.severity);
         occurrence = findViewById(R.id.occurrence);
         detection = findViewById(R.id.detection);
         totalLoss = findViewById(R.id.total_loss);
+        lossPercentiles = findViewById(R.id.loss_percentiles);
         aiSummary = findViewById(R.id.ai_summary);
-        actionSteps = findViewById(R.id.action_steps);
-
-        progressTime = findViewById(R.id.progress_time);
-        progressCapex = findViewById(R.id.progress_capex);
-        progressOpex = findViewById(R.id.progress_opex);
+        // ViewStub은 inflate 후 같은 id의 뷰로 대체된다
+        actionStepsStub = findViewById(R.id.action_steps);
+        externalLinkStub = findViewById(R.id.external_link);
+        whatIfStub = findViewById(R.id.what_if);
 
         saveButton = findViewById(R.id.save_button);
         newAnalysisButton = findViewById(R.id.button);
     }
 
     private void setupClickListeners() {
-        // 저장 버튼
-        saveButton.setOnClickListener(v -> {
-            Toast.makeText(this, "보고서 저장 기능이 곧 제공됩니다.", Toast.LENGTH_SHORT).show();
-        });
+        // 저장 버튼 - 이력 저장 또는 PDF/CSV 내보내기
+        saveButton.setOnClickListener(v -> showSaveOptions());
 
         // 새로운 분석 시작 버튼
         newAnalysisButton.setOnClickListener(v -> {
@@ -80,98 +158,513 @@ public class ReportActivity extends AppCompatActivity {
     }
 
     private void loadAnalysisResult() {
-        // 프로젝트 정보 가져오기
+        // 이력에서 연 경우 저장된 결과 표시
         Intent intent = getIntent();
-        String projectTitle = intent.getStringExtra("project_title");
-        if (projectTitle != null) {
-            projectName.setText("\"" + projectTitle + "\"");
-        }
-
-        // TODO: 실제 구현에서는 백엔드 API 호출
-        // String sessionId = intent.getStringExtra("session_id");
-        // fetchAnalysisResultFromAPI(sessionId);
-
-        // 현재는 Mock 데이터 사용
-        useMockData();
-    }
-
-    private void useMockData() {
-        // Mock 분석 결과 데이터 (실제로는 백엔드에서 받아올 데이터)
-        MockAnalysisResult mockData = createMockData();
-        renderAnalysisResult(mockData);
-    }
-
-    private MockAnalysisResult createMockData() {
-        MockAnalysisResult data = new MockAnalysisResult();
-        data.businessName = "헬스케어 앱 런칭";
-        data.overallRiskScore = 42.5;
-        data.severity = 5;
-        data.occurrence = 6;
-        data.detection = 7;
-        data.totalExpectedLoss = 45000000;
-        data.timeCost = 13500000;
-        data.directInvestment = 11250000;
-        data.personnelCost = 11250000;
-        data.executiveSummary = "초기 자본과 기술 역량을 고려할 때 MVP를 빠르게 출시하되, AI 기능은 단계적으로 고도화하는 전략이 필요";
-
-        // AI 추천사항
-        data.aiRecommendations = new String[]{
-            "1단계: 핵심 기능 MVP 개발 - 3개월 내 기본 다이어트 플래너 출시",
-            "2단계: 사용자 피드백 수집 - 베타 테스터 100명 확보 및 개선",
-            "3단계: AI 기능 고도화 - 맞춤형 추천 알고리즘 개발 착수"
+        long analysisId = intent.getLongExtra("analysis_id", -1);
+        if (analysisId >= 0) {
+            loadSavedAnalysis(analysisId);
+            return;
+        }
+
+        // 프로젝트 정보와 답변은 세션에서 조회
+        session = SessionRepository.getInstance().get(intent.getStringExtra(SessionRepository.EXTRA_SESSION_ID));
+        if (session == null) {
+            Toast.makeText(this, "분석 정보를 찾을 수 없습니다. 다시 시도해주세요", Toast.LENGTH_SHORT).show();
+            finish();
+            return;
+        }
+        projectName.setText("\"" + session.getTitle() + "\"");
+
+        ProjectInput input = session.toProjectInput();
+        projectInput = input;
+        cacheKey = ReportCache.keyOf(input);
+
+        // 같은 입력으로 분석한 결과가 메모리에 있으면 바로 표시
+        AnalysisResult cached = reportCache.getFromMemory(cacheKey);
+        if (cached != null) {
+            Metrics.counter(Metrics.REPORT_CACHE_MEMORY_HITS).increment();
+            renderAnalysisResult(cached);
+            return;
+        }
+
+        // 디스크 캐시는 백그라운드에서 확인하고, 없으면 분석 시작
+        analysisTask = AppExecutors.background().submit(() -> {
+            AnalysisResult stored = reportCache.get(cacheKey);
+            AppExecutors.runOnMain(() -> {
+                if (!isScreenActive()) {
+                    return;
+                }
+                if (stored != null) {
+                    Metrics.counter(Metrics.REPORT_CACHE_DISK_HITS).increment();
+                    renderAnalysisResult(stored);
+                } else {
+                    Metrics.counter(Metrics.REPORT_CACHE_MISSES).increment();
+                    startAnalysis(input);
+                }
+            });
+        });
+    }
+
+    private void startAnalysis(ProjectInput input) {
+        // 백엔드 세션이 있으면 API로 분석 결과 요청
+        String sessionId = session.getRemoteSessionId();
+        if (ApiProvider.isRemoteEnabled() && sessionId != null) {
+            streamAnalysisFromAPI(sessionId, input);
+        } else {
+            analyzeLocally(input, true);
+        }
+    }
+
+    private void loadSavedAnalysis(long analysisId) {
+        AnalysisHistoryStore.getInstance(this).loadRecordAsync(analysisId, record -> {
+            if (!isScreenActive()) {
+                return;
+            }
+            if (record == null) {
+                Toast.makeText(this, "저장된 분석을 찾을 수 없습니다", Toast.LENGTH_SHORT).show();
+                finish();
+                return;
+            }
+            projectName.setText("\"" + record.title + "\"");
+            savedAnalysisId = record.id;
+            savedRecord = record;
+            renderAnalysisResult(record.result);
+        });
+    }
+
+    private void showSaveOptions() {
+        String[] options = {
+                "분석 이력에 저장", "이 보고서를 PDF로 내보내기", "이 보고서를 CSV로 내보내기",
+                "전체 이력을 PDF로 내보내기", "전체 이력을 CSV로 내보내기"
         };
+        new AlertDialog.Builder(this)
+                .setTitle("보고서 저장")
+                .setItems(options, (dialog, which) -> {
+                    switch (which) {
+                        case 0:
+                            saveAnalysis();
+                            break;
+                        case 1:
+                            exportCurrentReport(ReportExporter.Format.PDF);
+                            break;
+                        case 2:
+                            exportCurrentReport(ReportExporter.Format.CSV);
+                            break;
+                        case 3:
+                            exportHistory(ReportExporter.Format.PDF);
+                            break;
+                        default:
+                            exportHistory(ReportExporter.Format.CSV);
+                            break;
+                    }
+                })
+                .show();
+    }
 
-        return data;
+    private void exportCurrentReport(ReportExporter.Format format) {
+        if (!exportController.export(ReportExportController.KIND_CURRENT_REPORT, savedAnalysisId, format,
+                "risk_report")) {
+            Toast.makeText(this, "분석이 끝난 후 내보낼 수 있습니다", Toast.LENGTH_SHORT).show();
+        }
     }
 
-    private void renderAnalysisResult(MockAnalysisResult data) {
-        // 1. RPN 위험도 표시 (android:id="@+id/some_id")
-        int riskScoreInt = (int) data.overallRiskScore;
-        riskScore.setText(String.valueOf(riskScoreInt));
+    /**
+     * 저장된 분석 전체 내보내기 (저장소에서 페이지 단위로 읽음)
+     */
+    private void exportHistory(ReportExporter.Format format) {
+        exportController.export(ReportExportController.KIND_HISTORY, -1, format, "risk_history");
+    }
 
-        // 2. 원형 차트 애니메이션 (android:id="@+id/svg")
-        ObjectAnimator progressAnimator = ObjectAnimator.ofInt(riskChart, "progress", 0, riskScoreInt);
-        progressAnimator.setDuration(1500);
-        progressAnimator.start();
+    /**
+     * 내보내기 대상 (저장된 분석은 저장소에서 다시 읽으므로 화면이 다시 생성되어도 만들 수 있음)
+     */
+    private ReportExporter.Source exportSource(int kind, long recordId) {
+        AnalysisHistoryStore store = AnalysisHistoryStore.getInstance(this);
+        if (kind == ReportExportController.KIND_HISTORY) {
+            return store;
+        }
+        if (recordId >= 0) {
+            return store.recordSource(recordId);
+        }
+        AnalysisRecord record = buildCurrentRecord();
+        return record != null ? ReportExporter.singleSource(record) : null;
+    }
 
-        // 3. OSD 값 표시 - 백엔드 연동 매핑
-        severity.setText(String.valueOf(data.severity)); // severity → 심각도
-        occurrence.setText(String.valueOf(data.occurrence)); // occurrence → 발생도
-        detection.setText(String.valueOf(data.detection)); // detection → 검출도
+    /**
+     * 화면에 표시 중인 분석 (아직 분석 중이면 null)
+     */
+    private AnalysisRecord buildCurrentRecord() {
+        if (savedRecord != null) {
+            return savedRecord;
+        }
+        if (currentResult == null || projectInput == null) {
+            return null;
+        }
+        AnalysisRecord record = new AnalysisRecord();
+        record.id = Math.max(savedAnalysisId, 0);
+        record.title = projectInput.getTitle();
+        record.description = projectInput.getDescription();
+        record.budget = session.getBudgetText();
+        record.createdAt = System.currentTimeMillis();
+        record.answers = projectInput.getAnswers();
+        record.result = currentResult;
+        return record;
+    }
+
+    /**
+     * 현재 분석 결과를 이력에 저장 (쓰기는 저장소의 백그라운드 스레드에서 수행)
+     */
+    private void saveAnalysis() {
+        if (savedAnalysisId >= 0) {
+            long editedBudget = whatIfPanel != null ? whatIfPanel.getEditedBudgetManwon() : -1;
+            if (editedBudget >= 0) {
+                saveEditedBudget(editedBudget);
+            } else {
+                Toast.makeText(this, "이미 저장된 보고서입니다", Toast.LENGTH_SHORT).show();
+            }
+            return;
+        }
+        AnalysisRecord record = buildCurrentRecord();
+        if (record == null) {
+            Toast.makeText(this, "분석이 끝난 후 저장할 수 있습니다", Toast.LENGTH_SHORT).show();
+            return;
+        }
+
+        saveButton.setEnabled(false);
+        AnalysisHistoryStore.getInstance(this).saveAsync(record, id -> {
+            if (!isScreenActive()) {
+                return;
+            }
+            if (id >= 0) {
+                savedAnalysisId = id;
+                Toast.makeText(this, "보고서가 분석 이력에 저장되었습니다", Toast.LENGTH_SHORT).show();
+            } else {
+                saveButton.setEnabled(true);
+                Toast.makeText(this, "저장에 실패했습니다. 다시 시도해주세요", Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
+    /**
+     * 가정 분석에서 바꾼 예산을 저장된 분석에 반영
+     * 점수는 재계산 작업이 충전 중이거나 유휴 상태일 때 다시 계산한다
+     */
+    private void saveEditedBudget(long budgetManwon) {
+        String budget = String.valueOf(budgetManwon);
+        AnalysisHistoryStore.getInstance(this).updateBudgetAsync(savedAnalysisId, budget, updated -> {
+            if (!isScreenActive()) {
+                return;
+            }
+            if (updated) {
+                if (savedRecord != null) {
+                    savedRecord.budget = budget;
+                }
+                Toast.makeText(this, "변경한 예산을 저장했습니다. 점수는 충전 중이거나 기기를 쓰지 않을 때 다시 계산됩니다",
+                        Toast.LENGTH_SHORT).show();
+            } else {
+                Toast.makeText(this, "저장에 실패했습니다. 다시 시도해주세요", Toast.LENGTH_SHORT).show();
+            }
+        });
+    }
+
+    /**
+     * 백엔드 분석 결과를 스트리밍으로 받아 도착하는 항목부터 화면에 표시
+     * (AI 요약이 늦게 와도 점수와 손실액은 먼저 보인다)
+     */
+    private void streamAnalysisFromAPI(String sessionId, ProjectInput input) {
+        Call<ResponseBody> call = ApiProvider.get(this).getAnalysisApi()
+                .streamAnalysis(new AnalysisRequest(sessionId, input.getAnswers()));
+        // 본문은 한 번만 읽을 수 있으므로 병합하지 않음 (재시도는 응답 헤더 수신까지만)
+        Future<Response<ResponseBody>> request = ApiProvider.get(this).getScheduler().enqueue(null, call);
+        streamRequest = request;
+
+        analysisTask = AppExecutors.background().submit(() -> {
+            Timer streamTimer = Metrics.timer(Metrics.ANALYSIS_STREAM);
+            long startedAt = streamTimer.start();
+            try {
+                Response<ResponseBody> response = RequestScheduler.await(request);
+                if (!response.isSuccessful() || response.body() == null) {
+                    Log.w(TAG, "Analysis stream returned " + response.code() + ", using local engine");
+                    AppExecutors.runOnMain(() -> fallbackToLocal(input));
+                    return;
+                }
+                AnalysisResult result;
+                try (ResponseBody body = response.body()) {
+                    result = STREAM_PARSER.parse(body.charStream(), new StreamRenderer());
+                }
+                streamTimer.stop(startedAt);
+                reportCache.put(cacheKey, result);
+            } catch (IOException | RuntimeException e) {
+                if (!request.isCancelled() && !call.isCanceled()) {
+                    Log.w(TAG, "Analysis stream failed, using local engine", e);
+                    AppExecutors.runOnMain(() -> fallbackToLocal(input));
+                }
+            }
+        });
+    }
+
+    private void fallbackToLocal(ProjectInput input) {
+        Metrics.counter(Metrics.ANALYSIS_FAILURES).increment();
+        if (isScreenActive()) {
+            // 백엔드 결과를 대신한 임시 결과이므로 캐시하지 않음 (다음에 열 때 백엔드에 다시 요청)
+            analyzeLocally(input, false);
+        }
+    }
+
+    private boolean isScreenActive() {
+        return !isFinishing() && !isDestroyed();
+    }
+
+    /**
+     * 스트리밍 이벤트를 메인 스레드에서 해당 영역에만 반영
+     */
+    private class StreamRenderer implements AnalysisStreamParser.Listener {
+        @Override
+        public void onRiskScore(double overallRiskScore) {
+            AppExecutors.runOnMain(() -> {
+                if (isScreenActive()) {
+                    renderRiskScore(overallRiskScore);
+                }
+            });
+        }
+
+        @Override
+        public void onFactors(int severityValue, int occurrenceValue, int detectionValue) {
+            AppExecutors.runOnMain(() -> {
+                if (isScreenActive()) {
+                    renderFactors(severityValue, occurrenceValue, detectionValue);
+                }
+            });
+        }
 
-        // 4. 현금 손실액 표시 (total_expected_loss → 현금손실액 시뮬레이션 금액)
-        totalLoss.setText("₩" + String.format("%,d", data.totalExpectedLoss));
+        @Override
+        public void onLoss(long total, long timeCost, long directInvestment, long personnelCost) {
+            AppExecutors.runOnMain(() -> {
+                if (isScreenActive()) {
+                    renderLoss(total, timeCost, directInvestment, personnelCost);
+                }
+            });
+        }
+
+        @Override
+        public void onSummary(String executiveSummary) {
+            AppExecutors.runOnMain(() -> {
+                if (isScreenActive()) {
+                    aiSummary.setText(executiveSummary);
+                }
+            });
+        }
+
+        @Override
+        public void onRecommendation(int index, String recommendation) {
+            AppExecutors.runOnMain(() -> {
+                if (isScreenActive()) {
+                    LinearLayout steps = ensureActionSteps();
+                    if (index == 0) {
+                        steps.removeAllViews();
+                    }
+                    steps.addView(createActionStepView(steps, index + 1, recommendation));
+                }
+            });
+        }
+
+        @Override
+        public void onComplete(AnalysisResult result) {
+            Log.d(TAG, "Analysis stream completed");
+            AppExecutors.runOnMain(() -> {
+                currentResult = result;
+                if (isScreenActive()) {
+                    showExternalLink();
+                    showWhatIf(result);
+                }
+            });
+        }
+    }
+
+    /**
+     * 로컬 RPN 엔진으로 분석 (UI 스레드를 막지 않도록 백그라운드에서 계산)
+     *
+     * @param cacheResult 결과를 보고서 캐시에 저장할지 (백엔드 실패 시의 대체 분석이면 false)
+     */
+    private void analyzeLocally(ProjectInput input, boolean cacheResult) {
+        analysisTask = AppExecutors.background().submit(() -> {
+            Timer analysisTimer = Metrics.timer(Metrics.ANALYSIS_LOCAL);
+            long analysisStartedAt = analysisTimer.start();
+            AnalysisResult result = RPN_ENGINE.analyze(input);
+
+            // 손실액은 예산과 OSD로 몬테카를로 시뮬레이션한 분포로 대체
+            Timer simulationTimer = Metrics.timer(Metrics.ANALYSIS_LOSS_SIMULATION);
+            long simulationStartedAt = simulationTimer.start();
+            LOSS_SIMULATOR.simulate(input.getBudgetManwon(), result.severity, result.occurrence, result.detection)
+                    .applyTo(result);
+            RiskScorer.markLocal(result);
+            long simulationNanos = simulationTimer.stop(simulationStartedAt);
+            Log.d(TAG, "Loss simulation took " + simulationNanos / 1_000_000 + "ms");
+            analysisTimer.stop(analysisStartedAt);
+            if (cacheResult) {
+                reportCache.put(cacheKey, result);
+            }
+
+            AppExecutors.runOnMain(() -> {
+                if (!isFinishing() && !isDestroyed()) {
+                    renderAnalysisResult(result);
+                }
+            });
+        });
+    }
 
-        // 5. 비용 분류 프로그레스 바 애니메이션
-        Handler handler = new Handler();
-        handler.postDelayed(() -> {
-            int timePercent = (int) ((double) data.timeCost / data.totalExpectedLoss * 100);
-            int capexPercent = (int) ((double) data.directInvestment / data.totalExpectedLoss * 100);
-            int opexPercent = (int) ((double) data.personnelCost / data.totalExpectedLoss * 100);
+    private void renderAnalysisResult(AnalysisResult data) {
+        Timer renderTimer = Metrics.timer(Metrics.RENDER_REPORT);
+        long renderStartedAt = renderTimer.start();
+        currentResult = data;
+
+        // 1~2. RPN 위험도와 원형 차트
+        renderRiskScore(data.overallRiskScore);
+
+        // 3. OSD 값 표시 - 백엔드 연동 매핑
+        renderFactors(data.severity, data.occurrence, data.detection);
 
-            ObjectAnimator.ofInt(progressTime, "progress", 0, timePercent).setDuration(1000).start();
-            ObjectAnimator.ofInt(progressCapex, "progress", 0, capexPercent).setDuration(1000).start();
-            ObjectAnimator.ofInt(progressOpex, "progress", 0, opexPercent).setDuration(1000).start();
-        }, 300);
+        // 4~5. 현금 손실액과 비용 분류 프로그레스 바
+        renderLoss(data.totalExpectedLoss, data.timeCost, data.directInvestment, data.personnelCost);
+        renderLossPercentiles(data.lossP50, data.lossP90, data.lossP99);
 
         // 6. AI 전문가 조언 표시 (ai_recommendations → AI 조언)
         aiSummary.setText(data.executiveSummary);
 
         // 7. 실행 계획 단계 렌더링 (전문가 매칭)
         renderActionSteps(data.aiRecommendations);
+
+        // 8. 외부 연계 카드
+        showExternalLink();
+
+        // 9. 가정 분석 슬라이더
+        showWhatIf(data);
+
+        renderTimer.stop(renderStartedAt);
+    }
+
+    private void renderRiskScore(double overallRiskScore) {
+        // RPN 위험도 원형 차트 - 현재 값에서 이어서 진행
+        riskDashboard.setRiskScore(overallRiskScore, RESULT_ANIMATION_MS);
+    }
+
+    private void renderFactors(int severityValue, int occurrenceValue, int detectionValue) {
+        // 아직 도착하지 않은 값(0)은 그대로 둔다
+        if (severityValue > 0) {
+            severity.setText(String.valueOf(severityValue)); // severity → 심각도
+        }
+        if (occurrenceValue > 0) {
+            occurrence.setText(String.valueOf(occurrenceValue)); // occurrence → 발생도
+        }
+        if (detectionValue > 0) {
+            detection.setText(String.valueOf(detectionValue)); // detection → 검출도
+        }
+    }
+
+    private void renderLoss(long total, long timeCost, long directInvestment, long personnelCost) {
+        // 현금 손실액 표시 (total_expected_loss → 현금손실액 시뮬레이션 금액)
+        if (total <= 0) {
+            return;
+        }
+        totalLoss.setText("₩" + String.format(Locale.KOREA, "%,d", total));
+
+        // 비용 분류 막대 (위험도 차트와 같은 길이의 애니메이션으로 진행)
+        renderBreakdown(total, timeCost, directInvestment, personnelCost, RESULT_ANIMATION_MS);
+    }
+
+    private void renderBreakdown(long total, long timeCost, long directInvestment, long personnelCost,
+                                 long durationMs) {
+        costBreakdown[0] = timeCost;
+        costBreakdown[1] = directInvestment;
+        costBreakdown[2] = personnelCost;
+        costBreakdown[3] = Math.max(0, total - timeCost - directInvestment - personnelCost);
+        costBreakdownView.setBreakdown(costBreakdown, total, durationMs);
+    }
+
+    private void renderLossPercentiles(long p50, long p90, long p99) {
+        // 시뮬레이션 결과가 없는 경우(백엔드/저장된 보고서) 숨김
+        if (p99 <= 0) {
+            lossPercentiles.setVisibility(View.GONE);
+            return;
+        }
+        lossPercentiles.setText(String.format(Locale.KOREA, "P50 ₩%,d · P90 ₩%,d · P99 ₩%,d", p50, p90, p99));
+        lossPercentiles.setVisibility(View.VISIBLE);
+    }
+
+    /**
+     * 가정 분석 카드 표시 (결과가 다시 도착하면 새 결과를 기준으로 초기화)
+     */
+    private void showWhatIf(AnalysisResult result) {
+        if (result.totalExpectedLoss <= 0) {
+            return;
+        }
+        if (whatIfPanel == null) {
+            whatIfPanel = new WhatIfPanel(whatIfStub.inflate(), this::renderWhatIf);
+        }
+        long budgetManwon = savedRecord != null
+                ? ProjectInput.parseBudget(savedRecord.budget)
+                : projectInput != null ? projectInput.getBudgetManwon() : ProjectInput.BUDGET_UNKNOWN;
+        whatIfPanel.bind(result, budgetManwon);
+    }
+
+    /**
+     * 가정 분석 값 표시 (슬라이더를 움직이는 동안 프레임마다 호출되므로 객체를 만들지 않음)
+     * 차트와 막대는 대시보드의 짧은 애니메이션으로 현재 위치에서 이어서 따라간다
+     */
+    private void renderWhatIf(WhatIfModel model, boolean modified) {
+        riskDashboard.setRiskScore(model.getOverallRiskScore(), WHAT_IF_ANIMATION_MS);
+        WhatIfPanel.setNumber(severity, model.getSeverity(), "", "");
+        WhatIfPanel.setNumber(occurrence, model.getOccurrence(), "", "");
+        WhatIfPanel.setNumber(detection, model.getDetection(), "", "");
+
+        long total = model.getTotalExpectedLoss();
+        WhatIfPanel.setNumber(totalLoss, total, "₩", "");
+        renderBreakdown(total, model.getTimeCost(), model.getDirectInvestment(), model.getPersonnelCost(),
+                WHAT_IF_ANIMATION_MS);
+
+        // 분위수는 기준 시뮬레이션 결과이므로 값을 바꾼 동안에는 숨김
+        if (modified) {
+            lossPercentiles.setVisibility(View.GONE);
+        } else if (currentResult != null) {
+            renderLossPercentiles(currentResult.lossP50, currentResult.lossP90, currentResult.lossP99);
+        }
     }
 
     private void renderActionSteps(String[] recommendations) {
-        actionSteps.removeAllViews();
+        if (recommendations == null || recommendations.length == 0) {
+            if (actionSteps != null) {
+                actionSteps.removeAllViews();
+            }
+            return;
+        }
 
+        LinearLayout steps = ensureActionSteps();
+        steps.removeAllViews();
         for (int i = 0; i < recommendations.length; i++) {
-            View stepView = createActionStepView(i + 1, recommendations[i]);
-            actionSteps.addView(stepView);
+            View stepView = createActionStepView(steps, i + 1, recommendations[i]);
+            steps.addView(stepView);
         }
     }
 
-    private View createActionStepView(int stepNumber, String recommendation) {
-        View stepView = LayoutInflater.from(this).inflate(R.layout.action_step_item, actionSteps, false);
+    /**
+     * 실행 계획 목록은 표시할 단계가 생길 때 처음 inflate
+     */
+    private LinearLayout ensureActionSteps() {
+        if (actionSteps == null) {
+            actionSteps = (LinearLayout) actionStepsStub.inflate();
+        }
+        return actionSteps;
+    }
+
+    private void showExternalLink() {
+        if (externalLinkStub != null) {
+            externalLinkStub.inflate();
+            externalLinkStub = null;
+        }
+    }
+
+    private View createActionStepView(LinearLayout parent, int stepNumber, String recommendation) {
+        View stepView = LayoutInflater.from(this).inflate(R.layout.action_step_item, parent, false);
 
         TextView stepNumberView = stepView.findViewById(R.id.step_number);
         TextView stepTitle = stepView.findViewById(R.id.step_title);
@@ -182,14 +675,30 @@ public class ReportActivity extends AppCompatActivity {
         return stepView;
     }
 
-    // Mock 데이터 클래스
-    private static class MockAnalysisResult {
-        String businessName;
-        double overallRiskScore;
-        int severity, occurrence, detection;
-        int totalExpectedLoss;
-        int timeCost, directInvestment, personnelCost;
-        String executiveSummary;
-        String[] aiRecommendations;
+    @Override
+    protected void onSaveInstanceState(Bundle outState) {
+        super.onSaveInstanceState(outState);
+        exportController.saveState(outState);
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+        // 진행 중인 분석 작업 취소
+        if (analysisTask != null) {
+            analysisTask.cancel(true);
+        }
+        if (streamRequest != null) {
+            streamRequest.cancel(true);
+        }
+        // 진행 중인 내보내기 중단 (쓰다 만 파일은 작업 스레드에서 삭제)
+        exportController.cancel();
+        if (whatIfPanel != null) {
+            whatIfPanel.release();
+        }
+        // 결과 화면을 떠나면 분석 세션도 종료
+        if (isFinishing() && session != null) {
+            SessionRepository.getInstance().remove(session.getId());
+        }
     }
 }
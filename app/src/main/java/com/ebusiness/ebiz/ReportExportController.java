@@ -0,0 +1,251 @@
+package com.ebusiness.ebiz;
+
+import android.net.Uri;
+import android.os.Bundle;
+import android.os.SystemClock;
+import android.provider.DocumentsContract;
+import android.util.Log;
+import android.view.View;
+import android.widget.ProgressBar;
+import android.widget.TextView;
+import android.widget.Toast;
+import androidx.activity.result.ActivityResultLauncher;
+import androidx.activity.result.contract.ActivityResultContracts;
+import androidx.appcompat.app.AlertDialog;
+import androidx.appcompat.app.AppCompatActivity;
+import com.ebusiness.ebiz.export.ReportExporter;
+import com.ebusiness.ebiz.metrics.Metrics;
+import com.ebusiness.ebiz.metrics.Timer;
+import java.io.BufferedOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.Future;
+
+/**
+ * 보고서 내보내기 (저장 위치 선택 → 백그라운드 기록 → 진행률/취소)
+ * 기록은 ReportExporter가 페이지 단위로 나눠 읽고 바로 파일에 쓰므로 이력이 많아도 메모리 사용량이 일정하다.
+ * 취소하거나 실패하면 쓰다 만 파일은 삭제한다.
+ *
+ * registerForActivityResult를 호출하므로 Activity 생성 중(필드 초기화)에 만들어야 한다.
+ * 저장 위치를 고르는 동안 화면이 다시 생성될 수 있으므로, 내보낼 대상(종류와 분석 ID)은 저장 상태에
+ * 보관했다가 SourceProvider로 다시 만든다.
+ */
+final class ReportExportController {
+    private static final String TAG = "ReportExportController";
+    private static final long PROGRESS_INTERVAL_MS = 100;
+
+    private static final String STATE_PENDING_KIND = "export_pending_kind";
+    private static final String STATE_PENDING_RECORD_ID = "export_pending_record_id";
+
+    // 내보내기 대상 종류
+    static final int KIND_CURRENT_REPORT = 1;
+    static final int KIND_HISTORY = 2;
+
+    /**
+     * 내보내기 대상 생성 (recordId는 저장된 분석이면 ID, 아니면 -1)
+     * 아직 준비되지 않았으면 null
+     */
+    interface SourceProvider {
+        ReportExporter.Source sourceFor(int kind, long recordId);
+    }
+
+    private static final ReportExporter EXPORTER = new ReportExporter();
+
+    private final AppCompatActivity activity;
+    private final SourceProvider sourceProvider;
+    private final ActivityResultLauncher<String> pdfLauncher;
+    private final ActivityResultLauncher<String> csvLauncher;
+
+    // 저장 위치를 고르는 동안 보관하는 내보내기 대상 (화면이 다시 생성되면 source는 종류와 ID로 다시 만듦)
+    private ReportExporter.Source pendingSource;
+    private int pendingKind = 0;
+    private long pendingRecordId = -1;
+
+    // 진행 중인 내보내기
+    private Future<?> exportTask;
+    private volatile boolean cancelled = false;
+    private long lastProgressAt = 0; // 작업 스레드 전용
+    private AlertDialog progressDialog;
+    private ProgressBar progressBar;
+    private TextView progressStatus;
+
+    ReportExportController(AppCompatActivity activity, SourceProvider sourceProvider) {
+        this.activity = activity;
+        this.sourceProvider = sourceProvider;
+        pdfLauncher = activity.registerForActivityResult(
+                new ActivityResultContracts.CreateDocument(ReportExporter.Format.PDF.mimeType),
+                uri -> onDocumentCreated(uri, ReportExporter.Format.PDF));
+        csvLauncher = activity.registerForActivityResult(
+                new ActivityResultContracts.CreateDocument(ReportExporter.Format.CSV.mimeType),
+                uri -> onDocumentCreated(uri, ReportExporter.Format.CSV));
+    }
+
+    boolean isRunning() {
+        return exportTask != null;
+    }
+
+    /**
+     * 저장 위치를 고른 뒤 내보내기 시작 (fileName은 확장자를 제외한 기본 파일 이름)
+     * @return 대상이 준비되지 않아 시작하지 못했으면 false
+     */
+    boolean export(int kind, long recordId, ReportExporter.Format format, String fileName) {
+        if (isRunning()) {
+            Toast.makeText(activity, "이미 내보내는 중입니다", Toast.LENGTH_SHORT).show();
+            return true;
+        }
+        ReportExporter.Source source = sourceProvider.sourceFor(kind, recordId);
+        if (source == null) {
+            return false;
+        }
+        pendingSource = source;
+        pendingKind = kind;
+        pendingRecordId = recordId;
+        String name = fileName + "_" + new SimpleDateFormat("yyyyMMdd", Locale.KOREA).format(new Date())
+                + format.extension;
+        (format == ReportExporter.Format.PDF ? pdfLauncher : csvLauncher).launch(name);
+        return true;
+    }
+
+    void saveState(Bundle outState) {
+        if (pendingKind != 0) {
+            outState.putInt(STATE_PENDING_KIND, pendingKind);
+            outState.putLong(STATE_PENDING_RECORD_ID, pendingRecordId);
+        }
+    }
+
+    /**
+     * 저장 위치 선택 중 화면이 다시 생성된 경우 대상 정보 복원 (onCreate에서 호출)
+     */
+    void restoreState(Bundle savedInstanceState) {
+        if (savedInstanceState != null) {
+            pendingKind = savedInstanceState.getInt(STATE_PENDING_KIND, 0);
+            pendingRecordId = savedInstanceState.getLong(STATE_PENDING_RECORD_ID, -1);
+        }
+    }
+
+    /**
+     * 진행 중인 내보내기 중단 (화면 종료 시)
+     */
+    void cancel() {
+        cancelled = true;
+        if (progressDialog != null) {
+            progressDialog.dismiss();
+            progressDialog = null;
+        }
+    }
+
+    private void onDocumentCreated(Uri uri, ReportExporter.Format format) {
+        // 화면이 다시 생성된 경우 pendingSource가 없으므로 대상 정보로 다시 만듦
+        ReportExporter.Source source = pendingSource != null || pendingKind == 0
+                ? pendingSource : sourceProvider.sourceFor(pendingKind, pendingRecordId);
+        pendingSource = null;
+        pendingKind = 0;
+        pendingRecordId = -1;
+        if (uri == null) {
+            return;
+        }
+        if (source == null || activity.isFinishing() || activity.isDestroyed()) {
+            // 방금 만든 빈 문서를 남기지 않음
+            AppExecutors.background().execute(() -> deleteDocument(uri));
+            if (source == null && !activity.isFinishing()) {
+                Toast.makeText(activity, "보고서를 불러오는 중이라 내보내지 못했습니다. 다시 시도해주세요",
+                        Toast.LENGTH_SHORT).show();
+            }
+            return;
+        }
+
+        cancelled = false;
+        lastProgressAt = 0;
+        showProgressDialog();
+        exportTask = AppExecutors.background().submit(() -> {
+            Timer timer = Metrics.timer(Metrics.REPORT_EXPORT);
+            long startedAt = timer.start();
+            int written = -1;
+            try (OutputStream out = openOutputStream(uri)) {
+                written = EXPORTER.export(source, format, out, this::onProgress, () -> cancelled);
+                if (!cancelled) {
+                    timer.stop(startedAt);
+                    Metrics.counter(Metrics.REPORT_EXPORT_RECORDS).add(written);
+                }
+            } catch (IOException | RuntimeException e) {
+                Log.w(TAG, "Failed to export report", e);
+                written = -1;
+            }
+
+            if (cancelled || written < 0) {
+                deleteDocument(uri);
+            }
+            int result = written;
+            AppExecutors.runOnMain(() -> onExportFinished(result));
+        });
+    }
+
+    private OutputStream openOutputStream(Uri uri) throws IOException {
+        OutputStream out = activity.getContentResolver().openOutputStream(uri, "wt");
+        if (out == null) {
+            throw new FileNotFoundException(uri.toString());
+        }
+        return new BufferedOutputStream(out, 32 * 1024);
+    }
+
+    private void deleteDocument(Uri uri) {
+        try {
+            DocumentsContract.deleteDocument(activity.getContentResolver(), uri);
+        } catch (FileNotFoundException | RuntimeException e) {
+            Log.w(TAG, "Failed to delete partial export", e);
+        }
+    }
+
+    /**
+     * 진행률 (작업 스레드) - PROGRESS_INTERVAL_MS마다 한 번만 화면에 반영
+     */
+    private void onProgress(int done, long total) {
+        long now = SystemClock.uptimeMillis();
+        if (done < total && now - lastProgressAt < PROGRESS_INTERVAL_MS) {
+            return;
+        }
+        lastProgressAt = now;
+        AppExecutors.runOnMain(() -> {
+            if (progressDialog == null) {
+                return;
+            }
+            progressBar.setIndeterminate(false);
+            progressBar.setProgress(total > 0 ? (int) (done * 100 / total) : 100);
+            progressStatus.setText(done + " / " + total + "건 기록 중...");
+        });
+    }
+
+    private void showProgressDialog() {
+        View content = activity.getLayoutInflater().inflate(R.layout.dialog_export_progress, null);
+        progressBar = content.findViewById(R.id.export_progress);
+        progressStatus = content.findViewById(R.id.export_status);
+        progressDialog = new AlertDialog.Builder(activity)
+                .setTitle("보고서 내보내기")
+                .setView(content)
+                .setCancelable(false)
+                .setNegativeButton("취소", (dialog, which) -> cancelled = true)
+                .show();
+    }
+
+    private void onExportFinished(int written) {
+        exportTask = null;
+        if (progressDialog != null) {
+            progressDialog.dismiss();
+            progressDialog = null;
+        }
+        if (activity.isFinishing() || activity.isDestroyed()) {
+            return;
+        }
+        if (cancelled) {
+            Toast.makeText(activity, "내보내기를 취소했습니다", Toast.LENGTH_SHORT).show();
+        } else if (written < 0) {
+            Toast.makeText(activity, "내보내기에 실패했습니다. 다시 시도해주세요", Toast.LENGTH_SHORT).show();
+        } else {
+            Toast.makeText(activity, "보고서를 내보냈습니다 (" + written + "건)", Toast.LENGTH_SHORT).show();
+        }
+    }
+}
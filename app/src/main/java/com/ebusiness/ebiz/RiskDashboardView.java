@@ -0,0 +1,247 @@
+package com.ebusiness.ebiz;
+
+import android.animation.ValueAnimator;
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.RectF;
+import android.graphics.Typeface;
+import android.util.AttributeSet;
+import android.util.TypedValue;
+import android.view.View;
+import android.view.animation.DecelerateInterpolator;
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+
+/**
+ * 보고서 위험도 대시보드 (RPN 위험도 원형 차트 / 비용 분류 막대)
+ * ProgressBar 여러 개와 항목별 애니메이터 대신 View 하나가 Canvas에 직접 그린다.
+ *
+ * 모든 값은 ValueAnimator 하나(애니메이션 시계)로 움직인다. 새 값이 오면 현재 표시 중인 값에서 출발해
+ * 모든 항목이 같은 시계로 목표값까지 이동하므로, 가정 분석처럼 값이 자주 바뀌어도 끊기지 않고 따라간다.
+ * onDraw와 값 설정 메서드는 객체를 할당하지 않는다(배열/Paint/RectF는 미리 생성해 재사용).
+ * 비용 분류 항목 수는 setCategories()로 정하며 높이도 항목 수에 맞춰 늘어난다.
+ *
+ * 원형 차트는 app:showRing으로 끌 수 있다. 보고서에서는 RPN 카드에 원형 차트만, 손실액 카드에
+ * 비용 분류 막대만 그리는 인스턴스를 하나씩 둔다(분류가 나누는 총액 바로 아래에 표시).
+ */
+public class RiskDashboardView extends View {
+    private static final int TRACK_COLOR = 0xFFE5E7EB;
+    private static final int RING_COLOR = 0xFFF59E0B;
+    private static final int TEXT_COLOR = 0xFF0A0A0A;
+    private static final int SECONDARY_TEXT_COLOR = 0xFF4A5568;
+
+    // 치수 (dp/sp)
+    private final float ringDiameter = dp(200);
+    private final float ringThickness = dp(25);
+    private final float sectionGap = dp(32);
+    private final float rowHeight = dp(44);
+    private final float rowGap = dp(12);
+    private final float barHeight = dp(8);
+
+    private final Paint trackPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint ringPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint barTrackPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint barPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint scorePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint labelPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint percentPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final RectF ringBounds = new RectF();
+    private final RectF barBounds = new RectF();
+    private final float scoreBaselineOffset;
+    private final float labelBaselineOffset;
+    private final char[] textBuffer = new char[16];
+    private final boolean showRing;
+
+    // 애니메이션 시계 (모든 값이 공유)
+    private final ValueAnimator clock = ValueAnimator.ofFloat(0f, 1f);
+
+    // 위험도 (0~100)
+    private float scoreFrom, scoreTo, score;
+
+    // 비용 분류 (비율 0~1, 표시 비율은 정수 %)
+    private String[] labels = new String[0];
+    private int[] colors = new int[0];
+    private float[] shareFrom = new float[0];
+    private float[] shareTo = new float[0];
+    private float[] share = new float[0];
+    private int[] percents = new int[0];
+
+    public RiskDashboardView(Context context) {
+        this(context, null);
+    }
+
+    public RiskDashboardView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+
+        TypedArray a = context.obtainStyledAttributes(attrs, R.styleable.RiskDashboardView);
+        showRing = a.getBoolean(R.styleable.RiskDashboardView_showRing, true);
+        a.recycle();
+
+        trackPaint.setStyle(Paint.Style.STROKE);
+        trackPaint.setStrokeWidth(ringThickness);
+        trackPaint.setColor(TRACK_COLOR);
+        ringPaint.setStyle(Paint.Style.STROKE);
+        ringPaint.setStrokeWidth(ringThickness);
+        ringPaint.setColor(RING_COLOR);
+        barTrackPaint.setColor(TRACK_COLOR);
+
+        scorePaint.setColor(TEXT_COLOR);
+        scorePaint.setTextSize(sp(44));
+        scorePaint.setTextAlign(Paint.Align.CENTER);
+        labelPaint.setColor(TEXT_COLOR);
+        labelPaint.setTextSize(sp(14));
+        labelPaint.setTypeface(Typeface.DEFAULT_BOLD);
+        percentPaint.setColor(SECONDARY_TEXT_COLOR);
+        percentPaint.setTextSize(sp(13));
+        percentPaint.setTextAlign(Paint.Align.RIGHT);
+
+        Paint.FontMetrics scoreMetrics = scorePaint.getFontMetrics();
+        scoreBaselineOffset = -(scoreMetrics.ascent + scoreMetrics.descent) / 2;
+        labelBaselineOffset = -labelPaint.getFontMetrics().ascent;
+
+        clock.setInterpolator(new DecelerateInterpolator());
+        clock.addUpdateListener(animation -> {
+            float fraction = animation.getAnimatedFraction();
+            score = scoreFrom + (scoreTo - scoreFrom) * fraction;
+            for (int i = 0; i < share.length; i++) {
+                share[i] = shareFrom[i] + (shareTo[i] - shareFrom[i]) * fraction;
+            }
+            invalidate();
+        });
+    }
+
+    /**
+     * 비용 분류 항목 설정 (이름, 막대 색)
+     */
+    public void setCategories(String[] categoryLabels, int[] categoryColors) {
+        int count = categoryLabels.length;
+        labels = categoryLabels.clone();
+        colors = categoryColors.clone();
+        shareFrom = new float[count];
+        shareTo = new float[count];
+        share = new float[count];
+        percents = new int[count];
+        requestLayout();
+        invalidate();
+    }
+
+    /**
+     * 위험도 (0~100) - durationMs가 0이면 바로 표시
+     */
+    public void setRiskScore(double overallRiskScore, long durationMs) {
+        float target = (float) Math.max(0, Math.min(100, overallRiskScore));
+        beginTransition();
+        scoreTo = target;
+        runTransition(durationMs);
+    }
+
+    /**
+     * 비용 분류 금액 (setCategories() 순서, 값은 복사해 보관하므로 배열을 재사용해도 됨)
+     */
+    public void setBreakdown(long[] amounts, long total, long durationMs) {
+        beginTransition();
+        for (int i = 0; i < shareTo.length; i++) {
+            long amount = i < amounts.length ? amounts[i] : 0;
+            percents[i] = AnalysisResult.percentOf(amount, total);
+            shareTo[i] = total > 0 ? (float) Math.max(0, Math.min(1, (double) amount / total)) : 0f;
+        }
+        runTransition(durationMs);
+    }
+
+    /**
+     * 현재 표시 중인 값을 출발점으로 고정 (진행 중인 애니메이션은 중단)
+     */
+    private void beginTransition() {
+        clock.cancel();
+        scoreFrom = score;
+        System.arraycopy(share, 0, shareFrom, 0, share.length);
+    }
+
+    private void runTransition(long durationMs) {
+        if (durationMs <= 0) {
+            score = scoreTo;
+            System.arraycopy(shareTo, 0, share, 0, share.length);
+            invalidate();
+            return;
+        }
+        clock.setDuration(durationMs);
+        clock.start();
+    }
+
+    @Override
+    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        int width = MeasureSpec.getSize(widthMeasureSpec);
+        float height = showRing ? ringDiameter : 0;
+        if (labels.length > 0) {
+            height = barsOffset() + labels.length * rowHeight + (labels.length - 1) * rowGap;
+        }
+        int desiredHeight = (int) Math.ceil(height) + getPaddingTop() + getPaddingBottom();
+        setMeasuredDimension(resolveSize(width, widthMeasureSpec), resolveSize(desiredHeight, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        float centerX = getPaddingLeft() + (w - getPaddingLeft() - getPaddingRight()) / 2f;
+        float centerY = getPaddingTop() + ringDiameter / 2;
+        float radius = (ringDiameter - ringThickness) / 2;
+        ringBounds.set(centerX - radius, centerY - radius, centerX + radius, centerY + radius);
+    }
+
+    /**
+     * 첫 비용 분류 행의 위쪽 위치 (패딩 제외)
+     */
+    private float barsOffset() {
+        return showRing ? ringDiameter + sectionGap : 0;
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        // 원형 차트 (12시 방향에서 시계 방향)
+        if (showRing) {
+            canvas.drawCircle(ringBounds.centerX(), ringBounds.centerY(), ringBounds.width() / 2, trackPaint);
+            if (score > 0) {
+                canvas.drawArc(ringBounds, -90, 360 * score / 100, false, ringPaint);
+            }
+            int length = WhatIfPanel.formatGrouped((long) scoreTo, "", "", textBuffer);
+            canvas.drawText(textBuffer, 0, length, ringBounds.centerX(),
+                    ringBounds.centerY() + scoreBaselineOffset, scorePaint);
+        }
+
+        // 비용 분류 막대
+        float left = getPaddingLeft();
+        float right = getWidth() - getPaddingRight();
+        float top = getPaddingTop() + barsOffset();
+        float radius = barHeight / 2;
+        for (int i = 0; i < labels.length; i++) {
+            float labelBaseline = top + labelBaselineOffset;
+            canvas.drawText(labels[i], left, labelBaseline, labelPaint);
+            int length = WhatIfPanel.formatGrouped(percents[i], "", "%", textBuffer);
+            canvas.drawText(textBuffer, 0, length, right, labelBaseline, percentPaint);
+
+            float barTop = top + rowHeight - barHeight;
+            barBounds.set(left, barTop, right, barTop + barHeight);
+            canvas.drawRoundRect(barBounds, radius, radius, barTrackPaint);
+            if (share[i] > 0) {
+                barBounds.right = left + Math.max(barHeight, (right - left) * share[i]);
+                barPaint.setColor(colors[i]);
+                canvas.drawRoundRect(barBounds, radius, radius, barPaint);
+            }
+            top += rowHeight + rowGap;
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        clock.cancel();
+    }
+
+    private float dp(float value) {
+        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, value, getResources().getDisplayMetrics());
+    }
+
+    private float sp(float value) {
+        return TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, value, getResources().getDisplayMetrics());
+    }
+}
@@ -0,0 +1,184 @@
+package com.ebusiness.ebiz;
+
+import android.view.View;
+import android.widget.Button;
+import android.widget.SeekBar;
+import android.widget.TextView;
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.analysis.RpnEngine;
+import com.ebusiness.ebiz.analysis.WhatIfModel;
+
+/**
+ * 보고서의 가정 분석 카드 (예산/심각도/발생도/검출도 슬라이더)
+ * 슬라이더 이벤트는 입력값만 바꾸고, 다시 계산과 화면 갱신은 다음 프레임에 한 번만 수행한다.
+ * 드래그 중에는 문자열을 만들지 않도록 숫자를 재사용 버퍼에 써서 표시한다.
+ */
+final class WhatIfPanel implements SeekBar.OnSeekBarChangeListener {
+
+    /**
+     * 값이 바뀐 프레임마다 호출 (modified가 false면 기준 결과로 되돌린 것)
+     */
+    interface Listener {
+        void onWhatIfChanged(WhatIfModel model, boolean modified);
+    }
+
+    private final View root;
+    private final SeekBar budgetBar, severityBar, occurrenceBar, detectionBar;
+    private final TextView budgetValue, severityValue, occurrenceValue, detectionValue;
+    private final Button resetButton;
+    private final Listener listener;
+
+    private final WhatIfModel model = new WhatIfModel();
+    private final Runnable applyTask = this::apply;
+    private boolean applyScheduled = false;
+    private boolean budgetEdited = false;
+
+    private AnalysisResult baseline;
+    private long baselineBudgetManwon;
+
+    WhatIfPanel(View root, Listener listener) {
+        this.root = root;
+        this.listener = listener;
+        budgetBar = root.findViewById(R.id.what_if_budget);
+        severityBar = root.findViewById(R.id.what_if_severity);
+        occurrenceBar = root.findViewById(R.id.what_if_occurrence);
+        detectionBar = root.findViewById(R.id.what_if_detection);
+        budgetValue = root.findViewById(R.id.what_if_budget_value);
+        severityValue = root.findViewById(R.id.what_if_severity_value);
+        occurrenceValue = root.findViewById(R.id.what_if_occurrence_value);
+        detectionValue = root.findViewById(R.id.what_if_detection_value);
+        resetButton = root.findViewById(R.id.what_if_reset);
+
+        budgetBar.setMax(WhatIfModel.BUDGET_STEPS);
+        budgetBar.setOnSeekBarChangeListener(this);
+        severityBar.setOnSeekBarChangeListener(this);
+        occurrenceBar.setOnSeekBarChangeListener(this);
+        detectionBar.setOnSeekBarChangeListener(this);
+        resetButton.setOnClickListener(v -> reset());
+    }
+
+    /**
+     * 기준 분석 결과로 슬라이더 초기화
+     */
+    void bind(AnalysisResult result, long budgetManwon) {
+        baseline = result;
+        baselineBudgetManwon = budgetManwon;
+        model.reset(result, budgetManwon);
+        budgetBar.setProgress(WhatIfModel.stepOf(model.getBudgetManwon()));
+        severityBar.setProgress(model.getSeverity() - RpnEngine.MIN_FACTOR);
+        occurrenceBar.setProgress(model.getOccurrence() - RpnEngine.MIN_FACTOR);
+        detectionBar.setProgress(model.getDetection() - RpnEngine.MIN_FACTOR);
+        updateLabels();
+        resetButton.setEnabled(false);
+        budgetEdited = false;
+    }
+
+    /**
+     * 슬라이더로 바꾼 예산 (만원, 기준 예산에서 바꾸지 않았으면 -1)
+     */
+    long getEditedBudgetManwon() {
+        return budgetEdited ? model.getBudgetManwon() : -1;
+    }
+
+    private void reset() {
+        root.removeCallbacks(applyTask);
+        applyScheduled = false;
+        bind(baseline, baselineBudgetManwon);
+        listener.onWhatIfChanged(model, false);
+    }
+
+    @Override
+    public void onProgressChanged(SeekBar seekBar, int progress, boolean fromUser) {
+        if (!fromUser || baseline == null) {
+            return;
+        }
+        boolean changed;
+        if (seekBar == budgetBar) {
+            changed = model.setBudgetManwon(WhatIfModel.budgetAt(progress));
+            budgetEdited |= changed;
+        } else if (seekBar == severityBar) {
+            changed = model.setSeverity(progress + RpnEngine.MIN_FACTOR);
+        } else if (seekBar == occurrenceBar) {
+            changed = model.setOccurrence(progress + RpnEngine.MIN_FACTOR);
+        } else {
+            changed = model.setDetection(progress + RpnEngine.MIN_FACTOR);
+        }
+        // 터치 이벤트는 프레임보다 자주 올 수 있으므로 프레임마다 한 번만 반영
+        if (changed && !applyScheduled) {
+            applyScheduled = true;
+            root.postOnAnimation(applyTask);
+        }
+    }
+
+    @Override
+    public void onStartTrackingTouch(SeekBar seekBar) {
+    }
+
+    @Override
+    public void onStopTrackingTouch(SeekBar seekBar) {
+    }
+
+    private void apply() {
+        applyScheduled = false;
+        model.recompute();
+        updateLabels();
+        resetButton.setEnabled(true);
+        listener.onWhatIfChanged(model, true);
+    }
+
+    private void updateLabels() {
+        setNumber(budgetValue, model.getBudgetManwon(), "", "만원");
+        setNumber(severityValue, model.getSeverity(), "", "");
+        setNumber(occurrenceValue, model.getOccurrence(), "", "");
+        setNumber(detectionValue, model.getDetection(), "", "");
+    }
+
+    /**
+     * 숫자를 천 단위 구분 기호와 함께 버퍼에 써서 표시 (문자열 할당 없음)
+     * TextView는 넘긴 배열을 복사하지 않고 참조하므로 라벨마다 자기 버퍼를 태그로 둔다
+     */
+    static void setNumber(TextView view, long value, String prefix, String suffix) {
+        char[] buffer = (char[]) view.getTag(R.id.tag_number_buffer);
+        if (buffer == null) {
+            buffer = new char[32];
+            view.setTag(R.id.tag_number_buffer, buffer);
+        }
+        int length = formatGrouped(value, prefix, suffix, buffer);
+        view.setText(buffer, 0, length);
+    }
+
+    static int formatGrouped(long value, String prefix, String suffix, char[] out) {
+        int length = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            out[length++] = prefix.charAt(i);
+        }
+        if (value < 0) {
+            out[length++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long rest = value / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        int end = length + digits + (digits - 1) / 3;
+        int position = end;
+        int written = 0;
+        do {
+            if (written > 0 && written % 3 == 0) {
+                out[--position] = ',';
+            }
+            out[--position] = (char) ('0' + value % 10);
+            value /= 10;
+            written++;
+        } while (value > 0);
+        length = end;
+        for (int i = 0; i < suffix.length(); i++) {
+            out[length++] = suffix.charAt(i);
+        }
+        return length;
+    }
+
+    void release() {
+        root.removeCallbacks(applyTask);
+    }
+}
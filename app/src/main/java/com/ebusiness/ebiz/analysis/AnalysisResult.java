@@ -0,0 +1,61 @@
+package com.ebusiness.ebiz.analysis;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * 리스크 분석 결과
+ * ReportActivity에 표시되는 값들 (백엔드 응답 필드와 동일한 구성)
+ */
+public class AnalysisResult {
+    public static final String SOURCE_LOCAL = "local";
+    public static final String SOURCE_BACKEND = "backend";
+
+    @SerializedName("business_name")
+    public String businessName;
+    @SerializedName("overall_risk_score")
+    public double overallRiskScore; // RPN 100점 만점 환산
+    @SerializedName("severity")
+    public int severity; // OSD (1~10)
+    @SerializedName("occurrence")
+    public int occurrence;
+    @SerializedName("detection")
+    public int detection;
+    @SerializedName("rpn")
+    public int rpn; // severity × occurrence × detection (1~1000)
+    @SerializedName("total_expected_loss")
+    public long totalExpectedLoss; // 원
+    @SerializedName("time_cost")
+    public long timeCost; // 비용 분류 (원)
+    @SerializedName("direct_investment")
+    public long directInvestment;
+    @SerializedName("personnel_cost")
+    public long personnelCost;
+    @SerializedName("loss_p50")
+    public long lossP50; // 손실액 분포 분위수 (원, 시뮬레이션하지 않았으면 0)
+    @SerializedName("loss_p90")
+    public long lossP90;
+    @SerializedName("loss_p99")
+    public long lossP99;
+    @SerializedName("executive_summary")
+    public String executiveSummary;
+    @SerializedName("ai_recommendations")
+    public String[] aiRecommendations;
+    @SerializedName("source")
+    public String source; // 계산한 곳 (SOURCE_LOCAL/SOURCE_BACKEND, 알 수 없으면 null)
+    @SerializedName("engine_version")
+    public int engineVersion; // 로컬 계산 엔진 버전 (RiskScorer.ENGINE_VERSION, 로컬 결과만 사용)
+
+    /**
+     * 전체 손실액 대비 비율(%) 계산
+     */
+    public int percentOfTotal(long part) {
+        return percentOf(part, totalExpectedLoss);
+    }
+
+    public static int percentOf(long part, long total) {
+        if (total <= 0 || part <= 0) {
+            return 0;
+        }
+        return (int) Math.min(100, part * 100 / total);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ebusiness.ebiz.analysis;
+
+/**
+ * 손실액 몬테카를로 시뮬레이션 결과 (금액 단위: 원)
+ */
+public final class LossSimulation {
+    public final int trials;
+    public final double failureRate;   // 실패한 시행 비율
+    public final long meanLoss;        // 평균 손실액 (기대 손실)
+    public final long p50Loss;
+    public final long p90Loss;
+    public final long p99Loss;
+
+    // 비용 분류별 평균 손실액
+    public final long timeCost;
+    public final long directInvestment;
+    public final long personnelCost;
+
+    LossSimulation(int trials, double failureRate, long meanLoss, long p50Loss, long p90Loss, long p99Loss,
+                   long timeCost, long directInvestment, long personnelCost) {
+        this.trials = trials;
+        this.failureRate = failureRate;
+        this.meanLoss = meanLoss;
+        this.p50Loss = p50Loss;
+        this.p90Loss = p90Loss;
+        this.p99Loss = p99Loss;
+        this.timeCost = timeCost;
+        this.directInvestment = directInvestment;
+        this.personnelCost = personnelCost;
+    }
+
+    /**
+     * 분석 결과의 손실액/비용 분류를 시뮬레이션 값으로 교체
+     */
+    public void applyTo(AnalysisResult result) {
+        result.totalExpectedLoss = meanLoss;
+        result.timeCost = timeCost;
+        result.directInvestment = directInvestment;
+        result.personnelCost = personnelCost;
+        result.lossP50 = p50Loss;
+        result.lossP90 = p90Loss;
+        result.lossP99 = p99Loss;
+    }
+}
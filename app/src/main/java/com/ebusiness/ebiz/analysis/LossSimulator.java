@@ -0,0 +1,194 @@
+package com.ebusiness.ebiz.analysis;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 현금 손실액 몬테카를로 시뮬레이션
+ * 예산(노출 금액)과 OSD 값으로 프로젝트 시행을 반복해 손실액 분포(P50/P90/P99)와 비용 분류를 구한다
+ *
+ * 시행 구간을 나눠 ForkJoinPool에서 병렬로 실행하며, 시행별 손실액은 long[] 하나에만 기록하고
+ * 비용 분류는 구간별 double 합계로 모으므로 박싱이나 시행 단위 객체 할당이 없다.
+ * 구간마다 시작 위치로 난수 시드를 정하므로 같은 입력과 시드는 스레드 수와 관계없이 같은 결과를 낸다.
+ */
+public final class LossSimulator {
+    public static final int DEFAULT_TRIALS = 100_000;
+
+    // 작업 하나가 처리하는 최소 시행 수 (너무 잘게 나누면 분할 비용이 커짐)
+    static final int LEAF_TRIALS = 4_096;
+
+    // 실패 시 손실 비율의 상한 (예산 초과 지출 포함, 노출 금액의 150%)
+    private static final double MAX_LOSS_RATIO = 1.5;
+
+    private final ForkJoinPool pool;
+
+    public LossSimulator() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public LossSimulator(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * 기본 시행 수로 시뮬레이션 (같은 입력이면 같은 결과가 나오도록 입력값으로 시드 결정)
+     */
+    public LossSimulation simulate(long budgetManwon, int severity, int occurrence, int detection) {
+        long seed = budgetManwon * 1_000_003L + severity * 10_007L + occurrence * 101L + detection;
+        return simulate(budgetManwon, severity, occurrence, detection, DEFAULT_TRIALS, seed);
+    }
+
+    public LossSimulation simulate(long budgetManwon, int severity, int occurrence, int detection,
+                                  int trials, long seed) {
+        if (trials <= 0) {
+            throw new IllegalArgumentException("trials must be positive: " + trials);
+        }
+
+        Model model = new Model(budgetManwon, severity, occurrence, detection, seed);
+        long[] losses = new long[trials];
+        TrialRange root = new TrialRange(model, losses, 0, trials);
+        pool.invoke(root);
+
+        Arrays.sort(losses);
+        return new LossSimulation(
+                trials,
+                (double) root.failures / trials,
+                (long) (root.sumTotal / trials),
+                percentile(losses, 0.50),
+                percentile(losses, 0.90),
+                percentile(losses, 0.99),
+                (long) (root.sumTime / trials),
+                (long) (root.sumCapex / trials),
+                (long) (root.sumOpex / trials));
+    }
+
+    /**
+     * 정렬된 배열의 분위수 (nearest-rank)
+     */
+    static long percentile(long[] sorted, double quantile) {
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    /**
+     * 시행 한 번의 확률 모델 (모든 작업이 공유하는 불변 값)
+     */
+    private static final class Model {
+        final long seed;
+        final double exposure;          // 노출 금액 (원)
+        final double failureProbability;
+        final double baseLossRatio;     // 실패 시 평균 손실 비율 - 심각도가 클수록 큼
+        final double sigma;             // 손실 비율의 로그 표준편차 - 검출도가 나쁠수록 꼬리가 두꺼움
+        final double delayRatio;        // 성공 시에도 발생하는 일정 지연 비용 상한 - 발생도에 비례
+        final double shareTime;
+        final double shareCapex;
+        final double shareOpex;
+
+        Model(long budgetManwon, int severity, int occurrence, int detection, long seed) {
+            this.seed = seed;
+            this.exposure = RpnEngine.exposureWon(budgetManwon);
+            this.failureProbability = RpnEngine.failureProbability(severity * occurrence * detection);
+            this.baseLossRatio = 0.3 + 0.07 * severity;
+            this.sigma = 0.2 + 0.04 * detection;
+            this.delayRatio = 0.01 * occurrence;
+
+            long[] weights = RpnEngine.categoryWeights(severity, occurrence, detection);
+            double sum = weights[RpnEngine.WEIGHT_SUM];
+            this.shareTime = weights[RpnEngine.WEIGHT_TIME] / sum;
+            this.shareCapex = weights[RpnEngine.WEIGHT_CAPEX] / sum;
+            this.shareOpex = weights[RpnEngine.WEIGHT_OPEX] / sum;
+        }
+    }
+
+    /**
+     * [from, to) 구간의 시행을 실행하고 합계를 모으는 작업
+     */
+    private static final class TrialRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Model model;
+        private final long[] losses;
+        private final int from;
+        private final int to;
+
+        double sumTotal;
+        double sumTime;
+        double sumCapex;
+        double sumOpex;
+        int failures;
+
+        TrialRange(Model model, long[] losses, int from, int to) {
+            this.model = model;
+            this.losses = losses;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= LEAF_TRIALS) {
+                runTrials();
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            TrialRange left = new TrialRange(model, losses, from, mid);
+            TrialRange right = new TrialRange(model, losses, mid, to);
+            invokeAll(left, right);
+
+            sumTotal = left.sumTotal + right.sumTotal;
+            sumTime = left.sumTime + right.sumTime;
+            sumCapex = left.sumCapex + right.sumCapex;
+            sumOpex = left.sumOpex + right.sumOpex;
+            failures = left.failures + right.failures;
+        }
+
+        private void runTrials() {
+            SplittableRandom random = new SplittableRandom(model.seed ^ (from * 0x9E3779B97F4A7C15L));
+            double exposure = model.exposure;
+            double sigma = model.sigma;
+            double drift = -0.5 * sigma * sigma; // 로그정규 평균이 baseLossRatio가 되도록 보정
+
+            double total = 0;
+            double time = 0;
+            double capex = 0;
+            double opex = 0;
+            int failed = 0;
+
+            for (int i = from; i < to; i++) {
+                double amount;
+                if (random.nextDouble() < model.failureProbability) {
+                    // 실패: 손실을 비용 분류 비중대로 배분
+                    double ratio = model.baseLossRatio * Math.exp(sigma * gaussian(random) + drift);
+                    amount = exposure * Math.min(ratio, MAX_LOSS_RATIO);
+                    time += amount * model.shareTime;
+                    capex += amount * model.shareCapex;
+                    opex += amount * model.shareOpex;
+                    failed++;
+                } else {
+                    // 성공: 일정 지연에 따른 시간 비용만 발생
+                    amount = exposure * model.delayRatio * random.nextDouble();
+                    time += amount;
+                }
+                losses[i] = (long) amount;
+                total += amount;
+            }
+
+            sumTotal = total;
+            sumTime = time;
+            sumCapex = capex;
+            sumOpex = opex;
+            failures = failed;
+        }
+
+        /**
+         * 표준 정규 난수 (Box-Muller)
+         */
+        private static double gaussian(SplittableRandom random) {
+            double u1 = 1.0 - random.nextDouble(); // log(0) 방지
+            double u2 = random.nextDouble();
+            return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+        }
+    }
+}
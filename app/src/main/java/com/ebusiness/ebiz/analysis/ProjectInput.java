@@ -0,0 +1,73 @@
+package com.ebusiness.ebiz.analysis;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 리스크 분석 입력 데이터
+ * NewProjectActivity의 프로젝트 정보와 QuestionsActivity의 답변을 묶은 불변 객체
+ */
+public final class ProjectInput {
+    /** 예산 미정 */
+    public static final long BUDGET_UNKNOWN = -1L;
+    /** 입력 가능한 최대 예산 (만원, 100조원) */
+    public static final long MAX_BUDGET_MANWON = 10_000_000_000L;
+
+    private final String title;
+    private final String description;
+    private final long budgetManwon; // 만원 단위, 미정이면 BUDGET_UNKNOWN
+    private final Map<String, String> answers;
+
+    public ProjectInput(String title, String description, long budgetManwon, Map<String, String> answers) {
+        this.title = title != null ? title : "";
+        this.description = description != null ? description : "";
+        this.budgetManwon = Math.min(budgetManwon, MAX_BUDGET_MANWON);
+        this.answers = answers != null
+                ? Collections.unmodifiableMap(new HashMap<>(answers))
+                : Collections.<String, String>emptyMap();
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public long getBudgetManwon() {
+        return budgetManwon;
+    }
+
+    public boolean isBudgetUnknown() {
+        return budgetManwon < 0;
+    }
+
+    public Map<String, String> getAnswers() {
+        return answers;
+    }
+
+    /**
+     * 화면에서 전달된 예산 문자열 파싱 ("1,500만원" → 1500, "미정" → BUDGET_UNKNOWN)
+     */
+    public static long parseBudget(String budget) {
+        if (budget == null) {
+            return BUDGET_UNKNOWN;
+        }
+
+        long value = 0;
+        boolean hasDigit = false;
+        for (int i = 0; i < budget.length(); i++) {
+            char c = budget.charAt(i);
+            if (c >= '0' && c <= '9') {
+                hasDigit = true;
+                value = value * 10 + (c - '0');
+                if (value >= MAX_BUDGET_MANWON) {
+                    return MAX_BUDGET_MANWON;
+                }
+            }
+        }
+        return hasDigit ? value : BUDGET_UNKNOWN;
+    }
+}
@@ -0,0 +1,42 @@
+package com.ebusiness.ebiz.analysis;
+
+import com.google.gson.annotations.SerializedName;
+import java.io.Serializable;
+
+/**
+ * 구체화 질문 데이터
+ */
+public class Question implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // 답변 입력 형식
+    public static final String ANSWER_TEXT = "text";
+    public static final String ANSWER_NUMBER = "number";
+
+    @SerializedName("question_id")
+    public final String questionId;
+    @SerializedName("method")
+    public final String method;
+    @SerializedName("question_text")
+    public final String questionText;
+    @SerializedName("answer_type")
+    public final String answerType;
+
+    public Question(String questionId, String method, String questionText) {
+        this(questionId, method, questionText, ANSWER_TEXT);
+    }
+
+    public Question(String questionId, String method, String questionText, String answerType) {
+        this.questionId = questionId;
+        this.method = method;
+        this.questionText = questionText;
+        this.answerType = answerType;
+    }
+
+    /**
+     * 숫자 입력 질문 여부 (백엔드가 형식을 보내지 않으면 텍스트로 처리)
+     */
+    public boolean isNumeric() {
+        return ANSWER_NUMBER.equals(answerType);
+    }
+}
@@ -0,0 +1,40 @@
+package com.ebusiness.ebiz.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 구체화 질문 생성기
+ * 프로젝트 정보를 분석해 리스크 산정에 필요한 추가 질문 목록을 만든다
+ * (백엔드 질문 생성 API 연동 전까지 사용하는 로컬 구현)
+ */
+public final class QuestionGenerator {
+    public static final String METHOD_LOGIC_MODEL = "Logic Model";
+
+    // 설명이 이 길이보다 짧으면 핵심 기능을 추가로 질문
+    private static final int SHORT_DESCRIPTION_LENGTH = 30;
+
+    /**
+     * 질문 목록 생성
+     */
+    public List<Question> generate(String title, String description, long budgetManwon) {
+        List<Question> questions = new ArrayList<>(7);
+
+        // RpnEngine이 사용하는 기본 질문
+        questions.add(new Question(RpnEngine.Q_CAPITAL, METHOD_LOGIC_MODEL, "이 사업에 투자할 수 있는 초기 자본은 얼마인가요?"));
+        questions.add(new Question(RpnEngine.Q_CAPABILITY, METHOD_LOGIC_MODEL, "현재 보유한 기술 역량 또는 관련 경험은 어느 정도인가요?"));
+        questions.add(new Question(RpnEngine.Q_CUSTOMER, METHOD_LOGIC_MODEL, "목표 고객층이 명확히 정의되어 있나요?"));
+        questions.add(new Question(RpnEngine.Q_COMPETITION, METHOD_LOGIC_MODEL, "경쟁사 분석을 수행했으며, 차별화 포인트가 있나요?"));
+        questions.add(new Question(RpnEngine.Q_MVP, METHOD_LOGIC_MODEL, "향후 6개월 내 최소 기능 제품(MVP)을 출시할 수 있나요?"));
+
+        // 입력 내용에 따른 추가 질문
+        if (budgetManwon < 0) {
+            questions.add(new Question("q6", METHOD_LOGIC_MODEL, "예산이 미정이라면, 예상하는 최소/최대 예산 범위는 어느 정도인가요?"));
+        }
+        if (description == null || description.trim().length() < SHORT_DESCRIPTION_LENGTH) {
+            String subject = title == null || title.trim().isEmpty() ? "이 프로젝트" : "'" + title.trim() + "'";
+            questions.add(new Question("q7", METHOD_LOGIC_MODEL, subject + "의 핵심 기능 3가지는 무엇인가요?"));
+        }
+        return questions;
+    }
+}
@@ -0,0 +1,131 @@
+package com.ebusiness.ebiz.analysis;
+
+import com.ebusiness.ebiz.form.FormValidator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 질문 목록과 답변 상태
+ * 답변은 화면(EditText)이 아니라 이 모델에 보관하므로 뷰가 재사용되어도 유지된다
+ * 미답변 수는 FormValidator로 누적 관리하여 완료 여부를 O(1)로 확인한다
+ *
+ * 입력 중인 답변은 editAnswer()로 EditText 내용(CharSequence)을 복사하지 않고 참조만 해 두고,
+ * 임시 저장이나 카드 재사용 시점에 commitAnswer()/commitAnswers()로 문자열로 옮긴다.
+ * (키 입력마다 문자열을 만들지 않음 - 메인 스레드 전용)
+ */
+public final class Questionnaire {
+    private final List<Question> questions;
+    private final String[] answers;
+    private final CharSequence[] editing; // 아직 문자열로 옮기지 않은 입력 (EditText 내용 참조)
+    private final FormValidator validator;
+
+    public Questionnaire(List<Question> questions) {
+        this.questions = questions;
+        this.answers = new String[questions.size()];
+        this.editing = new CharSequence[questions.size()];
+        this.validator = new FormValidator(questions.size());
+    }
+
+    public int size() {
+        return questions.size();
+    }
+
+    public Question getQuestion(int index) {
+        return questions.get(index);
+    }
+
+    public List<Question> getQuestions() {
+        return questions;
+    }
+
+    public String getAnswer(int index) {
+        commitAnswer(index);
+        return answers[index];
+    }
+
+    /**
+     * 답변 갱신 (입력 그대로 보관하고, 앞뒤 공백은 toAnswerMap에서 제거)
+     * @return 전체 완료 여부가 바뀌었으면 true
+     */
+    public boolean setAnswer(int index, String answer) {
+        editing[index] = null;
+        answers[index] = answer;
+        return validator.update(index, answer);
+    }
+
+    /**
+     * 입력 중인 답변 갱신 (키 입력마다 호출 - 내용을 복사하지 않고 완료 여부만 갱신)
+     * text는 commitAnswer() 전까지 바뀔 수 있으며, 그때의 내용이 답변이 된다
+     * @return 전체 완료 여부가 바뀌었으면 true
+     */
+    public boolean editAnswer(int index, CharSequence text) {
+        editing[index] = text;
+        return validator.update(index, text);
+    }
+
+    /**
+     * 입력 중인 답변을 문자열로 옮김 (입력 뷰가 다른 질문에 재사용되기 전에 호출)
+     */
+    public void commitAnswer(int index) {
+        CharSequence text = editing[index];
+        if (text != null) {
+            answers[index] = text.toString();
+            editing[index] = null;
+        }
+    }
+
+    public void commitAnswers() {
+        for (int i = 0; i < editing.length; i++) {
+            commitAnswer(i);
+        }
+    }
+
+    public boolean isAnswered(int index) {
+        return validator.isFilled(index);
+    }
+
+    public int unansweredCount() {
+        return validator.missingCount();
+    }
+
+    public boolean isComplete() {
+        return validator.isValid();
+    }
+
+    /**
+     * 첫 번째 미답변 질문 인덱스 (없으면 -1)
+     */
+    public int firstUnanswered() {
+        return validator.firstMissing();
+    }
+
+    /**
+     * 질문 ID별 답변 (RPN 엔진/백엔드 입력용)
+     */
+    public HashMap<String, String> toAnswerMap() {
+        commitAnswers();
+        HashMap<String, String> map = new HashMap<>(questions.size() * 2);
+        for (int i = 0; i < answers.length; i++) {
+            if (answers[i] != null) {
+                map.put(questions.get(i).questionId, answers[i].trim());
+            }
+        }
+        return map;
+    }
+
+    /**
+     * 저장된 답변 복원 (질문 ID 기준)
+     */
+    public void restoreAnswers(Map<String, String> saved) {
+        if (saved == null) {
+            return;
+        }
+        for (int i = 0; i < questions.size(); i++) {
+            String answer = saved.get(questions.get(i).questionId);
+            if (answer != null) {
+                setAnswer(i, answer);
+            }
+        }
+    }
+}
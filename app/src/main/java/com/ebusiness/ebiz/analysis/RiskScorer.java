@@ -0,0 +1,51 @@
+package com.ebusiness.ebiz.analysis;
+
+/**
+ * 로컬 리스크 점수 계산 (RPN 분석 + 손실액 시뮬레이션)
+ * ReportActivity의 로컬 분석과 같은 계산을 화면 밖(재계산 작업, 일괄 분석)에서 사용한다
+ */
+public final class RiskScorer {
+    /**
+     * 로컬 계산 엔진 버전 (RpnEngine/LossSimulator의 계산 방식이 바뀌면 올림)
+     * 저장된 로컬 분석 중 이보다 낮은 버전만 재계산 대상이 된다 (입력이 바뀐 분석은 0으로 표시됨)
+     */
+    public static final int ENGINE_VERSION = 1;
+
+    private final RpnEngine rpnEngine;
+    private final LossSimulator lossSimulator;
+
+    public RiskScorer() {
+        this(new RpnEngine(), new LossSimulator());
+    }
+
+    public RiskScorer(RpnEngine rpnEngine, LossSimulator lossSimulator) {
+        this.rpnEngine = rpnEngine;
+        this.lossSimulator = lossSimulator;
+    }
+
+    /**
+     * 분석 결과 계산 (입력값으로 시드를 정하므로 같은 입력이면 결과 화면과 같은 값)
+     */
+    public AnalysisResult score(ProjectInput input) {
+        AnalysisResult result = rpnEngine.analyze(input);
+        lossSimulator.simulate(input.getBudgetManwon(), result.severity, result.occurrence, result.detection)
+                .applyTo(result);
+        markLocal(result);
+        return result;
+    }
+
+    /**
+     * 현재 엔진으로 로컬에서 계산한 결과로 표시
+     */
+    public static void markLocal(AnalysisResult result) {
+        result.source = AnalysisResult.SOURCE_LOCAL;
+        result.engineVersion = ENGINE_VERSION;
+    }
+
+    /**
+     * 다시 계산해야 하는 결과인지 (이전 엔진으로 계산한 로컬 결과만, 백엔드 결과는 항상 false)
+     */
+    public static boolean isStale(AnalysisResult result) {
+        return AnalysisResult.SOURCE_LOCAL.equals(result.source) && result.engineVersion < ENGINE_VERSION;
+    }
+}
@@ -0,0 +1,289 @@
+package com.ebusiness.ebiz.analysis;
+
+import java.util.Map;
+
+/**
+ * FMEA 방식 RPN 리스크 산정 엔진
+ * 프로젝트 정보와 구체화 질문 답변으로 심각도(S), 발생도(O), 검출도(D)와 손실액을 계산
+ *
+ * 상태가 없으므로 여러 스레드에서 하나의 인스턴스를 공유해도 안전하며,
+ * Android 의존성이 없어 JVM 단위 테스트와 배치 작업에서 그대로 사용할 수 있다.
+ */
+public final class RpnEngine {
+
+    // QuestionsActivity 질문 ID
+    public static final String Q_CAPITAL = "q1";      // 초기 자본
+    public static final String Q_CAPABILITY = "q2";   // 기술 역량/경험
+    public static final String Q_CUSTOMER = "q3";     // 목표 고객층
+    public static final String Q_COMPETITION = "q4";  // 경쟁사 분석/차별화
+    public static final String Q_MVP = "q5";          // 6개월 내 MVP 출시
+
+    public static final int MIN_FACTOR = 1;
+    public static final int MAX_FACTOR = 10;
+    public static final int MAX_RPN = MAX_FACTOR * MAX_FACTOR * MAX_FACTOR;
+
+    /** 예산 미정일 때 손실 산정에 사용하는 기준 예산 (만원) */
+    static final long DEFAULT_EXPOSURE_MANWON = 5_000L;
+    private static final long WON_PER_MANWON = 10_000L;
+
+    // 답변이 없는 질문의 중립 신뢰도
+    private static final double NEUTRAL_CONFIDENCE = 0.5;
+
+    // 비용 분류 기본 비중 (시간 30%, 직접 투자 25%, 인력/운영 25%, 기타 20%)
+    private static final int SHARE_TIME = 30;
+    private static final int SHARE_CAPEX = 25;
+    private static final int SHARE_OPEX = 25;
+    private static final int SHARE_OTHER = 20;
+
+    // categoryWeights() 결과 인덱스
+    static final int WEIGHT_TIME = 0;
+    static final int WEIGHT_CAPEX = 1;
+    static final int WEIGHT_OPEX = 2;
+    static final int WEIGHT_SUM = 3;
+
+    private static final String[] POSITIVE_KEYWORDS = {
+            "있", "충분", "완료", "가능", "명확", "확보", "경험", "진행"
+    };
+    private static final String[] NEGATIVE_KEYWORDS = {
+            "없", "아니", "모르", "모름", "미정", "부족", "못", "불확실", "아직", "글쎄"
+    };
+
+    /**
+     * 리스크 분석 수행
+     */
+    public AnalysisResult analyze(ProjectInput input) {
+        Map<String, String> answers = input.getAnswers();
+
+        double capital = confidence(answers, Q_CAPITAL);
+        double capability = confidence(answers, Q_CAPABILITY);
+        double customer = confidence(answers, Q_CUSTOMER);
+        double competition = confidence(answers, Q_COMPETITION);
+        double mvp = confidence(answers, Q_MVP);
+
+        int severity = severity(input.getBudgetManwon(), capital);
+        int occurrence = occurrence(customer, competition, mvp, input.getDescription().length());
+        int detection = detection(capability, mvp, input.isBudgetUnknown());
+
+        AnalysisResult result = new AnalysisResult();
+        result.businessName = input.getTitle();
+        result.severity = severity;
+        result.occurrence = occurrence;
+        result.detection = detection;
+        result.rpn = severity * occurrence * detection;
+        result.overallRiskScore = result.rpn * 100.0 / MAX_RPN;
+
+        fillLossBreakdown(result, input.getBudgetManwon());
+
+        result.executiveSummary = executiveSummary(result);
+        result.aiRecommendations = recommendations(severity, occurrence, detection);
+        return result;
+    }
+
+    /**
+     * 심각도: 예산 규모가 클수록, 초기 자본이 불확실할수록 실패 시 타격이 크다
+     */
+    static int severity(long budgetManwon, double capitalConfidence) {
+        int base;
+        if (budgetManwon < 0) {
+            base = 6; // 예산 미정 자체가 리스크
+        } else if (budgetManwon < 1_000) {
+            base = 3;
+        } else if (budgetManwon < 5_000) {
+            base = 4;
+        } else if (budgetManwon < 10_000) {
+            base = 5;
+        } else if (budgetManwon < 50_000) {
+            base = 6;
+        } else if (budgetManwon < 100_000) {
+            base = 7;
+        } else {
+            base = 8;
+        }
+        return clamp(base + (int) Math.round((1.0 - capitalConfidence) * 2));
+    }
+
+    /**
+     * 발생도: 고객, 경쟁, MVP 계획이 불명확할수록 실패 가능성이 높다
+     */
+    static int occurrence(double customer, double competition, double mvp, int descriptionLength) {
+        double readiness = (customer + competition + mvp) / 3.0;
+        int value = MIN_FACTOR + (int) Math.round((1.0 - readiness) * 8);
+        if (descriptionLength < 30) {
+            value++; // 설명이 부족하면 계획 구체성이 낮은 것으로 판단
+        }
+        return clamp(value);
+    }
+
+    /**
+     * 검출도: 역량이 부족하고 검증 수단(MVP)이 없을수록 문제를 늦게 발견한다
+     */
+    static int detection(double capability, double mvp, boolean budgetUnknown) {
+        double readiness = (capability + mvp) / 2.0;
+        int value = MIN_FACTOR + (int) Math.round((1.0 - readiness) * 8);
+        if (budgetUnknown) {
+            value++;
+        }
+        return clamp(value);
+    }
+
+    /**
+     * 예상 손실액과 비용 분류 계산
+     * 노출 금액 × 실패 확률(RPN 기반)로 총액을 구하고 OSD 비중에 따라 나눈다
+     */
+    static void fillLossBreakdown(AnalysisResult result, long budgetManwon) {
+        long total = (long) (exposureWon(budgetManwon) * failureProbability(result.rpn));
+
+        long[] weights = categoryWeights(result.severity, result.occurrence, result.detection);
+
+        result.totalExpectedLoss = total;
+        result.timeCost = split(total, weights[WEIGHT_TIME], weights[WEIGHT_SUM]);
+        result.directInvestment = split(total, weights[WEIGHT_CAPEX], weights[WEIGHT_SUM]);
+        result.personnelCost = split(total, weights[WEIGHT_OPEX], weights[WEIGHT_SUM]);
+    }
+
+    /**
+     * 노출 금액 (원) - 예산 미정이면 기준 예산 사용
+     */
+    static long exposureWon(long budgetManwon) {
+        return (budgetManwon < 0 ? DEFAULT_EXPOSURE_MANWON : budgetManwon) * WON_PER_MANWON;
+    }
+
+    /**
+     * 실패 확률 (RPN 1 → 10%, RPN 1000 → 90%)
+     */
+    static double failureProbability(int rpn) {
+        return 0.1 + 0.8 * rpn / MAX_RPN;
+    }
+
+    /**
+     * 비용 분류 가중치 {시간, 직접 투자, 인력/운영, 합계(기타 포함)}
+     * 발생도는 시간 비용, 심각도는 직접 투자, 검출도는 인력/운영 비용 비중을 키운다
+     */
+    static long[] categoryWeights(int severity, int occurrence, int detection) {
+        long[] weights = new long[4];
+        categoryWeights(severity, occurrence, detection, weights);
+        return weights;
+    }
+
+    /**
+     * 비용 분류 가중치를 주어진 배열에 기록 (반복 계산용, 할당 없음)
+     */
+    static void categoryWeights(int severity, int occurrence, int detection, long[] out) {
+        long weightTime = (long) SHARE_TIME * occurrence * 3;
+        long weightCapex = (long) SHARE_CAPEX * severity * 3;
+        long weightOpex = (long) SHARE_OPEX * detection * 3;
+        long weightOther = (long) SHARE_OTHER * (severity + occurrence + detection);
+        out[WEIGHT_TIME] = weightTime;
+        out[WEIGHT_CAPEX] = weightCapex;
+        out[WEIGHT_OPEX] = weightOpex;
+        out[WEIGHT_SUM] = weightTime + weightCapex + weightOpex + weightOther;
+    }
+
+    static long split(long total, long weight, long weightSum) {
+        // 큰 금액에서도 오버플로가 나지 않도록 몫과 나머지를 나눠 계산
+        return total / weightSum * weight + total % weightSum * weight / weightSum;
+    }
+
+    /**
+     * 답변 신뢰도 (0.0 ~ 1.0)
+     * 긍정/부정 표현, 수치 포함 여부, 답변 길이를 기준으로 간단히 평가
+     */
+    static double confidence(Map<String, String> answers, String questionId) {
+        String answer = answers.get(questionId);
+        if (answer == null) {
+            return NEUTRAL_CONFIDENCE;
+        }
+        return confidence(answer);
+    }
+
+    static double confidence(String answer) {
+        int length = answer.length();
+        if (length == 0 || answer.trim().isEmpty()) {
+            return 0.0;
+        }
+
+        double score = 0.5;
+        for (String keyword : NEGATIVE_KEYWORDS) {
+            if (answer.contains(keyword)) {
+                score -= 0.2;
+            }
+        }
+        for (String keyword : POSITIVE_KEYWORDS) {
+            if (answer.contains(keyword)) {
+                score += 0.15;
+            }
+        }
+        for (int i = 0; i < length; i++) {
+            char c = answer.charAt(i);
+            if (c >= '0' && c <= '9') {
+                score += 0.1; // 구체적인 수치가 있으면 신뢰도 가산
+                break;
+            }
+        }
+        if (length >= 20) {
+            score += 0.1;
+        }
+
+        if (score < 0.0) {
+            return 0.0;
+        }
+        return Math.min(score, 1.0);
+    }
+
+    static String riskLevel(double overallRiskScore) {
+        if (overallRiskScore >= 50) {
+            return "높음";
+        } else if (overallRiskScore >= 20) {
+            return "보통";
+        }
+        return "낮음";
+    }
+
+    private static String executiveSummary(AnalysisResult result) {
+        String level = riskLevel(result.overallRiskScore);
+        String weakest;
+        if (result.occurrence >= result.severity && result.occurrence >= result.detection) {
+            weakest = "시장 검증이 부족해 실패 발생 가능성이 가장 큰 위험 요인입니다";
+        } else if (result.severity >= result.detection) {
+            weakest = "실패 시 자금 손실 규모가 가장 큰 위험 요인입니다";
+        } else {
+            weakest = "문제를 조기에 발견할 수단이 부족한 것이 가장 큰 위험 요인입니다";
+        }
+        return "전체 리스크 수준은 '" + level + "'입니다. " + weakest + ".";
+    }
+
+    private static String[] recommendations(int severity, int occurrence, int detection) {
+        String capitalStep = severity >= 6
+                ? "초기 투자 규모 축소 - 단계별 예산 집행과 손실 한도 설정"
+                : "예산 집행 계획 점검 - 월별 지출 계획과 예비비 확보";
+        String marketStep = occurrence >= 6
+                ? "목표 고객 검증 - 인터뷰와 설문으로 핵심 문제 재확인"
+                : "차별화 포인트 강화 - 경쟁사 대비 핵심 기능 집중";
+        String feedbackStep = detection >= 6
+                ? "빠른 MVP 출시 - 3개월 내 핵심 기능만으로 시장 반응 확인"
+                : "지표 기반 점검 - 주요 KPI를 정해 주기적으로 모니터링";
+
+        // 점수가 높은 요인부터 순서대로 실행
+        String[] steps = new String[3];
+        int[] scores = {severity, occurrence, detection};
+        String[] candidates = {capitalStep, marketStep, feedbackStep};
+        for (int step = 0; step < 3; step++) {
+            int best = -1;
+            for (int i = 0; i < 3; i++) {
+                if (candidates[i] != null && (best < 0 || scores[i] > scores[best])) {
+                    best = i;
+                }
+            }
+            steps[step] = (step + 1) + "단계: " + candidates[best];
+            candidates[best] = null;
+        }
+        return steps;
+    }
+
+    private static int clamp(int value) {
+        if (value < MIN_FACTOR) {
+            return MIN_FACTOR;
+        }
+        return Math.min(value, MAX_FACTOR);
+    }
+}
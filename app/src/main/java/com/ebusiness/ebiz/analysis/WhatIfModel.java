@@ -0,0 +1,213 @@
+package com.ebusiness.ebiz.analysis;
+
+/**
+ * 가정 분석(What-if) 계산
+ * 보고서에서 예산과 심각도/발생도/검출도를 바꿔 볼 때 RPN, 위험도, 손실액과 비용 분류를 즉시 다시 계산한다
+ *
+ * 슬라이더를 끄는 동안 매 프레임 호출되므로 바뀐 입력에 해당하는 값만 다시 계산하고 객체를 할당하지 않는다.
+ * 손실액은 시뮬레이션 대신 RpnEngine의 해석식(노출 금액 × 실패 확률)을 사용하되, 기준 결과와 같은
+ * 입력에서는 보고서 값과 정확히 같도록 비용 분류별 보정 비율을 곱한다(이후 변화는 해석식에 비례).
+ * 예산과 OSD는 서로 독립된 입력으로 다룬다(예산을 바꿔도 심각도는 사용자가 정한 값 유지).
+ *
+ * 메인 스레드 전용 (동기화하지 않음)
+ */
+public final class WhatIfModel {
+    // 예산 슬라이더 범위 (만원, 로그 눈금)
+    public static final long MIN_BUDGET_MANWON = 100;            // 100만원
+    public static final long MAX_BUDGET_MANWON = 10_000_000;     // 1000억원
+    public static final int BUDGET_STEPS = 1000;
+
+    private static final double LOG_MIN_BUDGET = Math.log10(MIN_BUDGET_MANWON);
+    private static final double LOG_BUDGET_RANGE = Math.log10(MAX_BUDGET_MANWON) - LOG_MIN_BUDGET;
+
+    // 입력
+    private long budgetManwon;
+    private int severity = RpnEngine.MIN_FACTOR;
+    private int occurrence = RpnEngine.MIN_FACTOR;
+    private int detection = RpnEngine.MIN_FACTOR;
+    private boolean factorsChanged = true;
+    private boolean budgetChanged = true;
+
+    // 중간 값 (입력이 바뀐 경우에만 갱신)
+    private final long[] weights = new long[4];
+    private double exposure;
+    private double failureProbability;
+
+    // 기준 결과에 맞추는 보정 비율
+    private double totalScale = 1;
+    private double timeScale = 1;
+    private double capexScale = 1;
+    private double opexScale = 1;
+
+    // 출력
+    private int rpn;
+    private double overallRiskScore;
+    private long totalExpectedLoss;
+    private long timeCost;
+    private long directInvestment;
+    private long personnelCost;
+
+    /**
+     * 기준 결과로 초기화 (예산 미정이면 RpnEngine의 기준 예산 사용)
+     * 예산은 슬라이더 범위로 맞추고, 손실액은 보정 비율로 기준 결과와 같게 유지한다
+     */
+    public void reset(AnalysisResult baseline, long budgetManwon) {
+        this.budgetManwon = clampBudget(budgetManwon >= 0 ? budgetManwon : RpnEngine.DEFAULT_EXPOSURE_MANWON);
+        severity = clampFactor(baseline.severity);
+        occurrence = clampFactor(baseline.occurrence);
+        detection = clampFactor(baseline.detection);
+        factorsChanged = true;
+        budgetChanged = true;
+
+        totalScale = timeScale = capexScale = opexScale = 1;
+        recompute();
+        if (baseline.totalExpectedLoss > 0) {
+            totalScale = scale(baseline.totalExpectedLoss, totalExpectedLoss);
+            timeScale = scale(baseline.timeCost, timeCost);
+            capexScale = scale(baseline.directInvestment, directInvestment);
+            opexScale = scale(baseline.personnelCost, personnelCost);
+            updateLoss();
+        }
+    }
+
+    public boolean setBudgetManwon(long value) {
+        long clamped = clampBudget(value);
+        if (clamped == budgetManwon) {
+            return false;
+        }
+        budgetManwon = clamped;
+        budgetChanged = true;
+        return true;
+    }
+
+    public boolean setSeverity(int value) {
+        int clamped = clampFactor(value);
+        if (clamped == severity) {
+            return false;
+        }
+        severity = clamped;
+        factorsChanged = true;
+        return true;
+    }
+
+    public boolean setOccurrence(int value) {
+        int clamped = clampFactor(value);
+        if (clamped == occurrence) {
+            return false;
+        }
+        occurrence = clamped;
+        factorsChanged = true;
+        return true;
+    }
+
+    public boolean setDetection(int value) {
+        int clamped = clampFactor(value);
+        if (clamped == detection) {
+            return false;
+        }
+        detection = clamped;
+        factorsChanged = true;
+        return true;
+    }
+
+    /**
+     * 바뀐 입력에 해당하는 값만 다시 계산 (변경이 없으면 바로 반환)
+     */
+    public void recompute() {
+        if (!factorsChanged && !budgetChanged) {
+            return;
+        }
+        if (factorsChanged) {
+            rpn = severity * occurrence * detection;
+            overallRiskScore = rpn * 100.0 / RpnEngine.MAX_RPN;
+            failureProbability = RpnEngine.failureProbability(rpn);
+            RpnEngine.categoryWeights(severity, occurrence, detection, weights);
+            factorsChanged = false;
+        }
+        if (budgetChanged) {
+            exposure = RpnEngine.exposureWon(budgetManwon);
+            budgetChanged = false;
+        }
+        updateLoss();
+    }
+
+    private void updateLoss() {
+        long total = (long) (exposure * failureProbability);
+        long sum = weights[RpnEngine.WEIGHT_SUM];
+        totalExpectedLoss = Math.round(total * totalScale);
+        timeCost = Math.round(RpnEngine.split(total, weights[RpnEngine.WEIGHT_TIME], sum) * timeScale);
+        directInvestment = Math.round(RpnEngine.split(total, weights[RpnEngine.WEIGHT_CAPEX], sum) * capexScale);
+        personnelCost = Math.round(RpnEngine.split(total, weights[RpnEngine.WEIGHT_OPEX], sum) * opexScale);
+    }
+
+    // ===== 예산 슬라이더 눈금 =====
+
+    /**
+     * 슬라이더 위치(0 ~ BUDGET_STEPS) → 예산 (유효 숫자 두 자리로 반올림)
+     */
+    public static long budgetAt(int step) {
+        double exponent = LOG_MIN_BUDGET + LOG_BUDGET_RANGE * Math.max(0, Math.min(BUDGET_STEPS, step)) / BUDGET_STEPS;
+        double value = Math.pow(10, exponent);
+        double unit = Math.pow(10, Math.max(0, Math.floor(Math.log10(value)) - 1));
+        return Math.max(MIN_BUDGET_MANWON, Math.min(MAX_BUDGET_MANWON, Math.round(value / unit) * (long) unit));
+    }
+
+    public static int stepOf(long budgetManwon) {
+        long clamped = Math.max(MIN_BUDGET_MANWON, Math.min(MAX_BUDGET_MANWON, budgetManwon));
+        return (int) Math.round((Math.log10(clamped) - LOG_MIN_BUDGET) / LOG_BUDGET_RANGE * BUDGET_STEPS);
+    }
+
+    // ===== 결과 =====
+
+    public long getBudgetManwon() {
+        return budgetManwon;
+    }
+
+    public int getSeverity() {
+        return severity;
+    }
+
+    public int getOccurrence() {
+        return occurrence;
+    }
+
+    public int getDetection() {
+        return detection;
+    }
+
+    public int getRpn() {
+        return rpn;
+    }
+
+    public double getOverallRiskScore() {
+        return overallRiskScore;
+    }
+
+    public long getTotalExpectedLoss() {
+        return totalExpectedLoss;
+    }
+
+    public long getTimeCost() {
+        return timeCost;
+    }
+
+    public long getDirectInvestment() {
+        return directInvestment;
+    }
+
+    public long getPersonnelCost() {
+        return personnelCost;
+    }
+
+    private static double scale(long target, long computed) {
+        return computed > 0 ? (double) target / computed : 1;
+    }
+
+    private static int clampFactor(int value) {
+        return Math.max(RpnEngine.MIN_FACTOR, Math.min(RpnEngine.MAX_FACTOR, value));
+    }
+
+    private static long clampBudget(long value) {
+        return Math.max(MIN_BUDGET_MANWON, Math.min(MAX_BUDGET_MANWON, value));
+    }
+}
@@ -0,0 +1,95 @@
+package com.ebusiness.ebiz.data;
+
+import android.content.Context;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteOpenHelper;
+
+/**
+ * 분석 이력 SQLite 스키마
+ * 목록 조회(날짜순/위험도순)가 인덱스만으로 정렬되도록 정렬 컬럼에 인덱스를 둔다
+ */
+class AnalysisHistoryDbHelper extends SQLiteOpenHelper {
+    static final String DATABASE_NAME = "analysis_history.db";
+    static final int DATABASE_VERSION = 1;
+
+    static final String TABLE_ANALYSES = "analyses";
+    static final String TABLE_ANSWERS = "answers";
+
+    // analyses 컬럼
+    static final String COL_ID = "_id";
+    static final String COL_TITLE = "title";
+    static final String COL_DESCRIPTION = "description";
+    static final String COL_BUDGET = "budget";
+    static final String COL_CREATED_AT = "created_at";
+    static final String COL_RISK_SCORE = "risk_score";
+    static final String COL_SEVERITY = "severity";
+    static final String COL_OCCURRENCE = "occurrence";
+    static final String COL_DETECTION = "detection";
+    static final String COL_RPN = "rpn";
+    static final String COL_TOTAL_LOSS = "total_loss";
+    static final String COL_TIME_COST = "time_cost";
+    static final String COL_DIRECT_INVESTMENT = "direct_investment";
+    static final String COL_PERSONNEL_COST = "personnel_cost";
+    static final String COL_SUMMARY = "summary";
+    static final String COL_RECOMMENDATIONS = "recommendations"; // JSON 배열
+    static final String COL_SOURCE = "source"; // AnalysisResult.SOURCE_* (알 수 없으면 NULL)
+    static final String COL_ENGINE_VERSION = "engine_version";
+
+    // answers 컬럼
+    static final String COL_ANALYSIS_ID = "analysis_id";
+    static final String COL_QUESTION_ID = "question_id";
+    static final String COL_ANSWER = "answer";
+
+    AnalysisHistoryDbHelper(Context context) {
+        super(context.getApplicationContext(), DATABASE_NAME, null, DATABASE_VERSION);
+        // 쓰기 중에도 목록 조회가 막히지 않도록 WAL 사용
+        setWriteAheadLoggingEnabled(true);
+    }
+
+    @Override
+    public void onConfigure(SQLiteDatabase db) {
+        super.onConfigure(db);
+        db.setForeignKeyConstraintsEnabled(true);
+    }
+
+    @Override
+    public void onCreate(SQLiteDatabase db) {
+        db.execSQL("CREATE TABLE " + TABLE_ANALYSES + " ("
+                + COL_ID + " INTEGER PRIMARY KEY AUTOINCREMENT, "
+                + COL_TITLE + " TEXT NOT NULL, "
+                + COL_DESCRIPTION + " TEXT, "
+                + COL_BUDGET + " TEXT, "
+                + COL_CREATED_AT + " INTEGER NOT NULL, "
+                + COL_RISK_SCORE + " REAL NOT NULL, "
+                + COL_SEVERITY + " INTEGER NOT NULL, "
+                + COL_OCCURRENCE + " INTEGER NOT NULL, "
+                + COL_DETECTION + " INTEGER NOT NULL, "
+                + COL_RPN + " INTEGER NOT NULL, "
+                + COL_TOTAL_LOSS + " INTEGER NOT NULL, "
+                + COL_TIME_COST + " INTEGER NOT NULL, "
+                + COL_DIRECT_INVESTMENT + " INTEGER NOT NULL, "
+                + COL_PERSONNEL_COST + " INTEGER NOT NULL, "
+                + COL_SUMMARY + " TEXT, "
+                + COL_RECOMMENDATIONS + " TEXT, "
+                + COL_SOURCE + " TEXT, "
+                + COL_ENGINE_VERSION + " INTEGER NOT NULL DEFAULT 0)");
+
+        db.execSQL("CREATE TABLE " + TABLE_ANSWERS + " ("
+                + COL_ANALYSIS_ID + " INTEGER NOT NULL REFERENCES " + TABLE_ANALYSES
+                + "(" + COL_ID + ") ON DELETE CASCADE, "
+                + COL_QUESTION_ID + " TEXT NOT NULL, "
+                + COL_ANSWER + " TEXT, "
+                + "PRIMARY KEY (" + COL_ANALYSIS_ID + ", " + COL_QUESTION_ID + "))");
+
+        // 키셋 페이지네이션용 인덱스 (정렬 컬럼 + _id)
+        db.execSQL("CREATE INDEX idx_analyses_created_at ON " + TABLE_ANALYSES
+                + " (" + COL_CREATED_AT + ", " + COL_ID + ")");
+        db.execSQL("CREATE INDEX idx_analyses_risk_score ON " + TABLE_ANALYSES
+                + " (" + COL_RISK_SCORE + ", " + COL_ID + ")");
+    }
+
+    @Override
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        // 첫 버전이므로 마이그레이션 없음
+    }
+}
@@ -0,0 +1,576 @@
+package com.ebusiness.ebiz.data;
+
+import static com.ebusiness.ebiz.data.AnalysisHistoryDbHelper.*;
+
+import android.content.ContentValues;
+import android.content.Context;
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.WorkerThread;
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.analysis.RiskScorer;
+import com.ebusiness.ebiz.export.ReportExporter;
+import com.ebusiness.ebiz.metrics.Metrics;
+import com.ebusiness.ebiz.metrics.Timer;
+import com.ebusiness.ebiz.search.SearchIndex;
+import com.google.gson.Gson;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 분석 이력 저장소
+ * 프로젝트, 답변, 분석 결과를 SQLite에 저장하고 날짜/위험도 기준으로 페이지 단위 조회
+ *
+ * 쓰기는 전용 단일 스레드에서 순서대로 처리하고, 조회는 별도 읽기 스레드에서 수행한다(WAL).
+ * 목록은 OFFSET 대신 마지막 항목 기준(키셋) 페이지네이션을 사용해 이력이 많아도 일정한 시간에 조회된다.
+ * 백그라운드 재계산(ReanalysisRunner)도 같은 저장소를 ID 순 배치로 읽고 점수 컬럼만 갱신한다.
+ * 보고서 내보내기(ReportExporter)도 같은 배치 조회로 전체 이력을 나눠 읽는다.
+ *
+ * 제목/설명/답변은 메모리 역색인(SearchIndex)으로 검색한다. 색인은 처음 검색할 때 전용 스레드에서
+ * 전체 이력을 읽어 만들고, 이후에는 저장/삭제할 때마다 해당 분석만 갱신한다.
+ */
+public final class AnalysisHistoryStore implements ReanalysisRunner.Store, ReportExporter.Source {
+    private static final String TAG = "AnalysisHistoryStore";
+
+    // 목록 조회 컬럼 (설명/답변 등 큰 컬럼은 제외)
+    private static final String[] ITEM_COLUMNS = {
+            COL_ID, COL_TITLE, COL_BUDGET, COL_CREATED_AT, COL_RISK_SCORE, COL_TOTAL_LOSS
+    };
+
+    private static AnalysisHistoryStore instance;
+
+    private final AnalysisHistoryDbHelper dbHelper;
+    private final ExecutorService writer;
+    private final ExecutorService reader;
+    private final ExecutorService searcher;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Gson gson = new Gson();
+
+    // 전문 검색 색인 (처음 검색할 때 한 번 전체 색인)
+    private static final int INDEX_BATCH_SIZE = 200;
+    private final SearchIndex searchIndex = new SearchIndex();
+    private volatile boolean searchIndexBuilt = false;
+
+    /**
+     * 비동기 작업 결과 (메인 스레드에서 호출됨)
+     */
+    public interface Callback<T> {
+        void onResult(T result);
+    }
+
+    private AnalysisHistoryStore(Context context) {
+        dbHelper = new AnalysisHistoryDbHelper(context);
+        writer = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "ebiz-history-writer"));
+        reader = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "ebiz-history-reader"));
+        searcher = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "ebiz-history-search"));
+    }
+
+    public static synchronized AnalysisHistoryStore getInstance(Context context) {
+        if (instance == null) {
+            instance = new AnalysisHistoryStore(context);
+        }
+        return instance;
+    }
+
+    // ===== 비동기 API (Activity에서 사용) =====
+
+    /**
+     * 분석 결과 저장 (완료 시 새 ID 전달, 실패 시 -1)
+     */
+    public void saveAsync(AnalysisRecord record, Callback<Long> callback) {
+        writer.execute(() -> {
+            long id;
+            try {
+                id = insert(record);
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Failed to save analysis", e);
+                id = -1;
+            }
+            deliver(callback, id);
+        });
+    }
+
+    /**
+     * 저장된 분석의 예산 변경 (완료 시 변경 여부 전달)
+     * 점수가 바뀐 입력과 맞지 않게 되므로 재계산 대상으로 표시한다
+     */
+    public void updateBudgetAsync(long id, String budget, Callback<Boolean> callback) {
+        writer.execute(() -> {
+            boolean updated;
+            try {
+                updated = updateBudget(id, budget);
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Failed to update budget", e);
+                updated = false;
+            }
+            deliver(callback, updated);
+        });
+    }
+
+    /**
+     * 목록 한 페이지 조회
+     * @param after 이전 페이지의 마지막 항목 (첫 페이지는 null)
+     */
+    public void loadPageAsync(HistorySort sort, HistoryItem after, int limit, Callback<List<HistoryItem>> callback) {
+        reader.execute(() -> deliver(callback, queryPage(sort, after, limit)));
+    }
+
+    /**
+     * before 바로 앞(화면 순서)의 한 페이지 - 위로 스크롤해 버렸던 페이지를 다시 불러올 때 사용
+     */
+    public void loadPageBeforeAsync(HistorySort sort, HistoryItem before, int limit,
+                                    Callback<List<HistoryItem>> callback) {
+        reader.execute(() -> deliver(callback, queryPageBefore(sort, before, limit)));
+    }
+
+    public void countAsync(Callback<Long> callback) {
+        reader.execute(() -> deliver(callback, count()));
+    }
+
+    /**
+     * 홈 화면 요약 (건수, 평균/최고 위험도)
+     */
+    public void summaryAsync(Callback<HistorySummary> callback) {
+        reader.execute(() -> deliver(callback, summary()));
+    }
+
+    public void loadRecordAsync(long id, Callback<AnalysisRecord> callback) {
+        reader.execute(() -> deliver(callback, findById(id)));
+    }
+
+    /**
+     * 제목/설명/답변 전문 검색 (관련도 순, 최대 limit건)
+     */
+    public void searchAsync(String query, int limit, Callback<List<HistoryItem>> callback) {
+        searcher.execute(() -> deliver(callback, search(query, limit)));
+    }
+
+    /**
+     * 검색 색인을 미리 생성 (이력 화면 진입 시 호출해 첫 검색 지연을 줄임)
+     */
+    public void prepareSearchAsync() {
+        searcher.execute(this::ensureSearchIndex);
+    }
+
+    private <T> void deliver(Callback<T> callback, T result) {
+        if (callback != null) {
+            mainHandler.post(() -> callback.onResult(result));
+        }
+    }
+
+    // ===== 동기 API (워커 스레드 전용) =====
+
+    @WorkerThread
+    public long insert(AnalysisRecord record) {
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        long id;
+        db.beginTransaction();
+        try {
+            id = db.insertOrThrow(TABLE_ANALYSES, null, toValues(record));
+            insertAnswers(db, id, record.answers);
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+        record.id = id;
+        // 색인 생성 전이어도 추가해 둠 (같은 ID는 교체되므로 전체 색인과 겹쳐도 무방)
+        indexRecord(record);
+        return id;
+    }
+
+    /**
+     * 예산을 바꾸고 재계산 대상(이전 엔진 버전의 로컬 분석)으로 표시
+     * 백엔드 결과도 바뀐 입력을 반영할 수 없으므로 로컬 분석으로 바꿔 다시 계산되게 한다
+     */
+    @WorkerThread
+    public boolean updateBudget(long id, String budget) {
+        ContentValues values = new ContentValues(3);
+        values.put(COL_BUDGET, budget);
+        values.put(COL_SOURCE, AnalysisResult.SOURCE_LOCAL);
+        values.put(COL_ENGINE_VERSION, 0);
+        return dbHelper.getWritableDatabase().update(TABLE_ANALYSES, values, COL_ID + " = ?",
+                new String[]{String.valueOf(id)}) > 0;
+    }
+
+    @WorkerThread
+    public List<HistoryItem> queryPage(HistorySort sort, HistoryItem after, int limit) {
+        String sortColumn = sortColumn(sort);
+        String orderBy = sortColumn + " DESC, " + COL_ID + " DESC";
+
+        String selection = null;
+        String[] selectionArgs = null;
+        if (after != null) {
+            String afterValue = sortValue(sort, after);
+            // 행 값 비교는 (정렬 컬럼, _id) 인덱스를 바로 탐색함 (OR로 풀어 쓰면 인덱스 전체를 훑음)
+            selection = "(" + sortColumn + ", " + COL_ID + ") < (?, ?)";
+            selectionArgs = new String[]{afterValue, String.valueOf(after.id)};
+        }
+        return queryItems(selection, selectionArgs, orderBy, limit);
+    }
+
+    /**
+     * before보다 앞(화면 순서)의 limit건을 화면 순서로 조회 (같은 인덱스를 반대 방향으로 읽음)
+     */
+    @WorkerThread
+    public List<HistoryItem> queryPageBefore(HistorySort sort, HistoryItem before, int limit) {
+        String sortColumn = sortColumn(sort);
+        String beforeValue = sortValue(sort, before);
+        List<HistoryItem> items = queryItems(
+                "(" + sortColumn + ", " + COL_ID + ") > (?, ?)",
+                new String[]{beforeValue, String.valueOf(before.id)},
+                sortColumn + " ASC, " + COL_ID + " ASC", limit);
+        Collections.reverse(items);
+        return items;
+    }
+
+    private static String sortColumn(HistorySort sort) {
+        return sort == HistorySort.RISK_SCORE ? COL_RISK_SCORE : COL_CREATED_AT;
+    }
+
+    private static String sortValue(HistorySort sort, HistoryItem item) {
+        return sort == HistorySort.RISK_SCORE
+                ? String.valueOf(item.overallRiskScore)
+                : String.valueOf(item.createdAt);
+    }
+
+    private List<HistoryItem> queryItems(String selection, String[] selectionArgs, String orderBy, int limit) {
+        List<HistoryItem> items = new ArrayList<>(limit);
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        try (Cursor cursor = db.query(TABLE_ANALYSES, ITEM_COLUMNS, selection, selectionArgs,
+                null, null, orderBy, String.valueOf(limit))) {
+            while (cursor.moveToNext()) {
+                items.add(new HistoryItem(
+                        cursor.getLong(0),
+                        cursor.getString(1),
+                        cursor.getString(2),
+                        cursor.getLong(3),
+                        cursor.getDouble(4),
+                        cursor.getLong(5)));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 검색 결과를 관련도 순서대로 목록 항목으로 조회
+     */
+    @WorkerThread
+    public List<HistoryItem> search(String query, int limit) {
+        ensureSearchIndex();
+        Timer timer = Metrics.timer(Metrics.HISTORY_SEARCH);
+        long startedAt = timer.start();
+        List<SearchIndex.Hit> hits = searchIndex.search(query, limit);
+        if (hits.isEmpty()) {
+            timer.stop(startedAt);
+            return new ArrayList<>();
+        }
+
+        StringBuilder selection = new StringBuilder(COL_ID).append(" IN (");
+        String[] selectionArgs = new String[hits.size()];
+        Map<Long, Integer> rank = new HashMap<>();
+        for (int i = 0; i < hits.size(); i++) {
+            selection.append(i == 0 ? "?" : ",?");
+            selectionArgs[i] = String.valueOf(hits.get(i).id);
+            rank.put(hits.get(i).id, i);
+        }
+        selection.append(')');
+
+        HistoryItem[] ranked = new HistoryItem[hits.size()];
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        try (Cursor cursor = db.query(TABLE_ANALYSES, ITEM_COLUMNS, selection.toString(), selectionArgs,
+                null, null, null)) {
+            while (cursor.moveToNext()) {
+                HistoryItem item = new HistoryItem(
+                        cursor.getLong(0),
+                        cursor.getString(1),
+                        cursor.getString(2),
+                        cursor.getLong(3),
+                        cursor.getDouble(4),
+                        cursor.getLong(5));
+                ranked[rank.get(item.id)] = item;
+            }
+        }
+        List<HistoryItem> items = new ArrayList<>(ranked.length);
+        for (HistoryItem item : ranked) {
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        long elapsed = timer.stop(startedAt);
+        Log.d(TAG, "Search matched " + items.size() + " in " + elapsed / 1000 + "us");
+        return items;
+    }
+
+    /**
+     * 저장된 전체 이력으로 검색 색인 생성 (한 번만)
+     */
+    private synchronized void ensureSearchIndex() {
+        if (searchIndexBuilt) {
+            return;
+        }
+        Timer timer = Metrics.timer(Metrics.HISTORY_SEARCH_INDEX);
+        long startedAt = timer.start();
+        long afterId = 0;
+        List<AnalysisRecord> batch;
+        while (!(batch = loadBatchAfter(afterId, INDEX_BATCH_SIZE)).isEmpty()) {
+            for (AnalysisRecord record : batch) {
+                indexRecord(record);
+            }
+            afterId = batch.get(batch.size() - 1).id;
+        }
+        searchIndexBuilt = true;
+        Log.d(TAG, "Search index built for " + searchIndex.size() + " analyses in "
+                + timer.stop(startedAt) / 1_000_000 + "ms");
+    }
+
+    private void indexRecord(AnalysisRecord record) {
+        StringBuilder body = new StringBuilder();
+        if (record.description != null) {
+            body.append(record.description);
+        }
+        if (record.answers != null) {
+            for (String answer : record.answers.values()) {
+                if (answer != null) {
+                    body.append('\n').append(answer);
+                }
+            }
+        }
+        searchIndex.add(record.id, record.title, body);
+    }
+
+    @WorkerThread
+    public AnalysisRecord findById(long id) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        AnalysisRecord record;
+        try (Cursor cursor = db.query(TABLE_ANALYSES, null, COL_ID + " = ?",
+                new String[]{String.valueOf(id)}, null, null, null)) {
+            if (!cursor.moveToFirst()) {
+                return null;
+            }
+            record = fromCursor(cursor);
+        }
+
+        Map<String, String> answers = new HashMap<>();
+        try (Cursor cursor = db.query(TABLE_ANSWERS, new String[]{COL_QUESTION_ID, COL_ANSWER},
+                COL_ANALYSIS_ID + " = ?", new String[]{String.valueOf(id)}, null, null, null)) {
+            while (cursor.moveToNext()) {
+                answers.put(cursor.getString(0), cursor.getString(1));
+            }
+        }
+        record.answers = answers;
+        return record;
+    }
+
+    @WorkerThread
+    public HistorySummary summary() {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        try (Cursor cursor = db.rawQuery("SELECT COUNT(*), AVG(" + COL_RISK_SCORE + "), MAX(" + COL_RISK_SCORE
+                + ") FROM " + TABLE_ANALYSES, null)) {
+            if (!cursor.moveToFirst()) {
+                return new HistorySummary(0, 0, 0);
+            }
+            return new HistorySummary(cursor.getLong(0), cursor.getDouble(1), cursor.getDouble(2));
+        }
+    }
+
+    /**
+     * 저장된 분석 한 건만 내보내는 Source (워커 스레드에서 조회)
+     */
+    public ReportExporter.Source recordSource(long id) {
+        return new ReportExporter.Source() {
+            @Override
+            public long count() {
+                return 1;
+            }
+
+            @Override
+            public List<AnalysisRecord> loadBatchAfter(long afterId, int limit) {
+                AnalysisRecord record = afterId < id ? findById(id) : null;
+                return record != null ? Collections.singletonList(record) : Collections.emptyList();
+            }
+        };
+    }
+
+    /**
+     * 내보내기 배치 조회 (ID 오름차순, 답변 포함)
+     */
+    @WorkerThread
+    @Override
+    public List<AnalysisRecord> loadBatchAfter(long afterId, int limit) {
+        return loadBatch(COL_ID + " > ?", new String[]{String.valueOf(afterId)}, limit);
+    }
+
+    /**
+     * 재계산 배치 조회 - 이전 엔진 버전으로 계산한 로컬 분석만 (백엔드 결과는 제외)
+     */
+    @WorkerThread
+    @Override
+    public List<AnalysisRecord> loadStaleBatchAfter(long afterId, int limit) {
+        return loadBatch(COL_ID + " > ? AND " + COL_SOURCE + " = ? AND " + COL_ENGINE_VERSION + " < ?",
+                new String[]{
+                        String.valueOf(afterId), AnalysisResult.SOURCE_LOCAL,
+                        String.valueOf(RiskScorer.ENGINE_VERSION)
+                }, limit);
+    }
+
+    private List<AnalysisRecord> loadBatch(String selection, String[] selectionArgs, int limit) {
+        SQLiteDatabase db = dbHelper.getReadableDatabase();
+        List<AnalysisRecord> records = new ArrayList<>(limit);
+        Map<Long, AnalysisRecord> byId = new HashMap<>();
+        try (Cursor cursor = db.query(TABLE_ANALYSES, null, selection, selectionArgs,
+                null, null, COL_ID + " ASC", String.valueOf(limit))) {
+            while (cursor.moveToNext()) {
+                AnalysisRecord record = fromCursor(cursor);
+                record.answers = new HashMap<>();
+                records.add(record);
+                byId.put(record.id, record);
+            }
+        }
+        if (records.isEmpty()) {
+            return records;
+        }
+
+        // 배치의 답변을 한 번에 조회 (범위 안의 배치에 없는 ID는 byId에서 걸러짐)
+        String[] range = {
+                String.valueOf(records.get(0).id), String.valueOf(records.get(records.size() - 1).id)
+        };
+        try (Cursor cursor = db.query(TABLE_ANSWERS, new String[]{COL_ANALYSIS_ID, COL_QUESTION_ID, COL_ANSWER},
+                COL_ANALYSIS_ID + " BETWEEN ? AND ?", range, null, null, null)) {
+            while (cursor.moveToNext()) {
+                AnalysisRecord record = byId.get(cursor.getLong(0));
+                if (record != null) {
+                    record.answers.put(cursor.getString(1), cursor.getString(2));
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * 재계산한 점수/손실액과 요약/실행 계획, 엔진 버전 저장
+     * 로컬 분석 행만 갱신하므로 백엔드 결과는 덮어쓰지 않는다
+     */
+    @WorkerThread
+    @Override
+    public void updateScores(List<AnalysisRecord> records) {
+        SQLiteDatabase db = dbHelper.getWritableDatabase();
+        ContentValues values = new ContentValues(12);
+        String[] whereArgs = {null, AnalysisResult.SOURCE_LOCAL};
+        db.beginTransaction();
+        try {
+            for (AnalysisRecord record : records) {
+                AnalysisResult result = record.result;
+                values.clear();
+                values.put(COL_RISK_SCORE, result.overallRiskScore);
+                values.put(COL_SEVERITY, result.severity);
+                values.put(COL_OCCURRENCE, result.occurrence);
+                values.put(COL_DETECTION, result.detection);
+                values.put(COL_RPN, result.rpn);
+                values.put(COL_TOTAL_LOSS, result.totalExpectedLoss);
+                values.put(COL_TIME_COST, result.timeCost);
+                values.put(COL_DIRECT_INVESTMENT, result.directInvestment);
+                values.put(COL_PERSONNEL_COST, result.personnelCost);
+                values.put(COL_SUMMARY, result.executiveSummary);
+                values.put(COL_RECOMMENDATIONS, result.aiRecommendations != null
+                        ? gson.toJson(result.aiRecommendations) : null);
+                values.put(COL_ENGINE_VERSION, result.engineVersion);
+                whereArgs[0] = String.valueOf(record.id);
+                db.update(TABLE_ANALYSES, values, COL_ID + " = ? AND " + COL_SOURCE + " = ?", whereArgs);
+            }
+            db.setTransactionSuccessful();
+        } finally {
+            db.endTransaction();
+        }
+    }
+
+    @WorkerThread
+    @Override
+    public long count() {
+        return DatabaseUtils.queryNumEntries(dbHelper.getReadableDatabase(), TABLE_ANALYSES);
+    }
+
+    @WorkerThread
+    public void delete(long id) {
+        dbHelper.getWritableDatabase().delete(TABLE_ANALYSES, COL_ID + " = ?", new String[]{String.valueOf(id)});
+        searchIndex.remove(id);
+    }
+
+    // ===== 변환 =====
+
+    private ContentValues toValues(AnalysisRecord record) {
+        AnalysisResult result = record.result;
+        ContentValues values = new ContentValues();
+        values.put(COL_TITLE, record.title != null ? record.title : "");
+        values.put(COL_DESCRIPTION, record.description);
+        values.put(COL_BUDGET, record.budget);
+        values.put(COL_CREATED_AT, record.createdAt > 0 ? record.createdAt : System.currentTimeMillis());
+        values.put(COL_RISK_SCORE, result.overallRiskScore);
+        values.put(COL_SEVERITY, result.severity);
+        values.put(COL_OCCURRENCE, result.occurrence);
+        values.put(COL_DETECTION, result.detection);
+        values.put(COL_RPN, result.rpn);
+        values.put(COL_TOTAL_LOSS, result.totalExpectedLoss);
+        values.put(COL_TIME_COST, result.timeCost);
+        values.put(COL_DIRECT_INVESTMENT, result.directInvestment);
+        values.put(COL_PERSONNEL_COST, result.personnelCost);
+        values.put(COL_SUMMARY, result.executiveSummary);
+        values.put(COL_RECOMMENDATIONS, result.aiRecommendations != null
+                ? gson.toJson(result.aiRecommendations) : null);
+        values.put(COL_SOURCE, result.source);
+        values.put(COL_ENGINE_VERSION, result.engineVersion);
+        return values;
+    }
+
+    private void insertAnswers(SQLiteDatabase db, long analysisId, Map<String, String> answers) {
+        if (answers == null) {
+            return;
+        }
+        ContentValues values = new ContentValues(3);
+        for (Map.Entry<String, String> entry : answers.entrySet()) {
+            values.clear();
+            values.put(COL_ANALYSIS_ID, analysisId);
+            values.put(COL_QUESTION_ID, entry.getKey());
+            values.put(COL_ANSWER, entry.getValue());
+            db.insertOrThrow(TABLE_ANSWERS, null, values);
+        }
+    }
+
+    private AnalysisRecord fromCursor(Cursor cursor) {
+        AnalysisRecord record = new AnalysisRecord();
+        record.id = cursor.getLong(cursor.getColumnIndexOrThrow(COL_ID));
+        record.title = cursor.getString(cursor.getColumnIndexOrThrow(COL_TITLE));
+        record.description = cursor.getString(cursor.getColumnIndexOrThrow(COL_DESCRIPTION));
+        record.budget = cursor.getString(cursor.getColumnIndexOrThrow(COL_BUDGET));
+        record.createdAt = cursor.getLong(cursor.getColumnIndexOrThrow(COL_CREATED_AT));
+
+        AnalysisResult result = new AnalysisResult();
+        result.businessName = record.title;
+        result.overallRiskScore = cursor.getDouble(cursor.getColumnIndexOrThrow(COL_RISK_SCORE));
+        result.severity = cursor.getInt(cursor.getColumnIndexOrThrow(COL_SEVERITY));
+        result.occurrence = cursor.getInt(cursor.getColumnIndexOrThrow(COL_OCCURRENCE));
+        result.detection = cursor.getInt(cursor.getColumnIndexOrThrow(COL_DETECTION));
+        result.rpn = cursor.getInt(cursor.getColumnIndexOrThrow(COL_RPN));
+        result.totalExpectedLoss = cursor.getLong(cursor.getColumnIndexOrThrow(COL_TOTAL_LOSS));
+        result.timeCost = cursor.getLong(cursor.getColumnIndexOrThrow(COL_TIME_COST));
+        result.directInvestment = cursor.getLong(cursor.getColumnIndexOrThrow(COL_DIRECT_INVESTMENT));
+        result.personnelCost = cursor.getLong(cursor.getColumnIndexOrThrow(COL_PERSONNEL_COST));
+        result.executiveSummary = cursor.getString(cursor.getColumnIndexOrThrow(COL_SUMMARY));
+        result.source = cursor.getString(cursor.getColumnIndexOrThrow(COL_SOURCE));
+        result.engineVersion = cursor.getInt(cursor.getColumnIndexOrThrow(COL_ENGINE_VERSION));
+
+        String recommendations = cursor.getString(cursor.getColumnIndexOrThrow(COL_RECOMMENDATIONS));
+        result.aiRecommendations = recommendations != null
+                ? gson.fromJson(recommendations, String[].class) : new String[0];
+        record.result = result;
+        return record;
+    }
+}
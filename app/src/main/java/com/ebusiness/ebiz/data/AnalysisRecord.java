@@ -0,0 +1,17 @@
+package com.ebusiness.ebiz.data;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import java.util.Map;
+
+/**
+ * 저장된 분석 한 건 (프로젝트 정보 + 답변 + 분석 결과)
+ */
+public class AnalysisRecord {
+    public long id;
+    public String title;
+    public String description;
+    public String budget; // 화면 표시용 예산 문자열 ("3000만원", "미정")
+    public long createdAt;
+    public Map<String, String> answers;
+    public AnalysisResult result;
+}
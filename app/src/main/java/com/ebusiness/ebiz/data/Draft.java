@@ -0,0 +1,15 @@
+package com.ebusiness.ebiz.data;
+
+import java.util.HashMap;
+
+/**
+ * 작성 중인 입력 임시 저장본 (프로젝트 정보 또는 질문 답변)
+ */
+public class Draft {
+    public String title;
+    public String description;
+    public String budget;
+    public boolean budgetUnknown;
+    public HashMap<String, String> answers; // 질문 ID별 답변 (답변 임시 저장본만 사용)
+    public long updatedAt;
+}
@@ -0,0 +1,194 @@
+package com.ebusiness.ebiz.data;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import android.util.AtomicFile;
+import android.util.Log;
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 입력 임시 저장소
+ * 입력 중인 프로젝트 정보/답변을 파일로 자동 저장하여 프로세스가 종료되어도 복원할 수 있게 한다
+ *
+ * save()는 메모리 캐시만 갱신하고, 전용 쓰기 스레드가 FLUSH_INTERVAL_MS마다 최대 한 번
+ * 마지막 값만 기록한다(쓰기 병합). 조회는 메모리 캐시를 먼저 사용하므로 재진입 시 바로 복원된다.
+ */
+public final class DraftStore {
+    private static final String TAG = "DraftStore";
+
+    public static final String KEY_PROJECT = "project";
+    public static final String KEY_ANSWERS = "answers";
+
+    static final long FLUSH_INTERVAL_MS = 1000;
+
+    private static DraftStore instance;
+
+    private final File directory;
+    private final ScheduledExecutorService writer;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Gson gson = new Gson();
+
+    // 최신 값 (디스크에 아직 기록되지 않은 값 포함)
+    private final Map<String, Draft> cache = new ConcurrentHashMap<>();
+
+    // 다음 기록 대상 (this로 보호)
+    private final Map<String, Draft> pending = new HashMap<>();
+    private boolean flushScheduled = false;
+    private long lastFlushAt = 0;
+
+    /**
+     * 조회 결과 (메인 스레드에서 호출됨, 저장본이 없으면 null)
+     */
+    public interface Callback {
+        void onResult(Draft draft);
+    }
+
+    private DraftStore(Context context) {
+        directory = new File(context.getFilesDir(), "drafts");
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "ebiz-draft-writer"));
+
+        // 화면 진입 전에 미리 읽어 두어 복원 시 디스크 대기가 없도록 함
+        writer.execute(() -> {
+            preload(KEY_PROJECT);
+            preload(KEY_ANSWERS);
+        });
+    }
+
+    public static synchronized DraftStore getInstance(Context context) {
+        if (instance == null) {
+            instance = new DraftStore(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * 임시 저장 (여러 번 호출되어도 FLUSH_INTERVAL_MS 동안 한 번만 기록)
+     */
+    public void save(String key, Draft draft) {
+        draft.updatedAt = System.currentTimeMillis();
+        cache.put(key, draft);
+
+        synchronized (this) {
+            pending.put(key, draft);
+            if (flushScheduled) {
+                return;
+            }
+            flushScheduled = true;
+            long delay = Math.max(0, lastFlushAt + FLUSH_INTERVAL_MS - SystemClock.uptimeMillis());
+            writer.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 대기 중인 저장본을 즉시 기록 (화면이 백그라운드로 갈 때 호출)
+     */
+    public void flushNow() {
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+        }
+        writer.execute(this::flush);
+    }
+
+    /**
+     * 저장본 조회 - 메모리에 있으면 즉시 호출, 없으면 쓰기 스레드에서 읽은 뒤 호출
+     */
+    public void load(String key, Callback callback) {
+        Draft cached = cache.get(key);
+        if (cached != null) {
+            callback.onResult(cached);
+            return;
+        }
+        writer.execute(() -> {
+            Draft draft = preload(key);
+            mainHandler.post(() -> callback.onResult(draft));
+        });
+    }
+
+    /**
+     * 저장본 삭제 (분석 제출 등으로 더 이상 필요 없을 때)
+     */
+    public void clear(String key) {
+        cache.remove(key);
+        synchronized (this) {
+            pending.remove(key);
+        }
+        writer.execute(() -> fileFor(key).delete());
+    }
+
+    private void flush() {
+        List<Map.Entry<String, Draft>> batch;
+        synchronized (this) {
+            flushScheduled = false;
+            lastFlushAt = SystemClock.uptimeMillis();
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending.entrySet());
+            pending.clear();
+        }
+
+        for (Map.Entry<String, Draft> entry : batch) {
+            write(entry.getKey(), entry.getValue());
+        }
+    }
+
+    private void write(String key, Draft draft) {
+        if (!directory.exists() && !directory.mkdirs()) {
+            Log.w(TAG, "Failed to create draft directory");
+            return;
+        }
+        AtomicFile file = new AtomicFile(fileFor(key));
+        FileOutputStream out = null;
+        try {
+            out = file.startWrite();
+            out.write(gson.toJson(draft).getBytes(StandardCharsets.UTF_8));
+            file.finishWrite(out);
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to write draft: " + key, e);
+            if (out != null) {
+                file.failWrite(out);
+            }
+        }
+    }
+
+    private Draft preload(String key) {
+        Draft cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        AtomicFile file = new AtomicFile(fileFor(key));
+        if (!file.getBaseFile().exists()) {
+            return null;
+        }
+        try {
+            Draft draft = gson.fromJson(new String(file.readFully(), StandardCharsets.UTF_8), Draft.class);
+            if (draft != null) {
+                cache.putIfAbsent(key, draft);
+            }
+            return cache.get(key);
+        } catch (IOException | RuntimeException e) {
+            Log.w(TAG, "Failed to read draft: " + key, e);
+            return null;
+        }
+    }
+
+    private File fileFor(String key) {
+        return new File(directory, key + ".json");
+    }
+}
@@ -0,0 +1,45 @@
+package com.ebusiness.ebiz.data;
+
+/**
+ * 분석 이력 목록의 한 줄 (목록 조회 시 필요한 요약 컬럼만 포함)
+ */
+public final class HistoryItem {
+    public final long id;
+    public final String title;
+    public final String budget;
+    public final long createdAt;
+    public final double overallRiskScore;
+    public final long totalExpectedLoss;
+
+    public HistoryItem(long id, String title, String budget, long createdAt,
+                       double overallRiskScore, long totalExpectedLoss) {
+        this.id = id;
+        this.title = title;
+        this.budget = budget;
+        this.createdAt = createdAt;
+        this.overallRiskScore = overallRiskScore;
+        this.totalExpectedLoss = totalExpectedLoss;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof HistoryItem)) {
+            return false;
+        }
+        HistoryItem other = (HistoryItem) o;
+        return id == other.id
+                && createdAt == other.createdAt
+                && Double.compare(overallRiskScore, other.overallRiskScore) == 0
+                && totalExpectedLoss == other.totalExpectedLoss
+                && (title != null ? title.equals(other.title) : other.title == null)
+                && (budget != null ? budget.equals(other.budget) : other.budget == null);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(id);
+    }
+}
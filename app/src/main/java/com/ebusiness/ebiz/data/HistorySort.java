@@ -0,0 +1,9 @@
+package com.ebusiness.ebiz.data;
+
+/**
+ * 분석 이력 정렬 기준
+ */
+public enum HistorySort {
+    DATE,       // 최신순
+    RISK_SCORE  // 위험도 높은 순
+}
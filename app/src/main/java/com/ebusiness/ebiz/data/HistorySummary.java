@@ -0,0 +1,16 @@
+package com.ebusiness.ebiz.data;
+
+/**
+ * 분석 이력 요약 (홈 화면 표시용)
+ */
+public final class HistorySummary {
+    public final long count;
+    public final double averageRiskScore;
+    public final double maxRiskScore;
+
+    public HistorySummary(long count, double averageRiskScore, double maxRiskScore) {
+        this.count = count;
+        this.averageRiskScore = averageRiskScore;
+        this.maxRiskScore = maxRiskScore;
+    }
+}
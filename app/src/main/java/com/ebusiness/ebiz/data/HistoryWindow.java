@@ -0,0 +1,201 @@
+package com.ebusiness.ebiz.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 이력 목록의 메모리 창 (연속된 최대 maxPages 페이지만 보관)
+ * 아래로 스크롤하면 뒤에 페이지를 붙이고 앞쪽 페이지를 버리며, 위로 돌아가면 그 반대로 한다.
+ * 버린 위치는 자리표시(null)로 남겨 목록 위치가 바뀌지 않으므로 스크롤이 튀지 않는다.
+ * 따라서 메모리와 목록 갱신 비용은 스크롤한 양이 아니라 창 크기에 비례한다.
+ *
+ * 목록 크기는 지금까지 불러온 가장 먼 위치까지이며, 마지막 페이지를 받으면 더 늘어나지 않는다.
+ * 메인 스레드 전용 (동기화하지 않음)
+ */
+public final class HistoryWindow {
+
+    /**
+     * 목록 변경 알림 (RecyclerView.Adapter의 notifyItemRange* 호출용)
+     */
+    public interface Listener {
+        void onChanged(int position, int count);
+
+        void onInserted(int position, int count);
+
+        void onRemoved(int position, int count);
+    }
+
+    private final int pageSize;
+    private final int maxItems;
+    private final ArrayList<HistoryItem> items;
+    private Listener listener;
+
+    private int start = 0;          // 창의 첫 항목 위치
+    private int size = 0;           // 목록 크기 (자리표시 포함)
+    private boolean endReached = false;
+
+    public HistoryWindow(int pageSize, int maxPages) {
+        if (pageSize <= 0 || maxPages < 2) {
+            throw new IllegalArgumentException("pageSize=" + pageSize + ", maxPages=" + maxPages);
+        }
+        this.pageSize = pageSize;
+        this.maxItems = pageSize * maxPages;
+        this.items = new ArrayList<>(maxItems + pageSize);
+    }
+
+    public void setListener(Listener listener) {
+        this.listener = listener;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * position의 항목 (창 밖이면 아직 불러오지 않은 자리표시로 null)
+     */
+    public HistoryItem get(int position) {
+        int index = position - start;
+        return index >= 0 && index < items.size() ? items.get(index) : null;
+    }
+
+    public int windowStart() {
+        return start;
+    }
+
+    public int windowEnd() {
+        return start + items.size();
+    }
+
+    /**
+     * 처음부터 다시 (목록 전체가 바뀌므로 호출한 쪽에서 전체 갱신)
+     */
+    public void clear() {
+        items.clear();
+        start = 0;
+        size = 0;
+        endReached = false;
+    }
+
+    /**
+     * 페이지 없이 전체 목록을 한 번에 표시 (검색 결과)
+     */
+    public void setAll(List<HistoryItem> all) {
+        clear();
+        items.addAll(all);
+        size = all.size();
+        endReached = true;
+    }
+
+    /**
+     * 창 뒤쪽에 페이지가 더 있는지 (자리표시로 남은 뒤쪽 항목 포함)
+     */
+    public boolean hasMoreAfter() {
+        return windowEnd() < size || !endReached;
+    }
+
+    public boolean hasMoreBefore() {
+        return start > 0;
+    }
+
+    /**
+     * 다음 페이지 조회 기준 (창의 마지막 항목, 비어 있으면 null)
+     */
+    public HistoryItem last() {
+        return items.isEmpty() ? null : items.get(items.size() - 1);
+    }
+
+    /**
+     * 이전 페이지 조회 기준 (창의 첫 항목)
+     */
+    public HistoryItem first() {
+        return items.isEmpty() ? null : items.get(0);
+    }
+
+    /**
+     * 보이는 마지막 위치가 창 끝에 가까우면 true (다음 페이지 요청 시점)
+     */
+    public boolean needsAfter(int lastVisible, int prefetchDistance) {
+        return hasMoreAfter() && lastVisible >= windowEnd() - prefetchDistance;
+    }
+
+    public boolean needsBefore(int firstVisible, int prefetchDistance) {
+        return hasMoreBefore() && firstVisible <= start + prefetchDistance;
+    }
+
+    /**
+     * 창 뒤에 페이지 추가 (first()/last() 기준 정렬 순서), 창이 넘치면 앞쪽 페이지를 버림
+     */
+    public void append(List<HistoryItem> page) {
+        int from = windowEnd();
+        items.addAll(page);
+        int end = windowEnd();
+        if (end > size) {
+            notifyChanged(from, size - from);
+            notifyInserted(size, end - size);
+            size = end;
+        } else {
+            notifyChanged(from, page.size());
+        }
+
+        if (page.size() < pageSize) {
+            // 마지막 페이지 - 그 사이 삭제되어 뒤쪽 자리표시가 남았으면 제거
+            endReached = true;
+            if (size > end) {
+                notifyRemoved(end, size - end);
+                size = end;
+            }
+        }
+
+        int excess = items.size() - maxItems;
+        if (excess > 0) {
+            items.subList(0, excess).clear();
+            notifyChanged(start, excess);
+            start += excess;
+        }
+    }
+
+    /**
+     * 창 앞에 페이지 추가 (page는 화면 순서), 창이 넘치면 뒤쪽 페이지를 버림
+     * 처음까지 도달했는데 위치가 맞지 않으면(그 사이 추가/삭제) 앞쪽 자리표시 수를 맞춘다
+     */
+    public void prepend(List<HistoryItem> page) {
+        int newStart = start - page.size();
+        if (page.size() < pageSize || newStart < 0) {
+            if (newStart > 0) {
+                notifyRemoved(0, newStart);
+            } else if (newStart < 0) {
+                notifyInserted(0, -newStart);
+            }
+            size -= newStart;
+            newStart = 0;
+        }
+        items.addAll(0, page);
+        start = newStart;
+        notifyChanged(start, page.size());
+
+        int excess = items.size() - maxItems;
+        if (excess > 0) {
+            items.subList(items.size() - excess, items.size()).clear();
+            notifyChanged(windowEnd(), excess);
+        }
+    }
+
+    private void notifyChanged(int position, int count) {
+        if (listener != null && count > 0) {
+            listener.onChanged(position, count);
+        }
+    }
+
+    private void notifyInserted(int position, int count) {
+        if (listener != null && count > 0) {
+            listener.onInserted(position, count);
+        }
+    }
+
+    private void notifyRemoved(int position, int count) {
+        if (listener != null && count > 0) {
+            listener.onRemoved(position, count);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.ebusiness.ebiz.data;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.analysis.RiskScorer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 저장된 분석 재계산
+ * 이전 엔진 버전으로 계산했거나 입력이 바뀐 로컬 분석을 ID 순으로 batchSize개씩 읽어 점수를 다시 계산하고,
+ * 배치마다 저장한 뒤 진행 위치를 기록한다. 백엔드 결과는 다시 계산하지 않는다.
+ * 중간에 멈춰도 다음 실행은 기록된 위치 다음부터 이어서 처리한다.
+ *
+ * 진행 위치는 결과 저장 후에 기록하므로, 그 사이에 종료되면 마지막 배치만 다시 계산된다(재계산은 멱등).
+ */
+public final class ReanalysisRunner {
+    public static final int DEFAULT_BATCH_SIZE = 20;
+
+    /**
+     * 재계산 대상 저장소 (워커 스레드에서 호출됨)
+     */
+    public interface Store {
+        /**
+         * afterId보다 큰 ID 중 재계산 대상(RiskScorer.isStale)을 ID 오름차순으로 최대 limit개 (답변 포함)
+         */
+        List<AnalysisRecord> loadStaleBatchAfter(long afterId, int limit);
+
+        /**
+         * 점수와 엔진 버전 갱신 (한 트랜잭션으로 저장)
+         */
+        void updateScores(List<AnalysisRecord> records);
+    }
+
+    /**
+     * 진행 위치 저장 (마지막으로 저장한 ID, 진행 중인 실행이 없으면 0)
+     */
+    public interface Checkpoint {
+        long load();
+
+        void save(long lastId);
+
+        void clear();
+    }
+
+    /**
+     * 저장된 입력으로 점수를 다시 계산
+     */
+    public interface Analyzer {
+        AnalysisResult analyze(AnalysisRecord record);
+    }
+
+    /**
+     * 실행 결과
+     */
+    public static final class Outcome {
+        public final boolean completed; // false면 중단됨 (다음 실행에서 이어서 처리)
+        public final int processed;
+
+        Outcome(boolean completed, int processed) {
+            this.completed = completed;
+            this.processed = processed;
+        }
+    }
+
+    private final Store store;
+    private final Checkpoint checkpoint;
+    private final Analyzer analyzer;
+    private final int batchSize;
+
+    public ReanalysisRunner(Store store, Checkpoint checkpoint, Analyzer analyzer, int batchSize) {
+        this.store = store;
+        this.checkpoint = checkpoint;
+        this.analyzer = analyzer;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 끝까지 처리하거나 stopRequested가 true가 될 때까지 실행
+     * 중단 요청은 레코드 사이에서 확인하고, 그때까지 계산한 결과는 저장한다.
+     */
+    public Outcome run(BooleanSupplier stopRequested) {
+        long lastId = checkpoint.load();
+        int processed = 0;
+
+        while (!stopRequested.getAsBoolean()) {
+            List<AnalysisRecord> batch = store.loadStaleBatchAfter(lastId, batchSize);
+            if (batch.isEmpty()) {
+                checkpoint.clear();
+                return new Outcome(true, processed);
+            }
+
+            List<AnalysisRecord> updated = new ArrayList<>(batch.size());
+            for (AnalysisRecord record : batch) {
+                if (stopRequested.getAsBoolean()) {
+                    break;
+                }
+                // 저장소가 거른 뒤에도 백엔드 결과나 최신 결과는 덮어쓰지 않도록 다시 확인
+                AnalysisResult result = RiskScorer.isStale(record.result) ? analyzer.analyze(record) : null;
+                if (result != null) {
+                    record.result = result;
+                    updated.add(record);
+                }
+                lastId = record.id;
+                processed++;
+            }
+
+            if (!updated.isEmpty()) {
+                store.updateScores(updated);
+            }
+            checkpoint.save(lastId);
+        }
+        return new Outcome(false, processed);
+    }
+}
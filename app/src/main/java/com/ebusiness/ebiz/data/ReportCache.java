@@ -0,0 +1,304 @@
+package com.ebusiness.ebiz.data;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.analysis.ProjectInput;
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 분석 결과 캐시 (메모리 LRU + 디스크)
+ * 같은 프로젝트 정보와 답변으로 다시 분석하면 백엔드 호출이나 시뮬레이션 없이 저장된 결과를 사용한다
+ *
+ * 키는 제목/설명/예산/답변을 정규화해 만든 SHA-256 해시이며, 두 단계 모두 TTL_MS가 지나면 만료된다.
+ * 메모리는 최근 MEMORY_ENTRIES개, 디스크는 MAX_DISK_BYTES 이내로 유지하고 오래 사용하지 않은 항목부터 제거한다.
+ * 캐시된 AnalysisResult는 여러 화면이 공유하므로 읽기 전용으로 다뤄야 한다.
+ *
+ * getFromMemory()는 메인 스레드에서 호출해도 되지만, get()/put()은 디스크를 사용하므로 워커 스레드 전용이다.
+ */
+public final class ReportCache {
+    static final int MEMORY_ENTRIES = 16;
+    static final long MAX_DISK_BYTES = 2L * 1024 * 1024;
+    static final long TTL_MS = 24L * 60 * 60 * 1000;
+
+    // 분석 엔진/응답 형식이 바뀌면 올려서 이전 캐시를 무효화
+    private static final int KEY_VERSION = 1;
+    private static final String FILE_SUFFIX = ".json";
+
+    private static ReportCache instance;
+
+    private final File directory;
+    private final long maxDiskBytes;
+    private final long ttlMs;
+    private final LongSupplier clock;
+    private final Gson gson = new Gson();
+
+    private final Map<String, Entry> memory;
+
+    // 디스크 사용량 (첫 디스크 접근 시 계산, this로 보호)
+    private long diskBytes = -1;
+
+    /**
+     * 디스크 저장 형식
+     */
+    static final class Entry {
+        long createdAt;
+        AnalysisResult result;
+
+        Entry(long createdAt, AnalysisResult result) {
+            this.createdAt = createdAt;
+            this.result = result;
+        }
+    }
+
+    ReportCache(File directory, int memoryEntries, long maxDiskBytes, long ttlMs, LongSupplier clock) {
+        this.directory = directory;
+        this.maxDiskBytes = maxDiskBytes;
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+        this.memory = new LinkedHashMap<String, Entry>(memoryEntries, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > memoryEntries;
+            }
+        };
+    }
+
+    /**
+     * @param cacheRoot 앱 캐시 디렉터리 (시스템이 공간 부족 시 비울 수 있는 위치)
+     */
+    public static synchronized ReportCache getInstance(File cacheRoot) {
+        if (instance == null) {
+            instance = new ReportCache(new File(cacheRoot, "reports"),
+                    MEMORY_ENTRIES, MAX_DISK_BYTES, TTL_MS, System::currentTimeMillis);
+        }
+        return instance;
+    }
+
+    /**
+     * 분석 입력의 캐시 키 (답변 순서와 무관하게 같은 입력이면 같은 키)
+     */
+    public static String keyOf(ProjectInput input) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        update(digest, String.valueOf(KEY_VERSION));
+        update(digest, input.getTitle().trim());
+        update(digest, input.getDescription().trim());
+        update(digest, String.valueOf(input.getBudgetManwon()));
+        for (Map.Entry<String, String> answer : new TreeMap<>(input.getAnswers()).entrySet()) {
+            update(digest, answer.getKey());
+            update(digest, answer.getValue() != null ? answer.getValue().trim() : "");
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 메모리에 있는 결과만 조회 (만료되었거나 없으면 null)
+     */
+    public AnalysisResult getFromMemory(String key) {
+        synchronized (this) {
+            Entry entry = memory.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (isExpired(entry)) {
+                memory.remove(key);
+                return null;
+            }
+            return entry.result;
+        }
+    }
+
+    /**
+     * 메모리 → 디스크 순서로 조회하고, 디스크에서 찾으면 메모리에 올린다 (워커 스레드 전용)
+     */
+    public AnalysisResult get(String key) {
+        AnalysisResult cached = getFromMemory(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        File file = fileFor(key);
+        if (!file.exists()) {
+            return null;
+        }
+        Entry entry = read(file);
+        if (entry == null || entry.result == null || isExpired(entry)) {
+            delete(file);
+            return null;
+        }
+        // 디스크 LRU 순서는 마지막 사용 시각(수정 시각)으로 관리
+        file.setLastModified(clock.getAsLong());
+        synchronized (this) {
+            memory.put(key, entry);
+        }
+        return entry.result;
+    }
+
+    /**
+     * 결과 저장 (워커 스레드 전용)
+     */
+    public void put(String key, AnalysisResult result) {
+        Entry entry = new Entry(clock.getAsLong(), result);
+        synchronized (this) {
+            memory.put(key, entry);
+        }
+        write(fileFor(key), entry);
+    }
+
+    /**
+     * 항목 삭제 (결과를 다시 계산해야 할 때)
+     */
+    public void remove(String key) {
+        synchronized (this) {
+            memory.remove(key);
+        }
+        delete(fileFor(key));
+    }
+
+    synchronized int memorySize() {
+        return memory.size();
+    }
+
+    synchronized long diskBytes() {
+        ensureDiskUsage();
+        return diskBytes;
+    }
+
+    private boolean isExpired(Entry entry) {
+        return clock.getAsLong() - entry.createdAt > ttlMs;
+    }
+
+    private Entry read(File file) {
+        try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            return gson.fromJson(reader, Entry.class);
+        } catch (IOException | JsonParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 임시 파일에 쓴 뒤 이름을 바꿔, 쓰는 도중 종료되어도 깨진 항목이 남지 않게 한다
+     */
+    private void write(File file, Entry entry) {
+        if (!directory.exists() && !directory.mkdirs()) {
+            return;
+        }
+        File temp = new File(directory, file.getName() + ".tmp");
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(temp), StandardCharsets.UTF_8)) {
+            gson.toJson(entry, writer);
+        } catch (IOException e) {
+            temp.delete();
+            return;
+        }
+
+        synchronized (this) {
+            ensureDiskUsage();
+            long previous = file.exists() ? file.length() : 0;
+            if (!temp.renameTo(file)) {
+                temp.delete();
+                return;
+            }
+            file.setLastModified(entry.createdAt);
+            diskBytes += file.length() - previous;
+            trimDisk();
+        }
+    }
+
+    private void delete(File file) {
+        synchronized (this) {
+            long length = file.exists() ? file.length() : 0;
+            if (file.delete() && diskBytes >= 0) {
+                diskBytes -= length;
+            }
+        }
+    }
+
+    /**
+     * 디스크 사용량 계산 (만료된 항목은 이때 함께 정리)
+     */
+    private void ensureDiskUsage() {
+        if (diskBytes >= 0) {
+            return;
+        }
+        diskBytes = 0;
+        long expiredBefore = clock.getAsLong() - ttlMs;
+        for (File file : listEntries()) {
+            if (file.lastModified() < expiredBefore) {
+                // 마지막 사용 시각이 TTL보다 오래되었으면 생성 시각도 그보다 이전이므로 만료
+                file.delete();
+            } else {
+                diskBytes += file.length();
+            }
+        }
+    }
+
+    /**
+     * 용량을 넘으면 가장 오래전에 사용한 파일부터 삭제
+     */
+    private void trimDisk() {
+        if (diskBytes <= maxDiskBytes) {
+            return;
+        }
+        File[] files = listEntries();
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        for (File file : files) {
+            if (diskBytes <= maxDiskBytes) {
+                break;
+            }
+            long length = file.length();
+            if (file.delete()) {
+                diskBytes -= length;
+            }
+        }
+    }
+
+    private File[] listEntries() {
+        File[] files = directory.listFiles((dir, name) -> name.endsWith(FILE_SUFFIX));
+        return files != null ? files : new File[0];
+    }
+
+    private File fileFor(String key) {
+        return new File(directory, key + FILE_SUFFIX);
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        // 길이를 앞에 붙여 필드 경계가 달라도 같은 바이트열이 되지 않게 함
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            int value = bytes[i] & 0xFF;
+            hex[i * 2] = Character.forDigit(value >>> 4, 16);
+            hex[i * 2 + 1] = Character.forDigit(value & 0x0F, 16);
+        }
+        return new String(hex);
+    }
+}
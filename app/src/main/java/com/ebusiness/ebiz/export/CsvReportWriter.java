@@ -0,0 +1,90 @@
+package com.ebusiness.ebiz.export;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.data.AnalysisRecord;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * CSV 보고서 기록기 (한 행에 분석 한 건)
+ * 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 붙이고, 쉼표/따옴표/줄바꿈이 있는 값은 따옴표로 감싼다
+ */
+final class CsvReportWriter implements RecordWriter {
+    private static final String[] HEADER = {
+            "id", "제목", "예산", "작성일", "위험도", "RPN", "심각도", "발생도", "검출도",
+            "예상 손실(원)", "일정 지연 비용(원)", "직접 투자(원)", "인건비(원)", "요약", "실행 계획"
+    };
+
+    private final Writer out;
+
+    CsvReportWriter(OutputStream stream) throws IOException {
+        out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+        out.write('\uFEFF');
+        for (int i = 0; i < HEADER.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(HEADER[i]);
+        }
+        out.write("\r\n");
+    }
+
+    @Override
+    public void write(AnalysisRecord record) throws IOException {
+        AnalysisResult result = record.result;
+        field(String.valueOf(record.id));
+        field(record.title);
+        field(record.budget);
+        field(ExportFormats.formatDate(record.createdAt));
+        field(String.valueOf(Math.round(result.overallRiskScore)));
+        field(String.valueOf(result.rpn));
+        field(String.valueOf(result.severity));
+        field(String.valueOf(result.occurrence));
+        field(String.valueOf(result.detection));
+        field(String.valueOf(result.totalExpectedLoss));
+        field(String.valueOf(result.timeCost));
+        field(String.valueOf(result.directInvestment));
+        field(String.valueOf(result.personnelCost));
+        field(result.executiveSummary);
+        lastField(ExportFormats.joinRecommendations(result.aiRecommendations, "\n"));
+        out.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.flush();
+    }
+
+    private void field(String value) throws IOException {
+        lastField(value);
+        out.write(',');
+    }
+
+    private void lastField(String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                out.write('"');
+            }
+            out.write(c);
+        }
+        out.write('"');
+    }
+}
@@ -0,0 +1,38 @@
+package com.ebusiness.ebiz.export;
+
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * 내보내기 공통 표기 (날짜, 금액, 실행 계획 목록)
+ */
+final class ExportFormats {
+    private static final ThreadLocal<SimpleDateFormat> DATE_FORMAT =
+            ThreadLocal.withInitial(() -> new SimpleDateFormat("yyyy.MM.dd HH:mm", Locale.KOREA));
+
+    private ExportFormats() {
+    }
+
+    static String formatDate(long timeMillis) {
+        return timeMillis > 0 ? DATE_FORMAT.get().format(new Date(timeMillis)) : "";
+    }
+
+    static String formatWon(long won) {
+        return String.format(Locale.KOREA, "%,d원", won);
+    }
+
+    static String joinRecommendations(String[] recommendations, String separator) {
+        if (recommendations == null || recommendations.length == 0) {
+            return "";
+        }
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < recommendations.length; i++) {
+            if (i > 0) {
+                joined.append(separator);
+            }
+            joined.append(i + 1).append(". ").append(recommendations[i]);
+        }
+        return joined.toString();
+    }
+}
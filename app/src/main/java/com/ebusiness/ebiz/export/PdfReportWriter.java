@@ -0,0 +1,181 @@
+package com.ebusiness.ebiz.export;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.data.AnalysisRecord;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * PDF 보고서 기록기 (A4, 분석 한 건을 하나의 블록으로 이어서 배치)
+ * 블록이 남은 공간에 들어가지 않으면 다음 페이지에서 시작하고, 페이지가 차면 바로 출력한다
+ */
+final class PdfReportWriter implements RecordWriter {
+    private static final float MARGIN = 48;
+    private static final float CONTENT_WIDTH = PdfStreamWriter.PAGE_WIDTH - MARGIN * 2;
+    private static final float TOP = PdfStreamWriter.PAGE_HEIGHT - MARGIN;
+    private static final float BOTTOM = MARGIN + 16; // 쪽 번호 영역 제외
+    private static final float BLOCK_GAP = 18;
+
+    private static final float TITLE_SIZE = 15;
+    private static final float BODY_SIZE = 10;
+    private static final float META_SIZE = 9;
+
+    private final PdfStreamWriter pdf;
+    private float y = TOP;
+
+    // 블록 한 건의 줄 (레코드마다 재사용)
+    private final List<Line> lines = new ArrayList<>();
+
+    PdfReportWriter(OutputStream stream) throws IOException {
+        pdf = new PdfStreamWriter(stream);
+    }
+
+    @Override
+    public void write(AnalysisRecord record) throws IOException {
+        layout(record);
+
+        float blockHeight = BLOCK_GAP;
+        for (Line line : lines) {
+            blockHeight += line.height();
+        }
+        // 블록 전체가 남은 공간에 들어가지 않으면 새 페이지에서 시작 (페이지보다 긴 블록은 이어서 배치)
+        if (pdf.isPageOpen() && y - blockHeight < BOTTOM && y < TOP) {
+            endPage();
+        }
+
+        for (Line line : lines) {
+            ensureSpace(line.height());
+            y -= line.height();
+            if (line.rule) {
+                pdf.line(MARGIN, y + line.height() / 2, MARGIN + CONTENT_WIDTH, y + line.height() / 2, 0.85f);
+            } else {
+                pdf.text(MARGIN + line.indent, y, line.size, line.gray, line.text);
+            }
+        }
+        y -= BLOCK_GAP;
+    }
+
+    @Override
+    public void finish() throws IOException {
+        endPage();
+        pdf.finish();
+    }
+
+    private void layout(AnalysisRecord record) {
+        AnalysisResult result = record.result;
+        lines.clear();
+
+        wrap(record.title != null ? record.title : "", TITLE_SIZE, 0, 0f);
+        StringBuilder meta = new StringBuilder();
+        if (record.createdAt > 0) {
+            meta.append("작성일 ").append(ExportFormats.formatDate(record.createdAt)).append(" · ");
+        }
+        meta.append("예산 ").append(record.budget != null && !record.budget.isEmpty() ? record.budget : "미정");
+        wrap(meta.toString(), META_SIZE, 0, 0.45f);
+        lines.add(Line.rule());
+
+        wrap("위험도 " + Math.round(result.overallRiskScore) + " / 100 · RPN " + result.rpn
+                + " (심각도 " + result.severity + " · 발생도 " + result.occurrence
+                + " · 검출도 " + result.detection + ")", BODY_SIZE, 0, 0f);
+        wrap("예상 손실 " + ExportFormats.formatWon(result.totalExpectedLoss), BODY_SIZE, 0, 0f);
+        wrap("일정 지연 " + ExportFormats.formatWon(result.timeCost)
+                + " · 직접 투자 " + ExportFormats.formatWon(result.directInvestment)
+                + " · 인건비 " + ExportFormats.formatWon(result.personnelCost), META_SIZE, 0, 0.3f);
+
+        if (result.executiveSummary != null && !result.executiveSummary.isEmpty()) {
+            wrap(result.executiveSummary, BODY_SIZE, 0, 0.2f);
+        }
+        if (result.aiRecommendations != null) {
+            for (int i = 0; i < result.aiRecommendations.length; i++) {
+                wrap((i + 1) + ". " + result.aiRecommendations[i], BODY_SIZE, 8, 0.2f);
+            }
+        }
+    }
+
+    /**
+     * 폭에 맞춰 줄 나눔 (가능하면 공백에서, 아니면 글자 단위로)
+     */
+    private void wrap(String text, float size, float indent, float gray) {
+        float maxWidth = CONTENT_WIDTH - indent;
+        for (String paragraph : text.split("\n", -1)) {
+            int start = 0;
+            while (start < paragraph.length()) {
+                int end = start;
+                int lastSpace = -1;
+                float width = 0;
+                while (end < paragraph.length()) {
+                    char c = paragraph.charAt(end);
+                    float charWidth = (c < 0x80 ? 0.5f : 1f) * size;
+                    if (width + charWidth > maxWidth && end > start) {
+                        break;
+                    }
+                    if (c == ' ') {
+                        lastSpace = end;
+                    }
+                    width += charWidth;
+                    end++;
+                }
+                if (end < paragraph.length() && lastSpace > start) {
+                    end = lastSpace + 1;
+                }
+                lines.add(new Line(paragraph.substring(start, end).trim(), size, indent, gray));
+                start = end;
+            }
+        }
+    }
+
+    private void ensureSpace(float height) throws IOException {
+        if (!pdf.isPageOpen()) {
+            pdf.beginPage();
+            y = TOP;
+        } else if (y - height < BOTTOM) {
+            endPage();
+            pdf.beginPage();
+            y = TOP;
+        }
+    }
+
+    private void endPage() throws IOException {
+        if (!pdf.isPageOpen()) {
+            return;
+        }
+        String pageNumber = "- " + (pdf.getPageCount() + 1) + " -";
+        pdf.text((PdfStreamWriter.PAGE_WIDTH - PdfStreamWriter.textWidth(pageNumber, META_SIZE)) / 2,
+                MARGIN - 8, META_SIZE, 0.5f, pageNumber);
+        pdf.endPage();
+    }
+
+    private static final class Line {
+        final String text;
+        final float size;
+        final float indent;
+        final float gray;
+        final boolean rule;
+
+        Line(String text, float size, float indent, float gray) {
+            this.text = text;
+            this.size = size;
+            this.indent = indent;
+            this.gray = gray;
+            this.rule = false;
+        }
+
+        private Line() {
+            this.text = "";
+            this.size = 4;
+            this.indent = 0;
+            this.gray = 0;
+            this.rule = true;
+        }
+
+        static Line rule() {
+            return new Line();
+        }
+
+        float height() {
+            return size * 1.5f;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.ebusiness.ebiz.export;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 페이지 단위로 바로 출력하는 최소 PDF 기록기
+ * 페이지가 끝나면 내용 스트림과 페이지 객체를 즉시 기록하고, 이후에는 객체 위치(xref)와
+ * 페이지 번호만 보관하므로 페이지 수가 많아도 메모리 사용량이 거의 늘지 않는다.
+ *
+ * 한글은 PDF 뷰어가 제공하는 Adobe-Korea1 표준 글꼴(HYSMyeongJo-Medium, UniKS-UCS2-H)을 사용하므로
+ * 글꼴을 파일에 포함하지 않는다. ASCII 문자는 반각(500), 나머지는 전각(1000) 폭으로 배치된다.
+ */
+final class PdfStreamWriter {
+    static final float PAGE_WIDTH = 595; // A4 (pt)
+    static final float PAGE_HEIGHT = 842;
+
+    private static final int CATALOG_ID = 1;
+    private static final int PAGES_ID = 2;
+    private static final int FONT_ID = 3;
+    private static final int CID_FONT_ID = 4;
+    private static final int FONT_DESCRIPTOR_ID = 5;
+
+    private final CountingOutputStream out;
+    private long[] offsets = new long[64]; // 객체 번호 → 파일 위치
+    private int objectCount = FONT_DESCRIPTOR_ID;
+    private int[] pageIds = new int[64];
+    private int pageCount = 0;
+
+    // 현재 페이지 그리기 명령 (페이지마다 재사용)
+    private final StringBuilder ops = new StringBuilder(8 * 1024);
+    private final ByteArrayOutputStream compressed = new ByteArrayOutputStream(4 * 1024);
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private boolean pageOpen = false;
+
+    PdfStreamWriter(OutputStream stream) throws IOException {
+        out = new CountingOutputStream(stream);
+        write("%PDF-1.4\n%âãÏÓ\n");
+        writeFont();
+    }
+
+    int getPageCount() {
+        return pageCount;
+    }
+
+    void beginPage() {
+        ops.setLength(0);
+        pageOpen = true;
+    }
+
+    boolean isPageOpen() {
+        return pageOpen;
+    }
+
+    /**
+     * 텍스트 한 줄 (x, y는 왼쪽 아래 기준 좌표, gray는 0=검정 ~ 1=흰색)
+     */
+    void text(float x, float y, float size, float gray, String text) {
+        ops.append("BT ").append(number(gray)).append(" g /F1 ").append(number(size)).append(" Tf ")
+                .append(number(x)).append(' ').append(number(y)).append(" Td <");
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isSurrogate(c) || c < 0x20) {
+                c = '?'; // UCS-2로 표현할 수 없는 문자
+            }
+            appendHex(c);
+        }
+        ops.append("> Tj ET\n");
+    }
+
+    void line(float x1, float y1, float x2, float y2, float gray) {
+        ops.append(number(gray)).append(" G 0.5 w ").append(number(x1)).append(' ').append(number(y1))
+                .append(" m ").append(number(x2)).append(' ').append(number(y2)).append(" l S\n");
+    }
+
+    /**
+     * 현재 페이지를 압축해 바로 기록
+     */
+    void endPage() throws IOException {
+        if (!pageOpen) {
+            return;
+        }
+        pageOpen = false;
+
+        compressed.reset();
+        deflater.reset();
+        try (DeflaterOutputStream deflated = new DeflaterOutputStream(compressed, deflater, 4 * 1024)) {
+            deflated.write(ops.toString().getBytes(StandardCharsets.ISO_8859_1));
+        }
+
+        int contentId = beginObject();
+        write("<< /Length " + compressed.size() + " /Filter /FlateDecode >>\nstream\n");
+        compressed.writeTo(out);
+        write("\nendstream\nendobj\n");
+
+        int pageId = beginObject();
+        write("<< /Type /Page /Parent " + PAGES_ID + " 0 R /MediaBox [0 0 " + number(PAGE_WIDTH) + ' '
+                + number(PAGE_HEIGHT) + "] /Resources << /Font << /F1 " + FONT_ID + " 0 R >> >> /Contents "
+                + contentId + " 0 R >>\nendobj\n");
+
+        if (pageCount == pageIds.length) {
+            pageIds = Arrays.copyOf(pageIds, pageCount * 2);
+        }
+        pageIds[pageCount++] = pageId;
+    }
+
+    /**
+     * 페이지 목록, 문서 카탈로그, 상호 참조 표를 기록 (출력 스트림은 닫지 않음)
+     */
+    void finish() throws IOException {
+        endPage();
+        if (pageCount == 0) {
+            beginPage();
+            endPage();
+        }
+        deflater.end();
+
+        beginObject(PAGES_ID);
+        StringBuilder kids = new StringBuilder(pageCount * 8);
+        for (int i = 0; i < pageCount; i++) {
+            kids.append(pageIds[i]).append(" 0 R ");
+        }
+        write("<< /Type /Pages /Count " + pageCount + " /Kids [" + kids + "] >>\nendobj\n");
+
+        beginObject(CATALOG_ID);
+        write("<< /Type /Catalog /Pages " + PAGES_ID + " 0 R >>\nendobj\n");
+
+        long xrefOffset = out.count;
+        StringBuilder xref = new StringBuilder(64);
+        write("xref\n0 " + (objectCount + 1) + "\n0000000000 65535 f \n");
+        for (int id = 1; id <= objectCount; id++) {
+            xref.setLength(0);
+            String offset = Long.toString(offsets[id]);
+            for (int pad = offset.length(); pad < 10; pad++) {
+                xref.append('0');
+            }
+            xref.append(offset).append(" 00000 n \n");
+            write(xref.toString());
+        }
+        write("trailer\n<< /Size " + (objectCount + 1) + " /Root " + CATALOG_ID + " 0 R >>\nstartxref\n"
+                + xrefOffset + "\n%%EOF\n");
+        out.flush();
+    }
+
+    /**
+     * 한 줄 텍스트의 폭 추정 (ASCII는 반각, 그 외 전각)
+     */
+    static float textWidth(String text, float size) {
+        float units = 0;
+        for (int i = 0; i < text.length(); i++) {
+            units += text.charAt(i) < 0x80 ? 0.5f : 1f;
+        }
+        return units * size;
+    }
+
+    private void writeFont() throws IOException {
+        beginObject(FONT_ID);
+        write("<< /Type /Font /Subtype /Type0 /BaseFont /HYSMyeongJo-Medium /Encoding /UniKS-UCS2-H"
+                + " /DescendantFonts [" + CID_FONT_ID + " 0 R] >>\nendobj\n");
+
+        beginObject(CID_FONT_ID);
+        write("<< /Type /Font /Subtype /CIDFontType0 /BaseFont /HYSMyeongJo-Medium"
+                + " /CIDSystemInfo << /Registry (Adobe) /Ordering (Korea1) /Supplement 1 >>"
+                + " /FontDescriptor " + FONT_DESCRIPTOR_ID + " 0 R /DW 1000 /W [1 95 500] >>\nendobj\n");
+
+        beginObject(FONT_DESCRIPTOR_ID);
+        write("<< /Type /FontDescriptor /FontName /HYSMyeongJo-Medium /Flags 6"
+                + " /FontBBox [-28 -148 1001 880] /ItalicAngle 0 /Ascent 880 /Descent -148"
+                + " /CapHeight 880 /StemV 93 >>\nendobj\n");
+    }
+
+    private int beginObject() throws IOException {
+        int id = ++objectCount;
+        beginObject(id);
+        return id;
+    }
+
+    private void beginObject(int id) throws IOException {
+        if (id >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, Math.max(offsets.length * 2, id + 1));
+        }
+        offsets[id] = out.count;
+        write(id + " 0 obj\n");
+    }
+
+    private void write(String text) throws IOException {
+        out.write(text.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    private void appendHex(char c) {
+        for (int shift = 12; shift >= 0; shift -= 4) {
+            ops.append(Character.forDigit((c >> shift) & 0xF, 16));
+        }
+    }
+
+    /**
+     * 좌표/크기 표기 (소수점 둘째 자리까지, 지수 표기 없이)
+     */
+    private static String number(float value) {
+        long hundredths = Math.round(value * 100.0);
+        if (hundredths % 100 == 0) {
+            return Long.toString(hundredths / 100);
+        }
+        return Double.toString(hundredths / 100.0);
+    }
+
+    /**
+     * 기록한 바이트 수를 세는 스트림 (xref 위치 계산용)
+     */
+    private static final class CountingOutputStream extends OutputStream {
+        private final OutputStream target;
+        long count = 0;
+
+        CountingOutputStream(OutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            target.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            target.write(b, off, len);
+            count += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.ebusiness.ebiz.export;
+
+import com.ebusiness.ebiz.data.AnalysisRecord;
+import java.io.IOException;
+
+/**
+ * 내보내기 형식별 기록기 (레코드 하나씩 바로 출력하고 보관하지 않음)
+ */
+interface RecordWriter {
+    void write(AnalysisRecord record) throws IOException;
+
+    /**
+     * 남은 내용(마지막 페이지, 문서 끝 정보)을 기록 - 출력 스트림은 닫지 않음
+     */
+    void finish() throws IOException;
+}
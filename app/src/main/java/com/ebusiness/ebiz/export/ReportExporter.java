@@ -0,0 +1,102 @@
+package com.ebusiness.ebiz.export;
+
+import com.ebusiness.ebiz.data.AnalysisRecord;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 분석 보고서 내보내기 (PDF/CSV)
+ * 저장소에서 PAGE_SIZE건씩 읽어 바로 기록하므로, 이력이 수천 건이어도 한 번에 메모리에 올리는 것은
+ * 한 페이지 분량뿐이다. 취소 요청은 레코드 사이에서 확인한다.
+ */
+public final class ReportExporter {
+    public static final int PAGE_SIZE = 50;
+
+    public enum Format {
+        PDF("application/pdf", ".pdf"),
+        CSV("text/csv", ".csv");
+
+        public final String mimeType;
+        public final String extension;
+
+        Format(String mimeType, String extension) {
+            this.mimeType = mimeType;
+            this.extension = extension;
+        }
+    }
+
+    /**
+     * 내보낼 분석 목록 (ID 오름차순 키셋 페이지 조회, 워커 스레드에서 호출됨)
+     */
+    public interface Source {
+        long count();
+
+        List<AnalysisRecord> loadBatchAfter(long afterId, int limit);
+    }
+
+    /**
+     * 진행 상황 (워커 스레드에서 레코드마다 호출됨)
+     */
+    public interface Progress {
+        void onProgress(int done, long total);
+    }
+
+    /**
+     * 분석 한 건만 내보내는 Source (저장하지 않은 결과도 가능)
+     */
+    public static Source singleSource(AnalysisRecord record) {
+        return new Source() {
+            private boolean delivered = false;
+
+            @Override
+            public long count() {
+                return 1;
+            }
+
+            @Override
+            public List<AnalysisRecord> loadBatchAfter(long afterId, int limit) {
+                if (delivered) {
+                    return Collections.emptyList();
+                }
+                delivered = true;
+                return Collections.singletonList(record);
+            }
+        };
+    }
+
+    /**
+     * 끝까지 또는 취소될 때까지 기록하고 기록한 건수를 반환 (취소되면 문서 끝 정보를 쓰지 않음)
+     * 출력 스트림은 호출한 쪽에서 닫는다.
+     */
+    public int export(Source source, Format format, OutputStream out, Progress progress,
+                      BooleanSupplier cancelled) throws IOException {
+        long total = source.count();
+        RecordWriter writer = format == Format.PDF ? new PdfReportWriter(out) : new CsvReportWriter(out);
+
+        int done = 0;
+        long afterId = 0;
+        while (!cancelled.getAsBoolean()) {
+            List<AnalysisRecord> page = source.loadBatchAfter(afterId, PAGE_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            for (AnalysisRecord record : page) {
+                if (cancelled.getAsBoolean()) {
+                    break;
+                }
+                writer.write(record);
+                afterId = record.id;
+                done++;
+                progress.onProgress(done, total);
+            }
+        }
+
+        if (!cancelled.getAsBoolean()) {
+            writer.finish();
+        }
+        return done;
+    }
+}
@@ -0,0 +1,109 @@
+package com.ebusiness.ebiz.form;
+
+/**
+ * 입력 폼 검증 상태
+ * 필드별 입력 여부와 미입력 필드 수를 유지하여, 한 필드가 바뀔 때 전체 필드를 다시 검사하지 않는다(O(1)).
+ *
+ * 입력 여부는 CharSequence에서 공백이 아닌 문자가 있는지만 확인하므로
+ * 키 입력마다 toString()/trim() 문자열을 만들지 않는다.
+ */
+public final class FormValidator {
+    private final boolean[] filled;
+    private final boolean[] required;
+    private int missingCount;
+
+    public FormValidator(int fieldCount) {
+        filled = new boolean[fieldCount];
+        required = new boolean[fieldCount];
+        for (int i = 0; i < fieldCount; i++) {
+            required[i] = true;
+        }
+        missingCount = fieldCount;
+    }
+
+    public int fieldCount() {
+        return filled.length;
+    }
+
+    /**
+     * 필드 내용 갱신
+     * @return 폼 전체의 유효 여부가 바뀌었으면 true
+     */
+    public boolean update(int field, CharSequence text) {
+        return setFilled(field, hasContent(text));
+    }
+
+    public boolean setFilled(int field, boolean isFilled) {
+        if (filled[field] == isFilled) {
+            return false;
+        }
+        boolean wasValid = isValid();
+        filled[field] = isFilled;
+        if (required[field]) {
+            missingCount += isFilled ? -1 : 1;
+        }
+        return wasValid != isValid();
+    }
+
+    /**
+     * 필수 여부 변경 (예: 예산 '미정' 선택 시 예산 입력은 필수가 아님)
+     * @return 폼 전체의 유효 여부가 바뀌었으면 true
+     */
+    public boolean setRequired(int field, boolean isRequired) {
+        if (required[field] == isRequired) {
+            return false;
+        }
+        boolean wasValid = isValid();
+        required[field] = isRequired;
+        if (!filled[field]) {
+            missingCount += isRequired ? 1 : -1;
+        }
+        return wasValid != isValid();
+    }
+
+    public boolean isFilled(int field) {
+        return filled[field];
+    }
+
+    public boolean isMissing(int field) {
+        return required[field] && !filled[field];
+    }
+
+    public int missingCount() {
+        return missingCount;
+    }
+
+    public boolean isValid() {
+        return missingCount == 0;
+    }
+
+    /**
+     * 첫 번째 미입력 필수 필드 (없으면 -1) - 제출 시 포커스 이동용
+     */
+    public int firstMissing() {
+        if (missingCount == 0) {
+            return -1;
+        }
+        for (int i = 0; i < filled.length; i++) {
+            if (isMissing(i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 공백이 아닌 문자가 하나라도 있는지 (문자열 할당 없이 검사)
+     */
+    public static boolean hasContent(CharSequence text) {
+        if (text == null) {
+            return false;
+        }
+        for (int i = 0, length = text.length(); i < length; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
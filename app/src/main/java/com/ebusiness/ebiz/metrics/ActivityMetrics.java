@@ -0,0 +1,40 @@
+package com.ebusiness.ebiz.metrics;
+
+import android.app.Activity;
+import android.view.View;
+import android.view.ViewTreeObserver;
+
+/**
+ * Activity 화면 지표
+ * onCreate부터 첫 프레임이 그려질 때까지의 시간을 activity.first_frame.<이름> 타이머에 기록한다
+ */
+public final class ActivityMetrics {
+
+    private ActivityMetrics() {
+    }
+
+    /**
+     * onCreate에서 super.onCreate 직후 호출
+     */
+    public static void trackFirstFrame(Activity activity) {
+        long startedAt = Timer.now();
+        MetricsDumper.start(activity);
+
+        Timer timer = Metrics.timer(Metrics.ACTIVITY_FIRST_FRAME + activity.getClass().getSimpleName());
+        View decorView = activity.getWindow().getDecorView();
+        decorView.getViewTreeObserver().addOnDrawListener(new ViewTreeObserver.OnDrawListener() {
+            private boolean recorded = false;
+
+            @Override
+            public void onDraw() {
+                if (recorded) {
+                    return;
+                }
+                recorded = true;
+                timer.stop(startedAt);
+                // 그리기 도중에는 리스너를 제거할 수 없으므로 다음 메시지에서 제거
+                decorView.post(() -> decorView.getViewTreeObserver().removeOnDrawListener(this));
+            }
+        });
+    }
+}
@@ -0,0 +1,23 @@
+package com.ebusiness.ebiz.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 누적 카운터
+ * 여러 스레드에서 동시에 증가시켜도 잠금 없이 기록된다(LongAdder)
+ */
+public final class Counter {
+    private final LongAdder value = new LongAdder();
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long amount) {
+        value.add(amount);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+}
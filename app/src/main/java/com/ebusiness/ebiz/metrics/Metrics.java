@@ -0,0 +1,60 @@
+package com.ebusiness.ebiz.metrics;
+
+/**
+ * 앱 전역 지표 (지표 이름과 공용 MetricsRegistry)
+ */
+public final class Metrics {
+    // 타이머
+    public static final String ACTIVITY_FIRST_FRAME = "activity.first_frame."; // + Activity 이름
+    public static final String ANALYSIS_LOCAL = "analysis.local";
+    public static final String ANALYSIS_LOSS_SIMULATION = "analysis.loss_simulation";
+    public static final String ANALYSIS_STREAM = "analysis.stream";
+    public static final String NETWORK_REQUEST = "network.request";
+    public static final String RENDER_REPORT = "render.report";
+    public static final String REANALYSIS_RUN = "reanalysis.run";
+    public static final String PORTFOLIO_IMPORT = "portfolio.import";
+    public static final String REPORT_EXPORT = "report.export";
+    public static final String HISTORY_SEARCH = "history.search";
+    public static final String HISTORY_SEARCH_INDEX = "history.search_index";
+
+    // 카운터
+    public static final String NETWORK_REQUESTS = "network.requests";
+    public static final String NETWORK_ERRORS = "network.errors";
+    public static final String NETWORK_RETRIES = "network.retries";
+    public static final String NETWORK_REJECTED = "network.rejected";
+    public static final String NETWORK_CIRCUIT_OPEN = "network.circuit_open";
+    public static final String ANALYSIS_FAILURES = "analysis.failures";
+    public static final String REPORT_CACHE_MEMORY_HITS = "report_cache.memory_hits";
+    public static final String REPORT_CACHE_DISK_HITS = "report_cache.disk_hits";
+    public static final String REPORT_CACHE_MISSES = "report_cache.misses";
+    public static final String QUESTIONS_PREFETCH_HITS = "questions.prefetch_hits";
+    public static final String QUESTIONS_PREFETCH_IN_FLIGHT = "questions.prefetch_in_flight";
+    public static final String QUESTIONS_PREFETCH_MISSES = "questions.prefetch_misses";
+    public static final String REANALYSIS_RECORDS = "reanalysis.records";
+    public static final String PORTFOLIO_PROJECTS = "portfolio.projects";
+    public static final String REPORT_EXPORT_RECORDS = "report.export_records";
+
+    // 히스토그램
+    public static final String NETWORK_RESPONSE_BYTES = "network.response_bytes";
+
+    private static final MetricsRegistry REGISTRY = new MetricsRegistry();
+
+    private Metrics() {
+    }
+
+    public static MetricsRegistry registry() {
+        return REGISTRY;
+    }
+
+    public static Counter counter(String name) {
+        return REGISTRY.counter(name);
+    }
+
+    public static Timer timer(String name) {
+        return REGISTRY.timer(name);
+    }
+
+    public static Histogram histogram(String name) {
+        return REGISTRY.histogram(name);
+    }
+}
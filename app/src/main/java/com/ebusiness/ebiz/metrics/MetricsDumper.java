@@ -0,0 +1,86 @@
+package com.ebusiness.ebiz.metrics;
+
+import android.content.Context;
+import android.util.AtomicFile;
+import android.util.Log;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 지표 파일 덤프
+ * 전용 스레드가 DUMP_INTERVAL_MS마다 스냅샷을 filesDir/metrics/metrics.json에 기록한다
+ * (측정 경로는 파일 기록을 기다리지 않음)
+ */
+public final class MetricsDumper {
+    private static final String TAG = "MetricsDumper";
+
+    static final long DUMP_INTERVAL_MS = 60_000;
+
+    private static MetricsDumper instance;
+
+    private final AtomicFile file;
+    private final ScheduledExecutorService writer;
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    private MetricsDumper(Context context) {
+        File directory = new File(context.getFilesDir(), "metrics");
+        file = new AtomicFile(new File(directory, "metrics.json"));
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ebiz-metrics-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::dump, DUMP_INTERVAL_MS, DUMP_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 주기적 덤프 시작 (여러 번 호출해도 한 번만 시작)
+     */
+    public static synchronized MetricsDumper start(Context context) {
+        if (instance == null) {
+            instance = new MetricsDumper(context.getApplicationContext());
+        }
+        return instance;
+    }
+
+    /**
+     * 즉시 덤프 (디버그 화면에서 호출)
+     */
+    public void dumpNow() {
+        writer.execute(this::dump);
+    }
+
+    public File getFile() {
+        return file.getBaseFile();
+    }
+
+    private void dump() {
+        MetricsSnapshot snapshot = Metrics.registry().snapshot();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        File directory = file.getBaseFile().getParentFile();
+        if (directory != null && !directory.exists() && !directory.mkdirs()) {
+            Log.w(TAG, "Failed to create metrics directory");
+            return;
+        }
+        FileOutputStream out = null;
+        try {
+            out = file.startWrite();
+            out.write(gson.toJson(snapshot).getBytes(StandardCharsets.UTF_8));
+            file.finishWrite(out);
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to dump metrics", e);
+            if (out != null) {
+                file.failWrite(out);
+            }
+        }
+    }
+}
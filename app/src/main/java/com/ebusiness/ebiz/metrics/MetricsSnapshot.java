@@ -0,0 +1,61 @@
+package com.ebusiness.ebiz.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 지표 스냅샷 (파일 덤프와 디버그 화면 표시용)
+ * 타이머 값은 나노초, 화면 표시는 밀리초로 변환한다
+ */
+public final class MetricsSnapshot {
+    public final long takenAt;
+    public final Map<String, Long> counters;
+    public final Map<String, Histogram.Snapshot> timers;
+    public final Map<String, Histogram.Snapshot> histograms;
+
+    MetricsSnapshot(long takenAt, Map<String, Long> counters,
+                    Map<String, Histogram.Snapshot> timers, Map<String, Histogram.Snapshot> histograms) {
+        this.takenAt = takenAt;
+        this.counters = counters;
+        this.timers = timers;
+        this.histograms = histograms;
+    }
+
+    public boolean isEmpty() {
+        return counters.isEmpty() && timers.isEmpty() && histograms.isEmpty();
+    }
+
+    /**
+     * 사람이 읽기 위한 요약 문자열
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder();
+        if (!timers.isEmpty()) {
+            text.append("[Timers] ms (count / p50 / p90 / p99 / max)\n");
+            for (Map.Entry<String, Histogram.Snapshot> entry : timers.entrySet()) {
+                Histogram.Snapshot s = entry.getValue();
+                text.append(String.format(Locale.US, "%s\n  %d / %.1f / %.1f / %.1f / %.1f\n",
+                        entry.getKey(), s.count, millis(s.p50), millis(s.p90), millis(s.p99), millis(s.max)));
+            }
+        }
+        if (!histograms.isEmpty()) {
+            text.append("\n[Histograms] (count / mean / p50 / p90 / p99 / max)\n");
+            for (Map.Entry<String, Histogram.Snapshot> entry : histograms.entrySet()) {
+                Histogram.Snapshot s = entry.getValue();
+                text.append(String.format(Locale.US, "%s\n  %d / %.1f / %d / %d / %d / %d\n",
+                        entry.getKey(), s.count, s.mean(), s.p50, s.p90, s.p99, s.max));
+            }
+        }
+        if (!counters.isEmpty()) {
+            text.append("\n[Counters]\n");
+            for (Map.Entry<String, Long> entry : counters.entrySet()) {
+                text.append(entry.getKey()).append(" = ").append(entry.getValue()).append('\n');
+            }
+        }
+        return text.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
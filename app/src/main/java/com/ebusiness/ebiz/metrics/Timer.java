@@ -0,0 +1,47 @@
+package com.ebusiness.ebiz.metrics;
+
+/**
+ * 소요 시간 측정
+ * 나노초 단위로 Histogram에 기록한다
+ *
+ * <pre>
+ * long startedAt = timer.start();
+ * ...
+ * timer.stop(startedAt);
+ * </pre>
+ */
+public final class Timer {
+    private final Histogram histogram = new Histogram();
+
+    /**
+     * 측정 시작 시각 (단조 증가 시계)
+     */
+    public static long now() {
+        return System.nanoTime();
+    }
+
+    public long start() {
+        return now();
+    }
+
+    /**
+     * start() 이후 경과 시간을 기록하고 반환 (나노초)
+     */
+    public long stop(long startedAt) {
+        long elapsed = now() - startedAt;
+        histogram.record(elapsed);
+        return elapsed;
+    }
+
+    public void recordNanos(long nanos) {
+        histogram.record(nanos);
+    }
+
+    public long count() {
+        return histogram.count();
+    }
+
+    public Histogram.Snapshot snapshot() {
+        return histogram.snapshot();
+    }
+}
@@ -0,0 +1,42 @@
+package com.ebusiness.ebiz.network;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import okhttp3.ResponseBody;
+import retrofit2.Call;
+import retrofit2.http.Body;
+import retrofit2.http.GET;
+import retrofit2.http.POST;
+import retrofit2.http.Path;
+import retrofit2.http.Streaming;
+
+/**
+ * 리스크 분석 백엔드 API
+ */
+public interface AnalysisApi {
+
+    /**
+     * 프로젝트 정보로 구체화 질문 생성 (세션 시작)
+     */
+    @POST("questions")
+    Call<QuestionsResponse> generateQuestions(@Body ProjectRequest request);
+
+    /**
+     * 답변 제출 후 리스크 분석 요청
+     */
+    @POST("analysis")
+    Call<AnalysisResult> requestAnalysis(@Body AnalysisRequest request);
+
+    /**
+     * 답변 제출 후 분석 결과를 스트리밍으로 수신
+     * 본문은 AnalysisStreamParser로 도착하는 대로 파싱한다 (@Streaming: 전체 버퍼링 안 함)
+     */
+    @Streaming
+    @POST("analysis/stream")
+    Call<ResponseBody> streamAnalysis(@Body AnalysisRequest request);
+
+    /**
+     * 세션의 분석 결과 조회 (결과가 바뀌지 않으므로 HTTP 캐시 대상)
+     */
+    @GET("analysis/{session_id}")
+    Call<AnalysisResult> getAnalysisResult(@Path("session_id") String sessionId);
+}
@@ -0,0 +1,19 @@
+package com.ebusiness.ebiz.network;
+
+import com.google.gson.annotations.SerializedName;
+import java.util.Map;
+
+/**
+ * 리스크 분석 요청 본문
+ */
+public class AnalysisRequest {
+    @SerializedName("session_id")
+    public final String sessionId;
+    @SerializedName("answers")
+    public final Map<String, String> answers;
+
+    public AnalysisRequest(String sessionId, Map<String, String> answers) {
+        this.sessionId = sessionId;
+        this.answers = answers;
+    }
+}
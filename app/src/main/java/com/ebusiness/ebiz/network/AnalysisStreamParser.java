@@ -0,0 +1,159 @@
+package com.ebusiness.ebiz.network;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 분석 응답 파서
+ * 응답 본문 전체를 버퍼링하지 않고 JsonReader로 필드가 도착하는 즉시 Listener에 전달한다
+ *
+ * 하나의 JSON 객체가 순서대로 흘러오는 경우와, 일부 필드만 담긴 객체가
+ * 줄 단위로 이어지는 경우(NDJSON)를 모두 처리한다.
+ */
+public final class AnalysisStreamParser {
+
+    /**
+     * 스트리밍 이벤트 수신 (파싱 스레드에서 호출됨)
+     * 아직 도착하지 않은 값은 0으로 전달된다.
+     */
+    public interface Listener {
+        void onRiskScore(double overallRiskScore);
+
+        void onFactors(int severity, int occurrence, int detection);
+
+        void onLoss(long totalExpectedLoss, long timeCost, long directInvestment, long personnelCost);
+
+        void onSummary(String executiveSummary);
+
+        void onRecommendation(int index, String recommendation);
+
+        void onComplete(AnalysisResult result);
+    }
+
+    /**
+     * 스트림을 끝까지 읽으며 이벤트를 전달하고, 모든 필드를 모은 결과를 반환
+     */
+    public AnalysisResult parse(Reader source, Listener listener) throws IOException {
+        AnalysisResult result = new AnalysisResult();
+        result.source = AnalysisResult.SOURCE_BACKEND;
+        List<String> recommendations = new ArrayList<>();
+
+        try (JsonReader reader = new JsonReader(source)) {
+            reader.setLenient(true); // 여러 개의 최상위 객체(NDJSON) 허용
+            while (reader.peek() != JsonToken.END_DOCUMENT) {
+                if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                    reader.skipValue();
+                    continue;
+                }
+                readChunk(reader, result, recommendations, listener);
+            }
+        }
+
+        result.aiRecommendations = recommendations.toArray(new String[0]);
+        listener.onComplete(result);
+        return result;
+    }
+
+    private void readChunk(JsonReader reader, AnalysisResult result, List<String> recommendations,
+                           Listener listener) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+
+            switch (name) {
+                case "business_name":
+                    result.businessName = reader.nextString();
+                    break;
+                case "overall_risk_score":
+                    result.overallRiskScore = reader.nextDouble();
+                    listener.onRiskScore(result.overallRiskScore);
+                    break;
+                case "severity":
+                    result.severity = reader.nextInt();
+                    notifyFactors(result, listener);
+                    break;
+                case "occurrence":
+                    result.occurrence = reader.nextInt();
+                    notifyFactors(result, listener);
+                    break;
+                case "detection":
+                    result.detection = reader.nextInt();
+                    notifyFactors(result, listener);
+                    break;
+                case "rpn":
+                    result.rpn = reader.nextInt();
+                    break;
+                case "total_expected_loss":
+                    result.totalExpectedLoss = reader.nextLong();
+                    notifyLoss(result, listener);
+                    break;
+                case "time_cost":
+                    result.timeCost = reader.nextLong();
+                    notifyLoss(result, listener);
+                    break;
+                case "direct_investment":
+                    result.directInvestment = reader.nextLong();
+                    notifyLoss(result, listener);
+                    break;
+                case "personnel_cost":
+                    result.personnelCost = reader.nextLong();
+                    notifyLoss(result, listener);
+                    break;
+                case "executive_summary":
+                    result.executiveSummary = reader.nextString();
+                    listener.onSummary(result.executiveSummary);
+                    break;
+                case "ai_recommendations":
+                    readRecommendations(reader, recommendations, listener);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * 실행 계획은 배열 원소 하나가 도착할 때마다 전달
+     * (NDJSON 청크마다 이어서 보내는 경우도 순번이 이어지도록 누적)
+     */
+    private void readRecommendations(JsonReader reader, List<String> recommendations,
+                                     Listener listener) throws IOException {
+        if (reader.peek() == JsonToken.STRING) {
+            addRecommendation(reader.nextString(), recommendations, listener);
+            return;
+        }
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (reader.peek() == JsonToken.STRING) {
+                addRecommendation(reader.nextString(), recommendations, listener);
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endArray();
+    }
+
+    private void addRecommendation(String recommendation, List<String> recommendations, Listener listener) {
+        recommendations.add(recommendation);
+        listener.onRecommendation(recommendations.size() - 1, recommendation);
+    }
+
+    private void notifyFactors(AnalysisResult result, Listener listener) {
+        listener.onFactors(result.severity, result.occurrence, result.detection);
+    }
+
+    private void notifyLoss(AnalysisResult result, Listener listener) {
+        listener.onLoss(result.totalExpectedLoss, result.timeCost, result.directInvestment, result.personnelCost);
+    }
+}
@@ -0,0 +1,113 @@
+package com.ebusiness.ebiz.network;
+
+import com.ebusiness.ebiz.metrics.Metrics;
+import com.google.gson.Gson;
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import okhttp3.Cache;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.logging.HttpLoggingInterceptor;
+import retrofit2.Retrofit;
+import retrofit2.converter.gson.GsonConverterFactory;
+
+/**
+ * 분석 백엔드 HTTP 클라이언트
+ * 하나의 OkHttpClient(커넥션 풀, HTTP/2, gzip, 디스크 캐시)와 Retrofit 서비스를 앱 전체에서 공유한다
+ * 요청은 RequestScheduler를 거쳐 실행해 동시 요청 수, 재시도, 장애 시 차단을 한곳에서 관리한다.
+ *
+ * gzip 응답 압축 해제는 OkHttp가 Accept-Encoding 헤더를 붙여 자동으로 처리한다.
+ */
+public final class ApiClient {
+    private static final String CACHE_DIR_NAME = "http_cache";
+
+    private final ApiConfig config;
+    private final OkHttpClient okHttpClient;
+    private final Gson gson;
+    private final AnalysisApi analysisApi;
+    private final RequestScheduler scheduler;
+
+    /**
+     * @param cacheRoot 응답 캐시를 저장할 디렉터리의 상위 경로 (null이면 캐시 사용 안 함)
+     */
+    public ApiClient(ApiConfig config, File cacheRoot) {
+        this.config = config;
+        this.gson = new Gson();
+        this.okHttpClient = createOkHttpClient(config, cacheRoot);
+
+        Retrofit retrofit = new Retrofit.Builder()
+                .baseUrl(config.baseUrl)
+                .client(okHttpClient)
+                .addConverterFactory(GsonConverterFactory.create(gson))
+                .build();
+        this.analysisApi = retrofit.create(AnalysisApi.class);
+        this.scheduler = new RequestScheduler(config, Metrics.registry());
+    }
+
+    static OkHttpClient createOkHttpClient(ApiConfig config, File cacheRoot) {
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(
+                        config.maxIdleConnections, config.keepAliveMs, TimeUnit.MILLISECONDS))
+                .protocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1))
+                .connectTimeout(config.connectTimeoutMs, TimeUnit.MILLISECONDS)
+                .readTimeout(config.readTimeoutMs, TimeUnit.MILLISECONDS)
+                .writeTimeout(config.writeTimeoutMs, TimeUnit.MILLISECONDS)
+                .retryOnConnectionFailure(true)
+                .addInterceptor(new MetricsInterceptor(Metrics.registry()));
+
+        if (cacheRoot != null && config.cacheSizeBytes > 0) {
+            builder.cache(new Cache(new File(cacheRoot, CACHE_DIR_NAME), config.cacheSizeBytes));
+        }
+
+        if (config.loggingEnabled) {
+            // 본문까지 로깅하면 버퍼링이 생기므로 헤더 수준까지만 기록
+            HttpLoggingInterceptor logging = new HttpLoggingInterceptor();
+            logging.setLevel(HttpLoggingInterceptor.Level.HEADERS);
+            builder.addInterceptor(logging);
+        }
+        return builder.build();
+    }
+
+    public ApiConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * 공유 OkHttpClient (스트리밍 등 Retrofit 밖의 요청도 같은 커넥션 풀과 캐시를 사용)
+     */
+    public OkHttpClient getOkHttpClient() {
+        return okHttpClient;
+    }
+
+    public Gson getGson() {
+        return gson;
+    }
+
+    public AnalysisApi getAnalysisApi() {
+        return analysisApi;
+    }
+
+    public RequestScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * 유휴 커넥션과 캐시 정리 (앱 종료 또는 테스트 종료 시)
+     */
+    public void shutdown() {
+        scheduler.shutdown();
+        okHttpClient.dispatcher().executorService().shutdown();
+        okHttpClient.connectionPool().evictAll();
+        Cache cache = okHttpClient.cache();
+        if (cache != null) {
+            try {
+                cache.close();
+            } catch (IOException ignored) {
+                // 종료 시점이므로 무시
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.ebusiness.ebiz.network;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분석 백엔드 연결 설정
+ * 타임아웃, 커넥션 풀, 디스크 캐시 크기, 요청 스케줄러(동시 요청 수/재시도/차단) 등 ApiClient 생성에 필요한 값
+ */
+public final class ApiConfig {
+    public final String baseUrl;
+    public final long connectTimeoutMs;
+    public final long readTimeoutMs;
+    public final long writeTimeoutMs;
+    public final int maxIdleConnections;
+    public final long keepAliveMs;
+    public final long cacheSizeBytes;
+    public final boolean loggingEnabled;
+    public final int maxConcurrentRequests;
+    public final int requestQueueCapacity;
+    public final int maxAttempts;
+    public final long retryBaseDelayMs;
+    public final long retryMaxDelayMs;
+    public final int circuitFailureThreshold;
+    public final long circuitOpenMs;
+
+    private ApiConfig(Builder builder) {
+        this.baseUrl = builder.baseUrl;
+        this.connectTimeoutMs = builder.connectTimeoutMs;
+        this.readTimeoutMs = builder.readTimeoutMs;
+        this.writeTimeoutMs = builder.writeTimeoutMs;
+        this.maxIdleConnections = builder.maxIdleConnections;
+        this.keepAliveMs = builder.keepAliveMs;
+        this.cacheSizeBytes = builder.cacheSizeBytes;
+        this.loggingEnabled = builder.loggingEnabled;
+        this.maxConcurrentRequests = builder.maxConcurrentRequests;
+        this.requestQueueCapacity = builder.requestQueueCapacity;
+        this.maxAttempts = builder.maxAttempts;
+        this.retryBaseDelayMs = builder.retryBaseDelayMs;
+        this.retryMaxDelayMs = builder.retryMaxDelayMs;
+        this.circuitFailureThreshold = builder.circuitFailureThreshold;
+        this.circuitOpenMs = builder.circuitOpenMs;
+    }
+
+    public static Builder builder(String baseUrl) {
+        return new Builder(baseUrl);
+    }
+
+    public static final class Builder {
+        private final String baseUrl;
+        private long connectTimeoutMs = TimeUnit.SECONDS.toMillis(10);
+        // AI 분석은 응답까지 시간이 걸리므로 읽기 타임아웃을 넉넉하게 설정
+        private long readTimeoutMs = TimeUnit.SECONDS.toMillis(60);
+        private long writeTimeoutMs = TimeUnit.SECONDS.toMillis(15);
+        private int maxIdleConnections = 4;
+        private long keepAliveMs = TimeUnit.MINUTES.toMillis(5);
+        private long cacheSizeBytes = 10L * 1024 * 1024; // 10MB
+        private boolean loggingEnabled = false;
+        private int maxConcurrentRequests = 4;
+        private int requestQueueCapacity = 16;
+        private int maxAttempts = 3; // 첫 요청 포함
+        private long retryBaseDelayMs = 500;
+        private long retryMaxDelayMs = TimeUnit.SECONDS.toMillis(8);
+        private int circuitFailureThreshold = 5;
+        private long circuitOpenMs = TimeUnit.SECONDS.toMillis(30);
+
+        private Builder(String baseUrl) {
+            if (baseUrl == null || baseUrl.isEmpty()) {
+                throw new IllegalArgumentException("baseUrl is empty");
+            }
+            // Retrofit은 baseUrl이 '/'로 끝나야 함
+            this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        }
+
+        public Builder connectTimeoutMs(long value) {
+            this.connectTimeoutMs = value;
+            return this;
+        }
+
+        public Builder readTimeoutMs(long value) {
+            this.readTimeoutMs = value;
+            return this;
+        }
+
+        public Builder writeTimeoutMs(long value) {
+            this.writeTimeoutMs = value;
+            return this;
+        }
+
+        public Builder maxIdleConnections(int value) {
+            this.maxIdleConnections = value;
+            return this;
+        }
+
+        public Builder keepAliveMs(long value) {
+            this.keepAliveMs = value;
+            return this;
+        }
+
+        /**
+         * 디스크 응답 캐시 크기 (0이면 캐시 사용 안 함)
+         */
+        public Builder cacheSizeBytes(long value) {
+            this.cacheSizeBytes = value;
+            return this;
+        }
+
+        public Builder loggingEnabled(boolean value) {
+            this.loggingEnabled = value;
+            return this;
+        }
+
+        /**
+         * 동시에 실행할 백엔드 요청 수
+         */
+        public Builder maxConcurrentRequests(int value) {
+            this.maxConcurrentRequests = value;
+            return this;
+        }
+
+        /**
+         * 실행을 기다릴 수 있는 요청 수 (넘치면 즉시 실패)
+         */
+        public Builder requestQueueCapacity(int value) {
+            this.requestQueueCapacity = value;
+            return this;
+        }
+
+        /**
+         * 요청당 최대 시도 횟수 (1이면 재시도 안 함)
+         */
+        public Builder maxAttempts(int value) {
+            this.maxAttempts = value;
+            return this;
+        }
+
+        /**
+         * 재시도 대기 시간 (base × 2^(n-1), 최대 max)
+         */
+        public Builder retryDelayMs(long base, long max) {
+            this.retryBaseDelayMs = base;
+            this.retryMaxDelayMs = max;
+            return this;
+        }
+
+        /**
+         * 연속 실패 threshold번이면 openMs 동안 요청 차단
+         */
+        public Builder circuitBreaker(int threshold, long openMs) {
+            this.circuitFailureThreshold = threshold;
+            this.circuitOpenMs = openMs;
+            return this;
+        }
+
+        public ApiConfig build() {
+            return new ApiConfig(this);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ebusiness.ebiz.network;
+
+import com.ebusiness.ebiz.metrics.Metrics;
+import com.ebusiness.ebiz.metrics.MetricsRegistry;
+import com.ebusiness.ebiz.metrics.Timer;
+import java.io.IOException;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * 네트워크 지표 기록
+ * 요청부터 응답 헤더 수신까지의 시간을 기록한다 (스트리밍 본문을 읽는 시간은 포함하지 않음)
+ */
+final class MetricsInterceptor implements Interceptor {
+    private final Timer requestTimer;
+    private final MetricsRegistry registry;
+
+    MetricsInterceptor(MetricsRegistry registry) {
+        this.registry = registry;
+        this.requestTimer = registry.timer(Metrics.NETWORK_REQUEST);
+    }
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        registry.counter(Metrics.NETWORK_REQUESTS).increment();
+        long startedAt = requestTimer.start();
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException e) {
+            registry.counter(Metrics.NETWORK_ERRORS).increment();
+            throw e;
+        }
+        requestTimer.stop(startedAt);
+
+        if (!response.isSuccessful()) {
+            registry.counter(Metrics.NETWORK_ERRORS).increment();
+        }
+        long contentLength = response.body() != null ? response.body().contentLength() : -1;
+        if (contentLength >= 0) {
+            registry.histogram(Metrics.NETWORK_RESPONSE_BYTES).record(contentLength);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,21 @@
+package com.ebusiness.ebiz.network;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * 질문 생성 요청 본문
+ */
+public class ProjectRequest {
+    @SerializedName("title")
+    public final String title;
+    @SerializedName("description")
+    public final String description;
+    @SerializedName("budget")
+    public final String budget;
+
+    public ProjectRequest(String title, String description, String budget) {
+        this.title = title;
+        this.description = description;
+        this.budget = budget;
+    }
+}
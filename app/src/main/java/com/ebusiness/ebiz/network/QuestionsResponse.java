@@ -0,0 +1,15 @@
+package com.ebusiness.ebiz.network;
+
+import com.ebusiness.ebiz.analysis.Question;
+import com.google.gson.annotations.SerializedName;
+import java.util.List;
+
+/**
+ * 질문 생성 응답
+ */
+public class QuestionsResponse {
+    @SerializedName("session_id")
+    public String sessionId;
+    @SerializedName("questions")
+    public List<Question> questions;
+}
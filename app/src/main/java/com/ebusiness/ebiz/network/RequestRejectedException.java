@@ -0,0 +1,15 @@
+package com.ebusiness.ebiz.network;
+
+import java.io.IOException;
+
+/**
+ * 요청을 보내지 않고 바로 실패 처리한 경우
+ * (대기열이 가득 찼거나 CircuitBreaker가 열려 있음 - 호출 측은 다른 네트워크 오류와 같이 처리)
+ */
+public final class RequestRejectedException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    public RequestRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,336 @@
+package com.ebusiness.ebiz.network;
+
+import com.ebusiness.ebiz.metrics.Metrics;
+import com.ebusiness.ebiz.metrics.MetricsRegistry;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import retrofit2.Call;
+import retrofit2.Response;
+
+/**
+ * 백엔드 요청 스케줄러
+ * 질문 생성/분석 요청을 한곳에서 실행해 동시 요청 수와 대기열 길이를 제한하고,
+ * 일시적인 실패는 지수 백오프(지터 포함)로 재시도하며, 장애가 이어지면 CircuitBreaker로 바로 실패시킨다.
+ *
+ * 같은 key로 진행 중인 요청이 있으면 새로 보내지 않고 결과를 함께 받는다(요청 병합).
+ * 스트리밍 응답처럼 본문을 한 번만 읽을 수 있는 요청은 key를 null로 넘겨 병합하지 않는다.
+ * 대기열이 가득 차면 스레드를 늘리지 않고 RequestRejectedException으로 즉시 실패한다.
+ */
+public final class RequestScheduler {
+    private final int maxAttempts;
+    private final long retryBaseDelayMs;
+    private final long retryMaxDelayMs;
+    private final CircuitBreaker circuitBreaker;
+    private final MetricsRegistry metrics;
+
+    private final ThreadPoolExecutor workers;
+    private final ScheduledExecutorService retryTimer;
+    private final ConcurrentHashMap<String, Job<?>> inFlight = new ConcurrentHashMap<>();
+
+    public RequestScheduler(ApiConfig config, MetricsRegistry metrics) {
+        this.maxAttempts = Math.max(1, config.maxAttempts);
+        this.retryBaseDelayMs = config.retryBaseDelayMs;
+        this.retryMaxDelayMs = config.retryMaxDelayMs;
+        this.circuitBreaker = new CircuitBreaker(
+                config.circuitFailureThreshold, config.circuitOpenMs, System::currentTimeMillis);
+        this.metrics = metrics;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        workers = new ThreadPoolExecutor(config.maxConcurrentRequests, config.maxConcurrentRequests,
+                30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(config.requestQueueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "ebiz-net-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        workers.allowCoreThreadTimeOut(true);
+        retryTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ebiz-net-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 요청 예약 (즉시 반환)
+     * 반환된 Future를 취소하면, 같은 요청을 기다리는 다른 호출자가 없을 때 네트워크 호출도 취소된다.
+     *
+     * @param key 병합 기준 (null이면 병합하지 않음)
+     */
+    public <T> CompletableFuture<Response<T>> enqueue(String key, Call<T> call) {
+        if (key == null) {
+            Job<T> job = new Job<>(null, call);
+            CompletableFuture<Response<T>> view = job.subscribe();
+            dispatch(job);
+            return view;
+        }
+
+        Enqueued<T> enqueued = new Enqueued<>();
+        inFlight.compute(key, (k, existing) -> {
+            if (existing != null && !existing.isFinished()) {
+                @SuppressWarnings("unchecked")
+                Job<T> shared = (Job<T>) existing;
+                enqueued.view = shared.subscribe();
+                return existing;
+            }
+            Job<T> job = new Job<>(k, call);
+            enqueued.view = job.subscribe();
+            enqueued.created = job;
+            return job;
+        });
+
+        if (enqueued.created != null) {
+            dispatch(enqueued.created);
+        } else {
+            call.cancel(); // 병합된 호출은 보내지 않음
+        }
+        return enqueued.view;
+    }
+
+    /**
+     * 요청을 예약하고 결과를 기다림 (워커 스레드 전용)
+     */
+    public <T> Response<T> execute(String key, Call<T> call) throws IOException {
+        return await(enqueue(key, call));
+    }
+
+    /**
+     * enqueue() 결과 대기 - 실패 원인은 IOException으로 전달
+     */
+    public static <T> Response<T> await(Future<Response<T>> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for response");
+        } catch (CancellationException e) {
+            throw new IOException("Canceled", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public void shutdown() {
+        workers.shutdownNow();
+        retryTimer.shutdownNow();
+    }
+
+    private void dispatch(Job<?> job) {
+        try {
+            workers.execute(job);
+        } catch (RejectedExecutionException e) {
+            metrics.counter(Metrics.NETWORK_REJECTED).increment();
+            job.fail(new RequestRejectedException("Request queue is full"));
+        }
+    }
+
+    /**
+     * n번째 재시도 대기 시간 - 상한 안에서 지수적으로 늘리고 절반은 무작위로 흩뜨림(equal jitter)
+     */
+    long backoffDelayMs(int retry) {
+        long ceiling = retryMaxDelayMs;
+        if (retry - 1 < 31) {
+            ceiling = Math.min(retryMaxDelayMs, retryBaseDelayMs << (retry - 1));
+        }
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    /**
+     * 재시도할 만한 응답 (서버 과부하/일시 장애)
+     */
+    static boolean isRetryable(int code) {
+        return code == 408 || code == 429 || code >= 500;
+    }
+
+    /**
+     * 요청 한 건 (병합된 호출자들이 공유)
+     */
+    private final class Job<T> implements Runnable {
+        private final String key;
+        private final Call<T> original;
+        private final CompletableFuture<Response<T>> result = new CompletableFuture<>();
+        private final AtomicInteger subscribers = new AtomicInteger();
+        private volatile Call<T> current;
+        private volatile boolean cancelled = false;
+        private int attempts = 0; // 워커 스레드에서만 변경
+
+        Job(String key, Call<T> original) {
+            this.key = key;
+            this.original = original;
+        }
+
+        boolean isFinished() {
+            return cancelled || result.isDone();
+        }
+
+        CompletableFuture<Response<T>> subscribe() {
+            subscribers.incrementAndGet();
+            Subscription<T> view = new Subscription<>(this);
+            result.whenComplete((response, error) -> {
+                if (error != null) {
+                    view.completeExceptionally(error);
+                } else {
+                    view.complete(response);
+                }
+            });
+            return view;
+        }
+
+        void unsubscribe() {
+            if (subscribers.decrementAndGet() == 0) {
+                cancel();
+            }
+        }
+
+        @Override
+        public void run() {
+            if (cancelled) {
+                return;
+            }
+            if (!circuitBreaker.allowRequest()) {
+                metrics.counter(Metrics.NETWORK_CIRCUIT_OPEN).increment();
+                fail(new RequestRejectedException("Backend circuit is open"));
+                return;
+            }
+
+            Call<T> call = attempts == 0 ? original : original.clone();
+            current = call;
+            attempts++;
+            if (cancelled) {
+                call.cancel();
+                circuitBreaker.releaseTrial();
+                return;
+            }
+
+            Response<T> response;
+            try {
+                response = call.execute();
+            } catch (IOException e) {
+                if (cancelled || call.isCanceled()) {
+                    circuitBreaker.releaseTrial();
+                    return;
+                }
+                circuitBreaker.onFailure();
+                retryOrFail(e, null);
+                return;
+            } catch (RuntimeException e) {
+                // 본문 변환 실패 등 (같은 응답이 다시 올 것이므로 재시도하지 않음)
+                if (cancelled || call.isCanceled()) {
+                    circuitBreaker.releaseTrial();
+                    return;
+                }
+                circuitBreaker.onFailure();
+                fail(new IOException(e));
+                return;
+            }
+
+            if (isRetryable(response.code())) {
+                circuitBreaker.onFailure();
+                retryOrFail(null, response);
+            } else {
+                circuitBreaker.onSuccess();
+                finish(response);
+            }
+        }
+
+        /**
+         * 재시도 횟수가 남았으면 백오프 후 다시 예약, 아니면 마지막 결과로 완료
+         */
+        private void retryOrFail(IOException error, Response<T> response) {
+            if (attempts < maxAttempts && !cancelled && circuitBreaker.getState() != CircuitBreaker.State.OPEN) {
+                if (response != null && response.errorBody() != null) {
+                    response.errorBody().close();
+                }
+                metrics.counter(Metrics.NETWORK_RETRIES).increment();
+                try {
+                    retryTimer.schedule(() -> dispatch(this), backoffDelayMs(attempts), TimeUnit.MILLISECONDS);
+                } catch (RejectedExecutionException e) {
+                    fail(error != null ? error : new IOException("Scheduler is shut down"));
+                }
+            } else if (response != null) {
+                // 재시도를 다 쓰면 실패 응답을 그대로 전달 (호출 측이 상태 코드로 처리)
+                finish(response);
+            } else {
+                fail(error);
+            }
+        }
+
+        private void finish(Response<T> response) {
+            release();
+            result.complete(response);
+        }
+
+        void fail(IOException error) {
+            release();
+            result.completeExceptionally(error);
+        }
+
+        void cancel() {
+            cancelled = true;
+            Call<T> call = current;
+            if (call != null) {
+                call.cancel();
+            }
+            release();
+            result.cancel(false);
+        }
+
+        private void release() {
+            if (key != null) {
+                inFlight.remove(key, this);
+            }
+        }
+    }
+
+    /**
+     * enqueue()에서 병합 여부 판단 결과 (compute 람다 밖으로 전달)
+     */
+    private static final class Enqueued<T> {
+        Job<T> created; // 새로 만든 작업 (병합되었으면 null)
+        CompletableFuture<Response<T>> view;
+    }
+
+    /**
+     * 호출자별 결과 (응답을 받은 뒤 취소해도 진행 중인 본문 읽기를 중단)
+     */
+    private static final class Subscription<T> extends CompletableFuture<Response<T>> {
+        private final Job<T> job;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        Subscription(Job<T> job) {
+            this.job = job;
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (released.compareAndSet(false, true)) {
+                job.unsubscribe();
+            }
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.ebusiness.ebiz.portfolio;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV 프로젝트 목록 리더 (RFC 4180 - 따옴표 안의 쉼표/줄바꿈, "" 이스케이프 지원)
+ * 첫 행은 헤더이며 title(제목), description(설명), budget(예산) 외의 열은 같은 이름의 질문 답변으로 사용한다
+ * (예: q1~q5 열은 RpnEngine의 질문 ID와 일치)
+ */
+final class CsvPortfolioReader implements PortfolioReader {
+    private final BufferedReader in;
+    private final List<String> row = new ArrayList<>(); // 행마다 재사용
+    private final StringBuilder field = new StringBuilder();
+
+    private String[] header;
+    private int titleColumn = -1;
+    private int descriptionColumn = -1;
+    private int budgetColumn = -1;
+    private int nextIndex = 0;
+    private int skipped = 0;
+
+    CsvPortfolioReader(BufferedReader in) {
+        this.in = in;
+    }
+
+    @Override
+    public PortfolioProject next() throws IOException {
+        if (header == null) {
+            readHeader();
+        }
+        while (readRow()) {
+            if (row.size() == 1 && row.get(0).trim().isEmpty()) {
+                continue; // 빈 줄
+            }
+            String title = column(titleColumn);
+            if (title.isEmpty()) {
+                skipped++;
+                continue;
+            }
+
+            Map<String, String> answers = new HashMap<>();
+            for (int i = 0; i < header.length && i < row.size(); i++) {
+                if (i == titleColumn || i == descriptionColumn || i == budgetColumn || header[i].isEmpty()) {
+                    continue;
+                }
+                String answer = row.get(i).trim();
+                if (!answer.isEmpty()) {
+                    answers.put(header[i], answer);
+                }
+            }
+            return new PortfolioProject(nextIndex++, title, column(descriptionColumn), column(budgetColumn), answers);
+        }
+        return null;
+    }
+
+    @Override
+    public int getSkippedCount() {
+        return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void readHeader() throws IOException {
+        if (!readRow()) {
+            throw new IOException("CSV file is empty");
+        }
+        header = new String[row.size()];
+        for (int i = 0; i < header.length; i++) {
+            String name = row.get(i).trim();
+            header[i] = name;
+            switch (name.toLowerCase(Locale.ROOT)) {
+                case "title":
+                case "제목":
+                case "프로젝트명":
+                    titleColumn = i;
+                    break;
+                case "description":
+                case "설명":
+                    descriptionColumn = i;
+                    break;
+                case "budget":
+                case "예산":
+                    budgetColumn = i;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (titleColumn < 0) {
+            throw new IOException("CSV header has no title column");
+        }
+    }
+
+    private String column(int index) {
+        return index >= 0 && index < row.size() ? row.get(index).trim() : "";
+    }
+
+    /**
+     * 한 행을 row에 읽음 (파일 끝이면 false)
+     */
+    private boolean readRow() throws IOException {
+        row.clear();
+        field.setLength(0);
+        boolean inQuotes = false;
+        boolean empty = true;
+
+        while (true) {
+            int c = in.read();
+            if (c == -1) {
+                if (empty) {
+                    return false;
+                }
+                row.add(field.toString());
+                return true;
+            }
+            empty = false;
+
+            if (inQuotes) {
+                if (c == '"') {
+                    in.mark(1);
+                    int next = in.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        inQuotes = false;
+                        if (next != -1) {
+                            in.reset();
+                        }
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                inQuotes = true;
+            } else if (c == ',') {
+                row.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                row.add(field.toString());
+                return true;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+    }
+}
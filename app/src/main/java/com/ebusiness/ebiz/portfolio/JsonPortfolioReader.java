@@ -0,0 +1,132 @@
+package com.ebusiness.ebiz.portfolio;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * JSON 프로젝트 목록 리더
+ * 최상위 배열([{...}, {...}])과 줄 단위 객체(NDJSON)를 모두 처리하며, 객체 하나씩만 파싱한다
+ *
+ * 객체 형식: {"title": "...", "description": "...", "budget": "3000만원", "answers": {"q1": "..."}}
+ */
+final class JsonPortfolioReader implements PortfolioReader {
+    private final JsonReader reader;
+    private boolean started = false;
+    private boolean inArray = false;
+    private int nextIndex = 0;
+    private int skipped = 0;
+
+    JsonPortfolioReader(Reader source) {
+        reader = new JsonReader(source);
+        reader.setLenient(true); // 여러 개의 최상위 객체(NDJSON) 허용
+    }
+
+    @Override
+    public PortfolioProject next() throws IOException {
+        if (!started) {
+            started = true;
+            if (reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                inArray = true;
+            }
+        }
+
+        while (true) {
+            if (inArray && !reader.hasNext()) {
+                reader.endArray();
+                inArray = false;
+            }
+            if (reader.peek() == JsonToken.END_DOCUMENT) {
+                return null;
+            }
+            if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                reader.skipValue();
+                skipped++;
+                continue;
+            }
+
+            PortfolioProject project = readProject();
+            if (project != null) {
+                return project;
+            }
+            skipped++;
+        }
+    }
+
+    @Override
+    public int getSkippedCount() {
+        return skipped;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private PortfolioProject readProject() throws IOException {
+        String title = "";
+        String description = "";
+        String budget = "";
+        Map<String, String> answers = new HashMap<>();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            switch (name) {
+                case "title":
+                    title = readText();
+                    break;
+                case "description":
+                    description = readText();
+                    break;
+                case "budget":
+                    budget = readText();
+                    break;
+                case "answers":
+                    readAnswers(answers);
+                    break;
+                default:
+                    reader.skipValue();
+                    break;
+            }
+        }
+        reader.endObject();
+
+        if (title.isEmpty()) {
+            return null;
+        }
+        return new PortfolioProject(nextIndex++, title, description, budget, answers);
+    }
+
+    private void readAnswers(Map<String, String> answers) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return;
+        }
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String questionId = reader.nextName();
+            String answer = readText();
+            if (!answer.isEmpty()) {
+                answers.put(questionId, answer);
+            }
+        }
+        reader.endObject();
+    }
+
+    /**
+     * 문자열/숫자 값 (그 외 형식은 건너뛰고 빈 문자열)
+     */
+    private String readText() throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            return reader.nextString().trim();
+        }
+        reader.skipValue();
+        return "";
+    }
+}
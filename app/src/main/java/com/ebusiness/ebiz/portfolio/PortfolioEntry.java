@@ -0,0 +1,45 @@
+package com.ebusiness.ebiz.portfolio;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import java.util.Comparator;
+
+/**
+ * 일괄 분석 결과 한 줄 (순위 목록 표시에 필요한 값만 보관)
+ */
+public final class PortfolioEntry {
+    /**
+     * 위험도 높은 순, 같으면 예상 손실 큰 순, 그다음 파일 순서
+     */
+    public static final Comparator<PortfolioEntry> RANKING = (a, b) -> {
+        int byScore = Double.compare(b.overallRiskScore, a.overallRiskScore);
+        if (byScore != 0) {
+            return byScore;
+        }
+        int byLoss = Long.compare(b.totalExpectedLoss, a.totalExpectedLoss);
+        return byLoss != 0 ? byLoss : Integer.compare(a.index, b.index);
+    };
+
+    public final int index;
+    public final String title;
+    public final String budgetText;
+    public final double overallRiskScore;
+    public final int rpn;
+    public final long totalExpectedLoss;
+    public final long lossP90;
+
+    public PortfolioEntry(int index, String title, String budgetText, double overallRiskScore, int rpn,
+                          long totalExpectedLoss, long lossP90) {
+        this.index = index;
+        this.title = title;
+        this.budgetText = budgetText;
+        this.overallRiskScore = overallRiskScore;
+        this.rpn = rpn;
+        this.totalExpectedLoss = totalExpectedLoss;
+        this.lossP90 = lossP90;
+    }
+
+    static PortfolioEntry of(PortfolioProject project, AnalysisResult result) {
+        return new PortfolioEntry(project.index, project.title, project.budgetText, result.overallRiskScore,
+                result.rpn, result.totalExpectedLoss, result.lossP90);
+    }
+}
@@ -0,0 +1,28 @@
+package com.ebusiness.ebiz.portfolio;
+
+import com.ebusiness.ebiz.analysis.ProjectInput;
+import java.util.Map;
+
+/**
+ * 가져온 파일의 프로젝트 한 건
+ */
+public final class PortfolioProject {
+    public final int index; // 파일 안에서의 순번 (0부터)
+    public final String title;
+    public final String description;
+    public final String budgetText; // 화면 표시용 ("3000만원", "미정")
+    public final Map<String, String> answers;
+
+    public PortfolioProject(int index, String title, String description, String budgetText,
+                            Map<String, String> answers) {
+        this.index = index;
+        this.title = title;
+        this.description = description;
+        this.budgetText = budgetText;
+        this.answers = answers;
+    }
+
+    public ProjectInput toInput() {
+        return new ProjectInput(title, description, ProjectInput.parseBudget(budgetText), answers);
+    }
+}
@@ -0,0 +1,44 @@
+package com.ebusiness.ebiz.portfolio;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * 프로젝트 목록 파일을 한 건씩 읽는 리더
+ * 파일 전체를 메모리에 올리지 않고 next()를 호출할 때마다 다음 프로젝트만 파싱한다
+ */
+public interface PortfolioReader extends Closeable {
+
+    /**
+     * 다음 프로젝트 (파일 끝이면 null, 제목이 없는 행은 건너뜀)
+     */
+    PortfolioProject next() throws IOException;
+
+    /**
+     * 지금까지 건너뛴 행 수
+     */
+    int getSkippedCount();
+
+    /**
+     * 첫 글자로 형식을 판단해 리더 생성 ('[' 또는 '{'이면 JSON, 아니면 CSV)
+     */
+    static PortfolioReader open(Reader source) throws IOException {
+        BufferedReader reader = source instanceof BufferedReader
+                ? (BufferedReader) source : new BufferedReader(source);
+        int first;
+        do {
+            reader.mark(1);
+            first = reader.read();
+        } while (first == '\uFEFF' || (first != -1 && Character.isWhitespace(first)));
+        if (first != -1) {
+            reader.reset();
+        }
+
+        if (first == '[' || first == '{') {
+            return new JsonPortfolioReader(reader);
+        }
+        return new CsvPortfolioReader(reader);
+    }
+}
@@ -0,0 +1,95 @@
+package com.ebusiness.ebiz.portfolio;
+
+import com.ebusiness.ebiz.analysis.RiskScorer;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 프로젝트 목록 일괄 분석
+ * 리더에서 한 건씩 꺼내 executor에서 병렬로 점수를 계산하고, 끝나는 순서대로 Listener에 전달한다
+ *
+ * 동시에 처리 중인 프로젝트는 maxInFlight개로 제한하므로, 파일이 커도 리더가 계산보다 앞서
+ * 프로젝트를 쌓아 두지 않는다(메모리는 파일 크기가 아니라 maxInFlight에 비례).
+ */
+public final class PortfolioScorer {
+
+    /**
+     * 분석 결과 수신 (executor 스레드에서 호출됨)
+     */
+    public interface Listener {
+        void onScored(PortfolioEntry entry);
+    }
+
+    /**
+     * 실행 결과
+     */
+    public static final class Summary {
+        public final int scored;
+        public final int skipped; // 제목이 없는 등 형식이 맞지 않는 행
+        public final int failed;
+        public final boolean cancelled;
+
+        Summary(int scored, int skipped, int failed, boolean cancelled) {
+            this.scored = scored;
+            this.skipped = skipped;
+            this.failed = failed;
+            this.cancelled = cancelled;
+        }
+    }
+
+    private final RiskScorer scorer;
+    private final Executor executor;
+    private final int maxInFlight;
+
+    public PortfolioScorer(RiskScorer scorer, Executor executor, int maxInFlight) {
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        this.scorer = scorer;
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * 파일 끝까지 또는 취소될 때까지 분석 (호출 스레드에서 파싱하고, 진행 중인 계산이 모두 끝나면 반환)
+     */
+    public Summary run(PortfolioReader reader, Listener listener, BooleanSupplier cancelled)
+            throws IOException, InterruptedException {
+        Semaphore permits = new Semaphore(maxInFlight);
+        AtomicInteger scored = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        try {
+            PortfolioProject project;
+            while (!cancelled.getAsBoolean() && (project = reader.next()) != null) {
+                permits.acquire();
+                PortfolioProject current = project;
+                try {
+                    executor.execute(() -> {
+                        try {
+                            if (!cancelled.getAsBoolean()) {
+                                listener.onScored(PortfolioEntry.of(current, scorer.score(current.toInput())));
+                                scored.incrementAndGet();
+                            }
+                        } catch (RuntimeException e) {
+                            failed.incrementAndGet();
+                        } finally {
+                            permits.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    permits.release();
+                    throw e;
+                }
+            }
+        } finally {
+            // 진행 중인 계산이 모두 끝날 때까지 대기
+            permits.acquireUninterruptibly(maxInFlight);
+        }
+        return new Summary(scored.get(), reader.getSkippedCount(), failed.get(), cancelled.getAsBoolean());
+    }
+}
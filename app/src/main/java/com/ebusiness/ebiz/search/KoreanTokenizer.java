@@ -0,0 +1,89 @@
+package com.ebusiness.ebiz.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 한국어 n-gram 토크나이저
+ * 한글은 조사/어미가 붙어 띄어쓰기 단위로는 검색이 잘 되지 않으므로 음절 bigram으로 나누고,
+ * 한 음절 검색어도 찾을 수 있도록 문서에는 음절 unigram도 함께 색인한다.
+ * 영문/숫자는 소문자로 바꾼 단어 하나를 토큰으로 사용한다.
+ *
+ * 예) "앱을 개발" → 문서: 앱, 을, 앱을, 개, 발, 개발 / 검색어: 앱을, 개발
+ */
+public final class KoreanTokenizer {
+
+    /**
+     * 토큰 수신 (문서 색인 시 등장 순서대로 호출됨)
+     */
+    public interface Sink {
+        void accept(String token);
+    }
+
+    /**
+     * 문서 토큰 (unigram + bigram)
+     */
+    public void tokenizeDocument(CharSequence text, Sink sink) {
+        tokenize(text, true, sink);
+    }
+
+    /**
+     * 검색어 토큰 (중복 제거, 두 음절 이상인 한글은 bigram만 사용)
+     */
+    public List<String> tokenizeQuery(CharSequence text) {
+        Set<String> terms = new LinkedHashSet<>();
+        tokenize(text, false, terms::add);
+        return new ArrayList<>(terms);
+    }
+
+    private static void tokenize(CharSequence text, boolean document, Sink sink) {
+        if (text == null) {
+            return;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(text.charAt(i))) {
+                    i++;
+                }
+                emitHangul(text, start, i, document, sink);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && Character.isLetterOrDigit(text.charAt(i)) && !isHangul(text.charAt(i))) {
+                    i++;
+                }
+                sink.accept(text.subSequence(start, i).toString().toLowerCase(Locale.ROOT));
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static void emitHangul(CharSequence text, int start, int end, boolean document, Sink sink) {
+        if (end - start == 1) {
+            sink.accept(String.valueOf(text.charAt(start)));
+            return;
+        }
+        for (int i = start; i < end; i++) {
+            if (document) {
+                sink.accept(String.valueOf(text.charAt(i)));
+            }
+            if (i + 1 < end) {
+                sink.accept(text.subSequence(i, i + 2).toString());
+            }
+        }
+    }
+
+    /**
+     * 완성형 한글 음절 (가~힣)
+     */
+    static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+}
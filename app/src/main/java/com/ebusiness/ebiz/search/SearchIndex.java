@@ -0,0 +1,266 @@
+package com.ebusiness.ebiz.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 메모리 역색인 (분석 이력 전문 검색)
+ * 토큰마다 문서 번호와 빈도를 정수 배열로 보관하고, 검색어의 모든 토큰을 포함한 문서를 BM25 점수 순으로 반환한다.
+ *
+ * 문서는 추가할 때마다 증가하는 내부 번호를 받으므로 색인 목록은 항상 정렬된 상태로 끝에만 추가된다.
+ * 삭제/갱신은 표시만 해 두고, 삭제된 문서가 많아지면 한 번에 정리한다.
+ * 모든 메서드는 동기화되어 있어 저장 스레드와 검색 스레드에서 함께 사용할 수 있다.
+ */
+public final class SearchIndex {
+    // BM25 매개변수
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+    // 제목 토큰은 본문보다 높은 빈도로 셈
+    static final int TITLE_WEIGHT = 2;
+
+    private static final int MIN_COMPACT_DELETED = 64;
+
+    /**
+     * 검색 결과 한 건
+     */
+    public static final class Hit {
+        public final long id;
+        public final float score;
+
+        Hit(long id, float score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    // 점수 내림차순, 같으면 최근(ID가 큰) 문서 우선
+    private static final Comparator<Hit> RANKING = (a, b) -> {
+        int byScore = Float.compare(b.score, a.score);
+        return byScore != 0 ? byScore : Long.compare(b.id, a.id);
+    };
+
+    private final KoreanTokenizer tokenizer = new KoreanTokenizer();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docById = new HashMap<>();
+
+    // 내부 문서 번호 → 외부 ID / 토큰 수
+    private long[] docIds = new long[256];
+    private int[] docLengths = new int[256];
+    private final BitSet deleted = new BitSet();
+    private int docCount = 0;
+    private int liveCount = 0;
+    private long totalLength = 0;
+
+    // 문서 하나의 토큰 빈도 (add마다 재사용)
+    private final Map<String, int[]> termFreqs = new HashMap<>();
+    private int pendingLength;
+
+    public synchronized int size() {
+        return liveCount;
+    }
+
+    public synchronized boolean contains(long id) {
+        return docById.containsKey(id);
+    }
+
+    /**
+     * 문서 추가 (같은 ID가 있으면 교체)
+     */
+    public synchronized void add(long id, CharSequence title, CharSequence body) {
+        remove(id);
+
+        termFreqs.clear();
+        pendingLength = 0;
+        tokenizer.tokenizeDocument(title, token -> count(token, TITLE_WEIGHT));
+        tokenizer.tokenizeDocument(body, token -> count(token, 1));
+
+        int doc = docCount++;
+        if (doc == docIds.length) {
+            docIds = Arrays.copyOf(docIds, doc * 2);
+            docLengths = Arrays.copyOf(docLengths, doc * 2);
+        }
+        docIds[doc] = id;
+        docLengths[doc] = pendingLength;
+        docById.put(id, doc);
+        liveCount++;
+        totalLength += pendingLength;
+
+        for (Map.Entry<String, int[]> entry : termFreqs.entrySet()) {
+            Postings list = postings.get(entry.getKey());
+            if (list == null) {
+                list = new Postings();
+                postings.put(entry.getKey(), list);
+            }
+            list.add(doc, entry.getValue()[0]);
+        }
+        termFreqs.clear();
+    }
+
+    private void count(String token, int weight) {
+        int[] freq = termFreqs.get(token);
+        if (freq == null) {
+            freq = new int[1];
+            termFreqs.put(token, freq);
+        }
+        freq[0] += weight;
+        pendingLength += weight;
+    }
+
+    public synchronized boolean remove(long id) {
+        Integer doc = docById.remove(id);
+        if (doc == null) {
+            return false;
+        }
+        deleted.set(doc);
+        liveCount--;
+        totalLength -= docLengths[doc];
+
+        int deletedCount = docCount - liveCount;
+        if (deletedCount >= MIN_COMPACT_DELETED && deletedCount > liveCount / 4) {
+            compact();
+        }
+        return true;
+    }
+
+    public synchronized void clear() {
+        postings.clear();
+        docById.clear();
+        deleted.clear();
+        docCount = 0;
+        liveCount = 0;
+        totalLength = 0;
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함한 문서를 점수 순으로 최대 limit건 반환
+     */
+    public synchronized List<Hit> search(String query, int limit) {
+        List<String> terms = tokenizer.tokenizeQuery(query);
+        if (terms.isEmpty() || liveCount == 0 || limit <= 0) {
+            return Collections.emptyList();
+        }
+        Postings[] lists = new Postings[terms.size()];
+        for (int i = 0; i < lists.length; i++) {
+            lists[i] = postings.get(terms.get(i));
+            if (lists[i] == null) {
+                return Collections.emptyList();
+            }
+        }
+        // 짧은 목록부터 처리하면 이후 단계에서 후보가 아닌 문서는 바로 건너뛴다
+        Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+        float averageLength = (float) totalLength / liveCount;
+        float[] scores = new float[docCount];
+        int[] matched = new int[docCount]; // 앞 단계 토큰을 모두 포함한 문서만 다음 값으로 증가
+        for (int t = 0; t < lists.length; t++) {
+            Postings list = lists[t];
+            float idf = idf(list.size);
+            for (int k = 0; k < list.size; k++) {
+                int doc = list.docs[k];
+                if (matched[doc] != t) {
+                    continue;
+                }
+                matched[doc] = t + 1;
+                int tf = list.freqs[k];
+                float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+            }
+        }
+
+        // 상위 limit건만 유지 (최소 힙)
+        PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        Postings shortest = lists[0];
+        for (int k = 0; k < shortest.size; k++) {
+            int doc = shortest.docs[k];
+            if (matched[doc] != lists.length || deleted.get(doc)) {
+                continue;
+            }
+            top.add(new Hit(docIds[doc], scores[doc]));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    /**
+     * BM25 역문서 빈도 (삭제 표시된 문서도 세므로 정리 전까지는 근사값)
+     */
+    private float idf(int documentFrequency) {
+        int others = Math.max(0, liveCount - documentFrequency);
+        return (float) Math.log(1 + (others + 0.5) / (documentFrequency + 0.5));
+    }
+
+    /**
+     * 삭제된 문서를 색인에서 제거하고 내부 번호를 다시 매김 (순서 유지)
+     */
+    private void compact() {
+        int[] remap = new int[docCount];
+        int next = 0;
+        for (int doc = 0; doc < docCount; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+            } else {
+                remap[doc] = next;
+                docIds[next] = docIds[doc];
+                docLengths[next] = docLengths[doc];
+                next++;
+            }
+        }
+        Iterator<Postings> it = postings.values().iterator();
+        while (it.hasNext()) {
+            Postings list = it.next();
+            list.retain(remap);
+            if (list.size == 0) {
+                it.remove();
+            }
+        }
+        for (Map.Entry<Long, Integer> entry : docById.entrySet()) {
+            entry.setValue(remap[entry.getValue()]);
+        }
+        deleted.clear();
+        docCount = next;
+    }
+
+    /**
+     * 토큰 하나의 문서 번호(오름차순)와 빈도
+     */
+    private static final class Postings {
+        int[] docs = new int[4];
+        int[] freqs = new int[4];
+        int size = 0;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        void retain(int[] remap) {
+            int kept = 0;
+            for (int k = 0; k < size; k++) {
+                int doc = remap[docs[k]];
+                if (doc >= 0) {
+                    docs[kept] = doc;
+                    freqs[kept] = freqs[k];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+    }
+}
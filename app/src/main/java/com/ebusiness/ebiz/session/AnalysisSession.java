@@ -0,0 +1,83 @@
+package com.ebusiness.ebiz.session;
+
+import com.ebusiness.ebiz.analysis.ProjectInput;
+import com.ebusiness.ebiz.analysis.Question;
+import com.ebusiness.ebiz.analysis.Questionnaire;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 분석 한 건의 진행 상태
+ * 프로젝트 입력 → 질문 생성 → 답변 → 결과 화면이 같은 객체를 공유하므로
+ * 화면 사이에는 세션 ID만 전달하고 입력/답변을 다시 직렬화하지 않는다
+ */
+public final class AnalysisSession {
+    private final String id;
+    private final String title;
+    private final String description;
+    private final String budgetText; // 화면 표시용 ("3000만원", "미정")
+    private final long budgetManwon;
+
+    // 백엔드 세션 ID (원격 분석을 사용하지 않으면 null)
+    private volatile String remoteSessionId;
+    private volatile Questionnaire questionnaire;
+
+    AnalysisSession(String id, String title, String description, String budgetText) {
+        this.id = id;
+        this.title = title != null ? title : "";
+        this.description = description != null ? description : "";
+        this.budgetText = budgetText;
+        this.budgetManwon = ProjectInput.parseBudget(budgetText);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getBudgetText() {
+        return budgetText;
+    }
+
+    public long getBudgetManwon() {
+        return budgetManwon;
+    }
+
+    public String getRemoteSessionId() {
+        return remoteSessionId;
+    }
+
+    public void setRemoteSessionId(String remoteSessionId) {
+        this.remoteSessionId = remoteSessionId;
+    }
+
+    /**
+     * 생성된 질문 설정 (이전 답변은 초기화)
+     */
+    public void setQuestions(List<Question> questions) {
+        this.questionnaire = new Questionnaire(new ArrayList<>(questions));
+    }
+
+    /**
+     * 질문과 답변 상태 (질문 생성 전에는 null)
+     */
+    public Questionnaire getQuestionnaire() {
+        return questionnaire;
+    }
+
+    /**
+     * RPN 엔진/백엔드 입력용 스냅샷
+     */
+    public ProjectInput toProjectInput() {
+        Questionnaire current = questionnaire;
+        return new ProjectInput(title, description, budgetManwon,
+                current != null ? current.toAnswerMap() : null);
+    }
+}
@@ -0,0 +1,174 @@
+package com.ebusiness.ebiz.session;
+
+import com.ebusiness.ebiz.analysis.Question;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * 구체화 질문 선행 요청
+ * 프로젝트 입력 화면에서 제목/설명이 채워지면 질문 생성을 미리 시작해 두고,
+ * LoadingActivity가 같은 입력으로 take()하면 이미 받아 둔 결과를 바로 사용한다.
+ *
+ * 같은 입력으로 다시 요청하면 진행 중인 요청을 재사용하고, 입력이 바뀌면 이전 요청을 취소한다.
+ * 결과는 한 번만 가져갈 수 있다 (백엔드 세션은 분석 한 건에만 연결되므로).
+ */
+public final class QuestionPrefetcher {
+
+    /**
+     * 질문 생성 결과
+     */
+    public static final class Result {
+        public final List<Question> questions;
+        public final String remoteSessionId; // 로컬에서 생성했으면 null
+
+        public Result(List<Question> questions, String remoteSessionId) {
+            this.questions = questions;
+            this.remoteSessionId = remoteSessionId;
+        }
+    }
+
+    /**
+     * 질문 생성 요청 한 건 (취소 시 진행 중인 네트워크 호출도 함께 취소)
+     */
+    public static final class Request {
+        public final String title;
+        public final String description;
+        public final String budgetText;
+        public final String key; // 같은 입력 판별 (중복 요청 합치기에 사용)
+        private volatile boolean cancelled = false;
+        private volatile Runnable cancelAction;
+
+        public Request(String title, String description, String budgetText) {
+            this.title = normalize(title);
+            this.description = normalize(description);
+            this.budgetText = normalize(budgetText);
+            this.key = this.title + '\u0000' + this.description + '\u0000' + this.budgetText;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * 취소 시 실행할 동작 등록 (이미 취소되었으면 바로 실행)
+         */
+        public void setCancelAction(Runnable action) {
+            cancelAction = action;
+            if (cancelled && action != null) {
+                action.run();
+            }
+        }
+
+        public void cancel() {
+            cancelled = true;
+            Runnable action = cancelAction;
+            if (action != null) {
+                action.run();
+            }
+        }
+
+        private static String normalize(String value) {
+            return value != null ? value.trim() : "";
+        }
+    }
+
+    /**
+     * 실제 질문 생성 (워커 스레드에서 호출)
+     */
+    public interface Loader {
+        Result load(Request request) throws Exception;
+    }
+
+    /**
+     * 진행 중이거나 끝난 질문 생성 작업
+     */
+    public static final class Pending {
+        private final Request request;
+        private final Future<Result> result;
+
+        Pending(Request request, Future<Result> result) {
+            this.request = request;
+            this.result = result;
+        }
+
+        public boolean isDone() {
+            return result.isDone();
+        }
+
+        /**
+         * 결과 대기 (실패했거나 취소되었으면 null)
+         */
+        public Result await() {
+            try {
+                return result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            } catch (ExecutionException | CancellationException e) {
+                return null;
+            }
+        }
+
+        public void cancel() {
+            request.cancel();
+            result.cancel(true);
+        }
+
+        boolean isFailed() {
+            return result.isDone() && await() == null;
+        }
+    }
+
+    private final Loader loader;
+    private final ExecutorService executor;
+
+    // 현재 선행 요청 (this로 보호)
+    private Pending current;
+
+    public QuestionPrefetcher(Loader loader, ExecutorService executor) {
+        this.loader = loader;
+        this.executor = executor;
+    }
+
+    /**
+     * 선행 요청 시작 (같은 입력의 요청이 진행 중이거나 성공했으면 재사용)
+     */
+    public synchronized void prefetch(String title, String description, String budgetText) {
+        Request request = new Request(title, description, budgetText);
+        if (current != null && current.request.key.equals(request.key) && !current.isFailed()) {
+            return;
+        }
+        cancel();
+        current = new Pending(request, executor.submit(() -> loader.load(request)));
+    }
+
+    /**
+     * 진행 중인 선행 요청 취소 (입력이 유효하지 않게 되었거나 화면을 떠날 때)
+     */
+    public synchronized void cancel() {
+        if (current != null) {
+            current.cancel();
+            current = null;
+        }
+    }
+
+    /**
+     * 같은 입력의 선행 요청을 가져감 (없으면 null)
+     * 입력이 다르면 남아 있던 요청은 더 이상 쓸 수 없으므로 취소한다.
+     */
+    public synchronized Pending take(String title, String description, String budgetText) {
+        if (current == null) {
+            return null;
+        }
+        if (!current.request.key.equals(new Request(title, description, budgetText).key)) {
+            cancel();
+            return null;
+        }
+        Pending pending = current;
+        current = null;
+        return pending;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ebusiness.ebiz.session;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 진행 중인 분석 세션 저장소 (프로세스 내 메모리)
+ * Activity 사이에는 EXTRA_SESSION_ID만 전달하고, 각 화면은 이 저장소에서 세션을 조회한다.
+ *
+ * 프로세스가 종료되면 세션도 사라지므로, 세션을 찾지 못한 화면은 이전 단계로 돌아가야 한다
+ * (입력 내용은 DraftStore 임시 저장본으로 복원된다).
+ */
+public final class SessionRepository {
+    public static final String EXTRA_SESSION_ID = "session_id";
+
+    // 완료되지 않고 남은 세션이 쌓이지 않도록 최근 세션만 유지
+    static final int MAX_SESSIONS = 8;
+
+    private static final SessionRepository INSTANCE = new SessionRepository();
+
+    private final Map<String, AnalysisSession> sessions =
+            new LinkedHashMap<String, AnalysisSession>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, AnalysisSession> eldest) {
+                    return size() > MAX_SESSIONS;
+                }
+            };
+
+    SessionRepository() {
+    }
+
+    public static SessionRepository getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 새 분석 세션 생성
+     */
+    public synchronized AnalysisSession create(String title, String description, String budgetText) {
+        AnalysisSession session = new AnalysisSession(UUID.randomUUID().toString(), title, description, budgetText);
+        sessions.put(session.getId(), session);
+        return session;
+    }
+
+    /**
+     * 세션 조회 (없거나 만료되었으면 null)
+     */
+    public synchronized AnalysisSession get(String id) {
+        return id != null ? sessions.get(id) : null;
+    }
+
+    public synchronized void remove(String id) {
+        if (id != null) {
+            sessions.remove(id);
+        }
+    }
+
+    synchronized int size() {
+        return sessions.size();
+    }
+}
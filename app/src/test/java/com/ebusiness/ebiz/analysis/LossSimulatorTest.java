@@ -0,0 +1,56 @@
+package com.ebusiness.ebiz.analysis;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.*;
+
+/**
+ * LossSimulator 로컬 단위 테스트
+ */
+public class LossSimulatorTest {
+
+    @Test
+    public void percentilesAreOrderedAndSplitFitsTotal() {
+        LossSimulation simulation = new LossSimulator().simulate(3000, 6, 7, 5);
+
+        assertEquals(LossSimulator.DEFAULT_TRIALS, simulation.trials);
+        assertTrue(simulation.p50Loss <= simulation.p90Loss);
+        assertTrue(simulation.p90Loss <= simulation.p99Loss);
+        assertTrue(simulation.p99Loss <= 3000L * 10_000 * 3 / 2);
+
+        long split = simulation.timeCost + simulation.directInvestment + simulation.personnelCost;
+        assertTrue(split <= simulation.meanLoss);
+        assertTrue(split > simulation.meanLoss / 2);
+    }
+
+    @Test
+    public void resultDoesNotDependOnParallelism() {
+        LossSimulation single = new LossSimulator(new ForkJoinPool(1)).simulate(5000, 5, 5, 5, 50_000, 42L);
+        LossSimulation parallel = new LossSimulator(new ForkJoinPool(4)).simulate(5000, 5, 5, 5, 50_000, 42L);
+
+        assertEquals(single.meanLoss, parallel.meanLoss);
+        assertEquals(single.p90Loss, parallel.p90Loss);
+        assertEquals(single.timeCost, parallel.timeCost);
+    }
+
+    @Test
+    public void higherRiskLosesMore() {
+        LossSimulator simulator = new LossSimulator();
+        LossSimulation low = simulator.simulate(3000, 2, 2, 2);
+        LossSimulation high = simulator.simulate(3000, 9, 9, 9);
+
+        assertTrue(high.failureRate > low.failureRate);
+        assertTrue(high.meanLoss > low.meanLoss);
+        assertTrue(high.p99Loss > low.p99Loss);
+    }
+
+    @Test
+    public void percentileUsesNearestRank() {
+        long[] sorted = {10, 20, 30, 40, 50, 60, 70, 80, 90, 100};
+        assertEquals(50, LossSimulator.percentile(sorted, 0.50));
+        assertEquals(90, LossSimulator.percentile(sorted, 0.90));
+        assertEquals(100, LossSimulator.percentile(sorted, 0.99));
+    }
+}
@@ -0,0 +1,32 @@
+package com.ebusiness.ebiz.analysis;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * QuestionGenerator 로컬 단위 테스트
+ */
+public class QuestionGeneratorTest {
+    private final QuestionGenerator generator = new QuestionGenerator();
+
+    @Test
+    public void detailedProjectGetsBaseQuestions() {
+        List<Question> questions = generator.generate("헬스케어 앱",
+                "20~30대 직장인을 위한 맞춤형 다이어트 플래너 앱을 개발하여 구독 모델로 수익화", 3000);
+
+        assertEquals(5, questions.size());
+        assertEquals(RpnEngine.Q_CAPITAL, questions.get(0).questionId);
+        assertEquals(RpnEngine.Q_MVP, questions.get(4).questionId);
+    }
+
+    @Test
+    public void unknownBudgetAndShortDescriptionAddFollowUps() {
+        List<Question> questions = generator.generate("헬스케어 앱", "앱", ProjectInput.BUDGET_UNKNOWN);
+
+        assertEquals(7, questions.size());
+        assertTrue(questions.get(6).questionText.startsWith("'헬스케어 앱'"));
+    }
+}
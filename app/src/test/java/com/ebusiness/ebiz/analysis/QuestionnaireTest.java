@@ -0,0 +1,54 @@
+package com.ebusiness.ebiz.analysis;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Questionnaire 로컬 단위 테스트
+ */
+public class QuestionnaireTest {
+
+    private static Questionnaire questionnaire() {
+        return new Questionnaire(Arrays.asList(
+                new Question("q1", "FMEA", "자본 조달 계획은?"),
+                new Question("q2", "FMEA", "출시 일정은?")));
+    }
+
+    @Test
+    public void editAnswer_tracksCompletionWithoutCopyingUntilCommit() {
+        Questionnaire questionnaire = questionnaire();
+        StringBuilder input = new StringBuilder(" ");
+
+        assertFalse(questionnaire.editAnswer(0, input));
+        assertFalse(questionnaire.isAnswered(0));
+
+        // 같은 입력 버퍼가 계속 바뀌어도 참조만 하므로 마지막 내용이 답변이 됨
+        input.setLength(0);
+        input.append("투자 유치");
+        questionnaire.editAnswer(0, input);
+        assertTrue(questionnaire.editAnswer(1, "6개월"));
+        input.append(" 확정");
+
+        assertTrue(questionnaire.isComplete());
+        assertEquals("투자 유치 확정", questionnaire.toAnswerMap().get("q1"));
+
+        // 옮긴 뒤에는 버퍼를 다른 질문에 재사용해도 답변이 바뀌지 않음
+        input.setLength(0);
+        assertEquals("투자 유치 확정", questionnaire.getAnswer(0));
+    }
+
+    @Test
+    public void setAnswer_replacesPendingEdit() {
+        Questionnaire questionnaire = questionnaire();
+        StringBuilder input = new StringBuilder("작성 중");
+        questionnaire.editAnswer(0, input);
+
+        questionnaire.setAnswer(0, "저장본");
+        questionnaire.commitAnswer(0);
+
+        assertEquals("저장본", questionnaire.getAnswer(0));
+    }
+}
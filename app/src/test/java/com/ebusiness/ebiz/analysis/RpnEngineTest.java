@@ -0,0 +1,98 @@
+package com.ebusiness.ebiz.analysis;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * RpnEngine 로컬 단위 테스트
+ */
+public class RpnEngineTest {
+    private final RpnEngine engine = new RpnEngine();
+
+    private static Map<String, String> answers(String q1, String q2, String q3, String q4, String q5) {
+        Map<String, String> answers = new HashMap<>();
+        answers.put(RpnEngine.Q_CAPITAL, q1);
+        answers.put(RpnEngine.Q_CAPABILITY, q2);
+        answers.put(RpnEngine.Q_CUSTOMER, q3);
+        answers.put(RpnEngine.Q_COMPETITION, q4);
+        answers.put(RpnEngine.Q_MVP, q5);
+        return answers;
+    }
+
+    @Test
+    public void parseBudget_handlesScreenFormats() {
+        assertEquals(1500, ProjectInput.parseBudget("1,500만원"));
+        assertEquals(3000, ProjectInput.parseBudget("3000만원"));
+        assertEquals(ProjectInput.BUDGET_UNKNOWN, ProjectInput.parseBudget("미정"));
+        assertEquals(ProjectInput.BUDGET_UNKNOWN, ProjectInput.parseBudget(null));
+        assertEquals(ProjectInput.MAX_BUDGET_MANWON, ProjectInput.parseBudget("99999999999999999999만원"));
+    }
+
+    @Test
+    public void factorsStayInRange() {
+        ProjectInput input = new ProjectInput("", "", ProjectInput.BUDGET_UNKNOWN,
+                answers("", "", "", "", ""));
+        AnalysisResult result = engine.analyze(input);
+
+        assertTrue(result.severity >= RpnEngine.MIN_FACTOR && result.severity <= RpnEngine.MAX_FACTOR);
+        assertTrue(result.occurrence >= RpnEngine.MIN_FACTOR && result.occurrence <= RpnEngine.MAX_FACTOR);
+        assertTrue(result.detection >= RpnEngine.MIN_FACTOR && result.detection <= RpnEngine.MAX_FACTOR);
+        assertEquals(result.severity * result.occurrence * result.detection, result.rpn);
+        assertEquals(result.rpn / 10.0, result.overallRiskScore, 1e-9);
+    }
+
+    @Test
+    public void preparedProjectScoresLowerThanUnpreparedProject() {
+        String description = "20~30대 직장인을 위한 맞춤형 다이어트 플래너 앱을 개발하여 구독 모델로 수익화";
+        ProjectInput prepared = new ProjectInput("헬스케어 앱", description, 3000,
+                answers("3000만원 확보 완료", "개발 경험 5년, 앱 2개 출시 경험 있음",
+                        "20~30대 직장인으로 명확하게 정의되어 있음",
+                        "경쟁사 3곳 분석 완료, AI 추천으로 차별화 가능",
+                        "네, 4개월 내 출시 가능"));
+        ProjectInput unprepared = new ProjectInput("헬스케어 앱", description, 3000,
+                answers("아직 모르겠습니다", "경험 없음", "아직 없음", "아니요", "불확실합니다"));
+
+        AnalysisResult good = engine.analyze(prepared);
+        AnalysisResult bad = engine.analyze(unprepared);
+
+        assertTrue(good.rpn < bad.rpn);
+        assertTrue(good.totalExpectedLoss < bad.totalExpectedLoss);
+    }
+
+    @Test
+    public void lossBreakdownNeverExceedsTotal() {
+        ProjectInput input = new ProjectInput("대형 프로젝트", "설명", ProjectInput.MAX_BUDGET_MANWON,
+                answers("없음", "없음", "없음", "없음", "없음"));
+        AnalysisResult result = engine.analyze(input);
+
+        assertTrue(result.totalExpectedLoss > 0);
+        assertTrue(result.timeCost > 0);
+        assertTrue(result.timeCost + result.directInvestment + result.personnelCost <= result.totalExpectedLoss);
+        assertTrue(result.percentOfTotal(result.timeCost) <= 100);
+    }
+
+    @Test
+    public void unknownBudgetUsesDefaultExposure() {
+        ProjectInput input = new ProjectInput("프로젝트", "설명", ProjectInput.BUDGET_UNKNOWN, null);
+        AnalysisResult result = engine.analyze(input);
+
+        long exposure = RpnEngine.DEFAULT_EXPOSURE_MANWON * 10_000L;
+        assertTrue(result.totalExpectedLoss > 0);
+        assertTrue(result.totalExpectedLoss <= exposure);
+    }
+
+    @Test
+    public void recommendationsAreOrderedSteps() {
+        AnalysisResult result = engine.analyze(new ProjectInput("프로젝트", "설명", 1000, null));
+
+        assertEquals(3, result.aiRecommendations.length);
+        for (int i = 0; i < result.aiRecommendations.length; i++) {
+            assertTrue(result.aiRecommendations[i].startsWith((i + 1) + "단계: "));
+        }
+        assertNotNull(result.executiveSummary);
+    }
+}
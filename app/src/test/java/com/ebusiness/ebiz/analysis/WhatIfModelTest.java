@@ -0,0 +1,100 @@
+package com.ebusiness.ebiz.analysis;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * WhatIfModel 로컬 단위 테스트
+ */
+public class WhatIfModelTest {
+
+    private static AnalysisResult simulatedResult(long budgetManwon) {
+        Map<String, String> answers = new HashMap<>();
+        answers.put(RpnEngine.Q_CAPITAL, "아직 미정");
+        answers.put(RpnEngine.Q_MVP, "3개월 내 출시 가능");
+        ProjectInput input = new ProjectInput("테스트", "온라인 교육 플랫폼을 만들어 강의를 판매합니다", budgetManwon, answers);
+        return new RiskScorer().score(input);
+    }
+
+    @Test
+    public void reset_reproducesBaselineValuesExactly() {
+        AnalysisResult baseline = simulatedResult(3_000);
+        WhatIfModel model = new WhatIfModel();
+
+        model.reset(baseline, 3_000);
+
+        assertEquals(baseline.rpn, model.getRpn());
+        assertEquals(baseline.overallRiskScore, model.getOverallRiskScore(), 1e-9);
+        assertEquals(baseline.totalExpectedLoss, model.getTotalExpectedLoss());
+        assertEquals(baseline.timeCost, model.getTimeCost());
+        assertEquals(baseline.directInvestment, model.getDirectInvestment());
+        assertEquals(baseline.personnelCost, model.getPersonnelCost());
+    }
+
+    @Test
+    public void reset_clampsBudgetToSliderRangeButKeepsBaselineLoss() {
+        AnalysisResult baseline = simulatedResult(50);
+        WhatIfModel model = new WhatIfModel();
+
+        model.reset(baseline, 50);
+
+        assertEquals(WhatIfModel.MIN_BUDGET_MANWON, model.getBudgetManwon());
+        assertEquals(model.getBudgetManwon(), WhatIfModel.budgetAt(WhatIfModel.stepOf(model.getBudgetManwon())));
+        assertEquals(baseline.totalExpectedLoss, model.getTotalExpectedLoss());
+        assertFalse(model.setBudgetManwon(WhatIfModel.budgetAt(0))); // 슬라이더 첫 위치와 같은 값
+    }
+
+    @Test
+    public void changingInputs_recomputesRpnAndScalesLoss() {
+        AnalysisResult baseline = simulatedResult(3_000);
+        WhatIfModel model = new WhatIfModel();
+        model.reset(baseline, 3_000);
+
+        assertTrue(model.setBudgetManwon(6_000));
+        model.recompute();
+        assertEquals(baseline.rpn, model.getRpn());
+        assertEquals(baseline.totalExpectedLoss * 2, model.getTotalExpectedLoss(), 2);
+
+        assertTrue(model.setSeverity(10));
+        assertTrue(model.setOccurrence(10));
+        assertTrue(model.setDetection(10));
+        assertFalse(model.setDetection(10)); // 같은 값은 변경 아님
+        model.recompute();
+        assertEquals(RpnEngine.MAX_RPN, model.getRpn());
+        assertEquals(100.0, model.getOverallRiskScore(), 1e-9);
+        assertTrue(model.getTotalExpectedLoss() > baseline.totalExpectedLoss * 2);
+    }
+
+    @Test
+    public void setters_clampToValidRange() {
+        WhatIfModel model = new WhatIfModel();
+        model.reset(simulatedResult(-1), ProjectInput.BUDGET_UNKNOWN);
+
+        model.setSeverity(0);
+        model.setOccurrence(42);
+        model.setBudgetManwon(1);
+        model.recompute();
+
+        assertEquals(RpnEngine.MIN_FACTOR, model.getSeverity());
+        assertEquals(RpnEngine.MAX_FACTOR, model.getOccurrence());
+        assertEquals(WhatIfModel.MIN_BUDGET_MANWON, model.getBudgetManwon());
+    }
+
+    @Test
+    public void budgetScale_roundTripsThroughSteps() {
+        assertEquals(WhatIfModel.MIN_BUDGET_MANWON, WhatIfModel.budgetAt(0));
+        assertEquals(WhatIfModel.MAX_BUDGET_MANWON, WhatIfModel.budgetAt(WhatIfModel.BUDGET_STEPS));
+        assertEquals(3_000, WhatIfModel.budgetAt(WhatIfModel.stepOf(3_000)), 100);
+
+        long previous = 0;
+        for (int step = 0; step <= WhatIfModel.BUDGET_STEPS; step++) {
+            long budget = WhatIfModel.budgetAt(step);
+            assertTrue(budget >= previous);
+            previous = budget;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.ebusiness.ebiz.data;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * HistoryWindow 로컬 단위 테스트 (항목 ID = 목록 위치 + 1)
+ */
+public class HistoryWindowTest {
+    private static final int PAGE = 10;
+
+    private static List<HistoryItem> page(int fromPosition, int count) {
+        List<HistoryItem> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long id = fromPosition + i + 1;
+            items.add(new HistoryItem(id, "분석 " + id, "미정", id, 0, 0));
+        }
+        return items;
+    }
+
+    @Test
+    public void append_keepsAtMostMaxPagesAndLeavesPlaceholders() {
+        HistoryWindow window = new HistoryWindow(PAGE, 3);
+        for (int p = 0; p < 5; p++) {
+            window.append(page(p * PAGE, PAGE));
+        }
+
+        assertEquals(50, window.size());
+        assertEquals(20, window.windowStart());
+        assertEquals(50, window.windowEnd());
+        assertNull(window.get(5)); // 버린 페이지는 자리표시
+        assertEquals(21, window.get(20).id);
+        assertTrue(window.hasMoreAfter());
+        assertTrue(window.needsBefore(25, 5));
+    }
+
+    @Test
+    public void prepend_reloadsDroppedPagesAndTrimsTheEnd() {
+        HistoryWindow window = new HistoryWindow(PAGE, 3);
+        for (int p = 0; p < 5; p++) {
+            window.append(page(p * PAGE, PAGE));
+        }
+        window.append(page(50, 4)); // 마지막 페이지
+
+        assertEquals(24, window.windowStart());
+
+        window.prepend(page(14, PAGE));
+
+        assertEquals(54, window.size());
+        assertEquals(14, window.windowStart());
+        assertEquals(44, window.windowEnd());
+        assertEquals(15, window.get(14).id);
+        assertNull(window.get(50));
+        assertTrue(window.hasMoreAfter()); // 버린 뒤쪽 페이지는 다시 불러옴
+        assertTrue(window.hasMoreBefore());
+    }
+
+    @Test
+    public void shortPageAtBeginning_realignsPositions() {
+        HistoryWindow window = new HistoryWindow(PAGE, 2);
+        for (int p = 0; p < 3; p++) {
+            window.append(page(p * PAGE, PAGE));
+        }
+        assertEquals(10, window.windowStart());
+        List<int[]> removed = new ArrayList<>();
+        window.setListener(new HistoryWindow.Listener() {
+            @Override
+            public void onChanged(int position, int count) {}
+
+            @Override
+            public void onInserted(int position, int count) {}
+
+            @Override
+            public void onRemoved(int position, int count) {
+                removed.add(new int[]{position, count});
+            }
+        });
+
+        // 그 사이 앞쪽 항목 4건이 삭제됨
+        window.prepend(page(0, 6));
+
+        assertEquals(0, window.windowStart());
+        assertEquals(26, window.size());
+        assertEquals(1, window.get(0).id);
+        assertEquals(1, removed.size());
+        assertArrayEquals(new int[]{0, 4}, removed.get(0));
+        assertFalse(window.hasMoreBefore());
+    }
+}
@@ -0,0 +1,147 @@
+package com.ebusiness.ebiz.data;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.analysis.RiskScorer;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReanalysisRunner 로컬 단위 테스트 (메모리 저장소 사용)
+ */
+public class ReanalysisRunnerTest {
+
+    private static final ReanalysisRunner.Analyzer DOUBLE_SCORE = record -> {
+        AnalysisResult result = new AnalysisResult();
+        result.overallRiskScore = record.result.overallRiskScore * 2;
+        RiskScorer.markLocal(result);
+        return result;
+    };
+
+    @Test
+    public void run_rescoresAllRecordsInBatchesAndClearsCheckpoint() {
+        MemoryStore store = new MemoryStore(7);
+        MemoryCheckpoint checkpoint = new MemoryCheckpoint();
+
+        ReanalysisRunner.Outcome outcome = new ReanalysisRunner(store, checkpoint, DOUBLE_SCORE, 3)
+                .run(() -> false);
+
+        assertTrue(outcome.completed);
+        assertEquals(7, outcome.processed);
+        assertEquals(3, store.updateBatches); // 3 + 3 + 1
+        assertEquals(14.0, store.records.get(7L).result.overallRiskScore, 1e-9);
+        assertEquals(0, checkpoint.lastId);
+    }
+
+    @Test
+    public void stoppedRun_resumesAfterCheckpoint() {
+        MemoryStore store = new MemoryStore(5);
+        MemoryCheckpoint checkpoint = new MemoryCheckpoint();
+        int[] analyzed = {0};
+        ReanalysisRunner.Analyzer counting = record -> {
+            analyzed[0]++;
+            return DOUBLE_SCORE.analyze(record);
+        };
+
+        // 두 번째 레코드를 계산한 뒤 중단 요청
+        ReanalysisRunner.Outcome first = new ReanalysisRunner(store, checkpoint, counting, 4)
+                .run(() -> analyzed[0] >= 2);
+
+        assertFalse(first.completed);
+        assertEquals(2, first.processed);
+        assertEquals(2, checkpoint.lastId);
+        assertEquals(4.0, store.records.get(2L).result.overallRiskScore, 1e-9);
+        assertEquals(3.0, store.records.get(3L).result.overallRiskScore, 1e-9);
+
+        ReanalysisRunner.Outcome second = new ReanalysisRunner(store, checkpoint, counting, 4)
+                .run(() -> false);
+
+        assertTrue(second.completed);
+        assertEquals(3, second.processed);
+        assertEquals(5, analyzed[0]); // 이미 처리한 레코드는 다시 계산하지 않음
+        assertEquals(2.0, store.records.get(1L).result.overallRiskScore, 1e-9);
+        assertEquals(10.0, store.records.get(5L).result.overallRiskScore, 1e-9);
+    }
+
+    @Test
+    public void run_keepsBackendAndUpToDateResults() {
+        MemoryStore store = new MemoryStore(4);
+        store.records.get(1L).result.source = AnalysisResult.SOURCE_BACKEND;
+        store.records.get(2L).result.source = null; // 출처를 알 수 없는 이전 행
+        RiskScorer.markLocal(store.records.get(3L).result);
+
+        ReanalysisRunner.Outcome outcome = new ReanalysisRunner(store, new MemoryCheckpoint(), DOUBLE_SCORE, 10)
+                .run(() -> false);
+
+        assertTrue(outcome.completed);
+        assertEquals(1.0, store.records.get(1L).result.overallRiskScore, 1e-9);
+        assertEquals(2.0, store.records.get(2L).result.overallRiskScore, 1e-9);
+        assertEquals(3.0, store.records.get(3L).result.overallRiskScore, 1e-9);
+        assertEquals(8.0, store.records.get(4L).result.overallRiskScore, 1e-9);
+        assertEquals(RiskScorer.ENGINE_VERSION, store.records.get(4L).result.engineVersion);
+        assertFalse(RiskScorer.isStale(store.records.get(4L).result));
+    }
+
+    private static final class MemoryStore implements ReanalysisRunner.Store {
+        final TreeMap<Long, AnalysisRecord> records = new TreeMap<>();
+        int updateBatches = 0;
+
+        MemoryStore(int count) {
+            for (long id = 1; id <= count; id++) {
+                AnalysisRecord record = new AnalysisRecord();
+                record.id = id;
+                record.result = new AnalysisResult();
+                record.result.overallRiskScore = id;
+                record.result.source = AnalysisResult.SOURCE_LOCAL; // 이전 엔진 버전(0)의 로컬 결과
+                records.put(id, record);
+            }
+        }
+
+        // 걸러내지 않고 모두 반환 (Runner의 대상 확인을 검증하기 위함)
+        @Override
+        public List<AnalysisRecord> loadStaleBatchAfter(long afterId, int limit) {
+            List<AnalysisRecord> batch = new ArrayList<>();
+            for (AnalysisRecord stored : records.tailMap(afterId, false).values()) {
+                if (batch.size() == limit) {
+                    break;
+                }
+                AnalysisRecord copy = new AnalysisRecord();
+                copy.id = stored.id;
+                copy.result = stored.result;
+                batch.add(copy);
+            }
+            return batch;
+        }
+
+        @Override
+        public void updateScores(List<AnalysisRecord> updated) {
+            updateBatches++;
+            for (AnalysisRecord record : updated) {
+                records.get(record.id).result = record.result;
+            }
+        }
+    }
+
+    private static final class MemoryCheckpoint implements ReanalysisRunner.Checkpoint {
+        long lastId = 0;
+
+        @Override
+        public long load() {
+            return lastId;
+        }
+
+        @Override
+        public void save(long lastId) {
+            this.lastId = lastId;
+        }
+
+        @Override
+        public void clear() {
+            lastId = 0;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ebusiness.ebiz.data;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.analysis.ProjectInput;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReportCache 로컬 단위 테스트 (임시 디렉터리와 가짜 시계 사용)
+ */
+public class ReportCacheTest {
+    private static final long TTL = 60_000;
+
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    private File directory;
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+    @Before
+    public void setUp() throws Exception {
+        directory = temp.newFolder("report-cache-test");
+    }
+
+    private ReportCache newCache(int memoryEntries, long maxDiskBytes) {
+        return new ReportCache(directory, memoryEntries, maxDiskBytes, TTL, now::get);
+    }
+
+    private static AnalysisResult result(double score) {
+        AnalysisResult result = new AnalysisResult();
+        result.overallRiskScore = score;
+        result.executiveSummary = "요약 " + score;
+        return result;
+    }
+
+    @Test
+    public void keyIgnoresAnswerOrderAndSurroundingWhitespace() {
+        Map<String, String> first = new LinkedHashMap<>();
+        first.put("q1", "초기 자본 3000만원");
+        first.put("q2", "6개월");
+        Map<String, String> second = new LinkedHashMap<>();
+        second.put("q2", " 6개월 ");
+        second.put("q1", "초기 자본 3000만원");
+
+        String key = ReportCache.keyOf(new ProjectInput("헬스케어 앱", "설명", 3000, first));
+        assertEquals(key, ReportCache.keyOf(new ProjectInput(" 헬스케어 앱", "설명", 3000, second)));
+        assertNotEquals(key, ReportCache.keyOf(new ProjectInput("헬스케어 앱", "설명", 3001, first)));
+        assertNotEquals(ReportCache.keyOf(new ProjectInput("ab", "c", 1, new HashMap<>())),
+                ReportCache.keyOf(new ProjectInput("a", "bc", 1, new HashMap<>())));
+    }
+
+    @Test
+    public void storedResultIsServedFromMemoryThenDisk() {
+        newCache(4, 1 << 20).put("k1", result(42));
+
+        ReportCache reopened = newCache(4, 1 << 20);
+        assertNull(reopened.getFromMemory("k1"));
+        assertEquals(42, reopened.get("k1").overallRiskScore, 1e-9);
+        assertEquals("요약 42.0", reopened.getFromMemory("k1").executiveSummary);
+    }
+
+    @Test
+    public void expiredEntriesAreDropped() {
+        ReportCache cache = newCache(4, 1 << 20);
+        cache.put("k1", result(10));
+
+        now.addAndGet(TTL + 1);
+        assertNull(cache.getFromMemory("k1"));
+        assertNull(cache.get("k1"));
+        assertFalse(new File(directory, "k1.json").exists());
+    }
+
+    @Test
+    public void memoryAndDiskStayWithinBounds() {
+        ReportCache probe = newCache(2, Long.MAX_VALUE);
+        probe.put("probe", result(0));
+        long entryBytes = probe.diskBytes();
+        probe.remove("probe");
+
+        ReportCache cache = newCache(2, entryBytes * 3);
+        for (int i = 0; i < 5; i++) {
+            now.addAndGet(1_000);
+            cache.put("k" + i, result(i));
+        }
+
+        assertEquals(2, cache.memorySize());
+        assertTrue(cache.diskBytes() <= entryBytes * 3);
+        // 가장 오래된 항목부터 제거
+        assertNull(newCache(2, entryBytes * 3).get("k0"));
+        assertNotNull(newCache(2, entryBytes * 3).get("k4"));
+    }
+}
@@ -0,0 +1,133 @@
+package com.ebusiness.ebiz.export;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.data.AnalysisRecord;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.Assert.*;
+
+/**
+ * ReportExporter 로컬 단위 테스트 (CSV/PDF 출력 형식, 페이지 단위 조회, 취소)
+ */
+public class ReportExporterTest {
+
+    @Test
+    public void csv_writesBomHeaderAndEscapesFields() throws IOException {
+        AnalysisRecord record = record(1);
+        record.title = "쇼핑몰, \"2차\" 개편";
+        record.result.aiRecommendations = new String[]{"일정 재검토", "예산 확보"};
+
+        String csv = export(ReportExporter.singleSource(record), ReportExporter.Format.CSV)
+                .toString(StandardCharsets.UTF_8.name());
+
+        assertTrue(csv.startsWith("\uFEFFid,제목,"));
+        String[] rows = csv.split("\r\n");
+        assertEquals(2, rows.length);
+        assertTrue(rows[1].startsWith("1,\"쇼핑몰, \"\"2차\"\" 개편\","));
+        assertTrue(rows[1].contains("일정 재검토"));
+    }
+
+    @Test
+    public void pdf_hasValidStructureAndSplitsPages() throws IOException {
+        MemorySource source = new MemorySource(120);
+
+        byte[] pdf = export(source, ReportExporter.Format.PDF).toByteArray();
+        String text = new String(pdf, StandardCharsets.ISO_8859_1);
+
+        assertTrue(text.startsWith("%PDF-1.4"));
+        assertTrue(text.endsWith("%%EOF\n"));
+        assertEquals(3, source.pageLoads); // 50 + 50 + 20
+
+        // startxref가 xref 표를 가리키고, 각 항목이 해당 객체 시작 위치를 가리키는지 확인
+        Matcher startXref = Pattern.compile("startxref\n(\\d+)\n").matcher(text);
+        assertTrue(startXref.find());
+        int xrefOffset = Integer.parseInt(startXref.group(1));
+        assertTrue(text.startsWith("xref\n", xrefOffset));
+        Matcher entry = Pattern.compile("(\\d{10}) 00000 n \n").matcher(text);
+        entry.region(xrefOffset, text.length());
+        int id = 1;
+        while (entry.find()) {
+            int offset = Integer.parseInt(entry.group(1));
+            assertTrue("object " + id, text.startsWith(id + " 0 obj\n", offset));
+            id++;
+        }
+
+        Matcher count = Pattern.compile("/Type /Pages /Count (\\d+)").matcher(text);
+        assertTrue(count.find());
+        assertTrue(Integer.parseInt(count.group(1)) > 1);
+    }
+
+    @Test
+    public void cancel_stopsBetweenRecordsAndSkipsTrailer() throws IOException {
+        MemorySource source = new MemorySource(200);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int[] progress = {0};
+
+        int written = new ReportExporter().export(source, ReportExporter.Format.PDF, out,
+                (done, total) -> progress[0] = done, () -> progress[0] >= 60);
+
+        assertEquals(60, written);
+        assertEquals(2, source.pageLoads);
+        assertFalse(out.toString(StandardCharsets.ISO_8859_1.name()).contains("%%EOF"));
+    }
+
+    private static ByteArrayOutputStream export(ReportExporter.Source source, ReportExporter.Format format)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new ReportExporter().export(source, format, out, (done, total) -> { }, () -> false);
+        return out;
+    }
+
+    private static AnalysisRecord record(long id) {
+        AnalysisRecord record = new AnalysisRecord();
+        record.id = id;
+        record.title = "프로젝트 " + id;
+        record.budget = "3000만원";
+        record.createdAt = 1_700_000_000_000L + id;
+        record.result = new AnalysisResult();
+        record.result.overallRiskScore = 55;
+        record.result.rpn = 120;
+        record.result.executiveSummary = "일정 지연 가능성이 높은 프로젝트로, 외부 협력사 의존도가 커서 "
+                + "초기 단계에서 범위를 명확히 하고 주간 점검 체계를 갖추는 것이 필요합니다.";
+        record.result.aiRecommendations = new String[]{"요구사항 동결", "협력사 계약 검토", "주간 점검"};
+        return record;
+    }
+
+    private static final class MemorySource implements ReportExporter.Source {
+        private final List<AnalysisRecord> records = new ArrayList<>();
+        int pageLoads = 0;
+
+        MemorySource(int count) {
+            for (long id = 1; id <= count; id++) {
+                records.add(record(id));
+            }
+        }
+
+        @Override
+        public long count() {
+            return records.size();
+        }
+
+        @Override
+        public List<AnalysisRecord> loadBatchAfter(long afterId, int limit) {
+            List<AnalysisRecord> page = new ArrayList<>();
+            for (AnalysisRecord record : records) {
+                if (record.id > afterId && page.size() < limit) {
+                    page.add(record);
+                }
+            }
+            if (!page.isEmpty()) {
+                pageLoads++;
+            }
+            return page;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.ebusiness.ebiz.form;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * FormValidator 로컬 단위 테스트
+ */
+public class FormValidatorTest {
+
+    @Test
+    public void tracksMissingCountIncrementally() {
+        FormValidator validator = new FormValidator(3);
+        assertEquals(3, validator.missingCount());
+
+        assertFalse(validator.update(0, "제목"));
+        assertFalse(validator.update(1, "설명"));
+        assertFalse(validator.update(1, "설명 추가")); // 이미 입력된 필드는 변화 없음
+        assertEquals(1, validator.missingCount());
+
+        assertTrue(validator.update(2, "1500"));
+        assertTrue(validator.isValid());
+
+        assertTrue(validator.update(0, "   "));
+        assertEquals(0, validator.firstMissing());
+    }
+
+    @Test
+    public void optionalFieldDoesNotBlockForm() {
+        FormValidator validator = new FormValidator(2);
+        validator.update(0, "제목");
+
+        assertTrue(validator.setRequired(1, false));
+        assertTrue(validator.isValid());
+        assertEquals(-1, validator.firstMissing());
+
+        assertTrue(validator.setRequired(1, true));
+        assertEquals(1, validator.firstMissing());
+    }
+
+    @Test
+    public void whitespaceIsNotContent() {
+        assertFalse(FormValidator.hasContent(null));
+        assertFalse(FormValidator.hasContent(" \n\t"));
+        assertTrue(FormValidator.hasContent("  a "));
+    }
+}
@@ -0,0 +1,86 @@
+package com.ebusiness.ebiz.metrics;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.*;
+
+/**
+ * Histogram / MetricsRegistry 로컬 단위 테스트
+ */
+public class HistogramTest {
+
+    @Test
+    public void bucketUpperBoundCoversEveryValueWithinQuarterError() {
+        long[] values = {0, 1, 3, 4, 5, 7, 8, 9, 15, 16, 1000, 123_456_789L, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = Histogram.bucketIndex(value);
+            assertTrue(index < Histogram.BUCKET_COUNT);
+            long upper = Histogram.bucketUpperBound(index);
+            assertTrue("upper bound below value " + value, upper >= value);
+            assertTrue("bucket too wide for " + value, upper - value <= Math.max(0, value / 4));
+        }
+    }
+
+    @Test
+    public void snapshotReportsCountMinMaxAndPercentiles() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count);
+        assertEquals(1, snapshot.min);
+        assertEquals(1000, snapshot.max);
+        assertEquals(500.5, snapshot.mean(), 1e-9);
+        assertEquals(500, snapshot.p50, 500 / 4.0);
+        assertEquals(900, snapshot.p90, 900 / 4.0);
+        assertTrue(snapshot.p99 >= 990 && snapshot.p99 <= 1000);
+    }
+
+    @Test
+    public void emptyHistogramSnapshotIsZero() {
+        Histogram.Snapshot snapshot = new Histogram().snapshot();
+        assertEquals(0, snapshot.count);
+        assertEquals(0, snapshot.max);
+        assertEquals(0, snapshot.mean(), 0);
+    }
+
+    @Test
+    public void concurrentRecordingLosesNothing() throws Exception {
+        MetricsRegistry registry = new MetricsRegistry();
+        int threads = 4;
+        int perThread = 20_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perThread; i++) {
+                    registry.counter("calls").increment();
+                    registry.timer("latency").recordNanos(i);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        MetricsSnapshot snapshot = registry.snapshot();
+        assertEquals(Long.valueOf(threads * perThread), snapshot.counters.get("calls"));
+        assertEquals(threads * perThread, snapshot.timers.get("latency").count);
+        assertEquals(perThread - 1, snapshot.timers.get("latency").max);
+        assertTrue(snapshot.toText().contains("latency"));
+    }
+}
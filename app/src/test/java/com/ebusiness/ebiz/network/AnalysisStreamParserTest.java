@@ -0,0 +1,133 @@
+package com.ebusiness.ebiz.network;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * AnalysisStreamParser 로컬 단위 테스트
+ */
+public class AnalysisStreamParserTest {
+    private final AnalysisStreamParser parser = new AnalysisStreamParser();
+
+    @Test
+    public void singleObject_emitsEventsInArrivalOrder() throws Exception {
+        String json = "{\"overall_risk_score\":42.5,\"severity\":5,\"occurrence\":6,\"detection\":7," +
+                "\"total_expected_loss\":45000000,\"time_cost\":13500000," +
+                "\"executive_summary\":\"요약\",\"ai_recommendations\":[\"1단계\",\"2단계\"]," +
+                "\"unknown\":{\"nested\":[1,2]}}";
+        RecordingListener listener = new RecordingListener();
+
+        AnalysisResult result = parser.parse(new StringReader(json), listener);
+
+        assertEquals("score:42.5", listener.events.get(0));
+        assertEquals("factors:5,6,7", listener.events.get(3));
+        assertEquals("loss:45000000,13500000", listener.events.get(5));
+        assertEquals("rec:1:2단계", listener.events.get(8));
+        assertEquals("complete", listener.events.get(9));
+        assertEquals(13_500_000L, result.timeCost);
+        assertArrayEquals(new String[]{"1단계", "2단계"}, result.aiRecommendations);
+    }
+
+    @Test
+    public void ndjsonChunks_accumulateIntoOneResult() throws Exception {
+        String stream = "{\"overall_risk_score\":30}\n" +
+                "{\"severity\":3,\"occurrence\":4}\n" +
+                "{\"ai_recommendations\":[\"1단계\"]}\n" +
+                "{\"ai_recommendations\":\"2단계\",\"detection\":null}\n";
+        RecordingListener listener = new RecordingListener();
+
+        AnalysisResult result = parser.parse(new StringReader(stream), listener);
+
+        assertEquals(30.0, result.overallRiskScore, 1e-9);
+        assertEquals(4, result.occurrence);
+        assertEquals(0, result.detection);
+        assertTrue(listener.events.contains("rec:1:2단계"));
+        assertEquals(2, result.aiRecommendations.length);
+    }
+
+    @Test
+    public void firstEventArrivesBeforeStreamIsFullyRead() throws Exception {
+        StringBuilder json = new StringBuilder("{\"overall_risk_score\":50,\"executive_summary\":\"");
+        for (int i = 0; i < 100_000; i++) {
+            json.append('가');
+        }
+        json.append("\"}");
+        CountingReader reader = new CountingReader(new StringReader(json.toString()));
+        long[] consumedAtFirstEvent = {-1};
+
+        parser.parse(reader, new RecordingListener() {
+            @Override
+            public void onRiskScore(double overallRiskScore) {
+                consumedAtFirstEvent[0] = reader.consumed;
+            }
+        });
+
+        assertTrue(consumedAtFirstEvent[0] > 0);
+        assertTrue(consumedAtFirstEvent[0] < json.length() / 2);
+    }
+
+    private static class RecordingListener implements AnalysisStreamParser.Listener {
+        final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onRiskScore(double overallRiskScore) {
+            events.add("score:" + overallRiskScore);
+        }
+
+        @Override
+        public void onFactors(int severity, int occurrence, int detection) {
+            events.add("factors:" + severity + "," + occurrence + "," + detection);
+        }
+
+        @Override
+        public void onLoss(long total, long timeCost, long directInvestment, long personnelCost) {
+            events.add("loss:" + total + "," + timeCost);
+        }
+
+        @Override
+        public void onSummary(String executiveSummary) {
+            events.add("summary");
+        }
+
+        @Override
+        public void onRecommendation(int index, String recommendation) {
+            events.add("rec:" + index + ":" + recommendation);
+        }
+
+        @Override
+        public void onComplete(AnalysisResult result) {
+            events.add("complete");
+        }
+    }
+
+    private static class CountingReader extends Reader {
+        private final Reader delegate;
+        long consumed;
+
+        CountingReader(Reader delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int read = delegate.read(buffer, offset, Math.min(length, 1024));
+            if (read > 0) {
+                consumed += read;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ebusiness.ebiz.network;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import retrofit2.Response;
+
+import static org.junit.Assert.*;
+
+/**
+ * ApiClient 로컬 단위 테스트 (MockWebServer를 분석 백엔드 대신 사용)
+ */
+public class ApiClientTest {
+    @Rule
+    public final TemporaryFolder temp = new TemporaryFolder();
+
+    private MockWebServer server;
+    private ApiClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+
+        File cacheRoot = temp.newFolder("api-client-test");
+        ApiConfig config = ApiConfig.builder(server.url("/api/v1").toString())
+                .readTimeoutMs(2_000)
+                .build();
+        client = new ApiClient(config, cacheRoot);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        client.shutdown();
+        server.shutdown();
+    }
+
+    @Test
+    public void generateQuestions_postsProjectAndParsesQuestions() throws Exception {
+        server.enqueue(new MockResponse().setBody(
+                "{\"session_id\":\"s-1\",\"questions\":[" +
+                "{\"question_id\":\"q1\",\"method\":\"Logic Model\",\"question_text\":\"초기 자본은?\"}]}"));
+
+        Response<QuestionsResponse> response = client.getAnalysisApi()
+                .generateQuestions(new ProjectRequest("헬스케어 앱", "설명", "3000만원"))
+                .execute();
+
+        assertTrue(response.isSuccessful());
+        assertEquals("s-1", response.body().sessionId);
+        assertEquals("q1", response.body().questions.get(0).questionId);
+        assertEquals("초기 자본은?", response.body().questions.get(0).questionText);
+
+        RecordedRequest request = server.takeRequest();
+        assertEquals("/api/v1/questions", request.getPath());
+        assertTrue(request.getBody().readUtf8().contains("\"title\":\"헬스케어 앱\""));
+    }
+
+    @Test
+    public void gzipResponseIsDecodedTransparently() throws Exception {
+        String json = "{\"overall_risk_score\":42.5,\"severity\":5,\"occurrence\":6,\"detection\":7," +
+                "\"total_expected_loss\":45000000}";
+        server.enqueue(new MockResponse()
+                .addHeader("Content-Encoding", "gzip")
+                .setBody(new Buffer().write(gzip(json))));
+
+        Response<AnalysisResult> response = client.getAnalysisApi().getAnalysisResult("s-1").execute();
+
+        assertEquals("gzip", server.takeRequest().getHeader("Accept-Encoding"));
+        assertEquals(42.5, response.body().overallRiskScore, 1e-9);
+        assertEquals(45_000_000L, response.body().totalExpectedLoss);
+    }
+
+    @Test
+    public void cacheableResultIsServedFromDiskCache() throws Exception {
+        server.enqueue(new MockResponse()
+                .addHeader("Cache-Control", "max-age=60")
+                .setBody("{\"severity\":5}"));
+
+        Response<AnalysisResult> first = client.getAnalysisApi().getAnalysisResult("s-1").execute();
+        Response<AnalysisResult> second = client.getAnalysisApi().getAnalysisResult("s-1").execute();
+
+        assertEquals(5, first.body().severity);
+        assertEquals(5, second.body().severity);
+        assertEquals(1, server.getRequestCount());
+        assertNotNull(second.raw().cacheResponse());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyBaseUrlIsRejected() {
+        ApiConfig.builder("");
+    }
+
+    private static byte[] gzip(String text) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
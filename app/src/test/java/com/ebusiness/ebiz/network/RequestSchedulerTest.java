@@ -0,0 +1,231 @@
+package com.ebusiness.ebiz.network;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import retrofit2.Call;
+import retrofit2.Response;
+
+import static org.junit.Assert.*;
+
+/**
+ * RequestScheduler 로컬 단위 테스트 (MockWebServer를 분석 백엔드 대신 사용)
+ */
+public class RequestSchedulerTest {
+    private static final String QUESTIONS_JSON =
+            "{\"session_id\":\"s-1\",\"questions\":[{\"question_id\":\"q1\",\"question_text\":\"초기 자본은?\"}]}";
+
+    private MockWebServer server;
+    private ApiClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (client != null) {
+            client.shutdown();
+        }
+        server.shutdown();
+    }
+
+    private RequestScheduler createScheduler(ApiConfig.Builder builder) {
+        client = new ApiClient(builder.readTimeoutMs(2_000).retryDelayMs(10, 50).build(), null);
+        return client.getScheduler();
+    }
+
+    private ApiConfig.Builder config() {
+        return ApiConfig.builder(server.url("/api/v1").toString());
+    }
+
+    private Call<QuestionsResponse> questionsCall() {
+        return client.getAnalysisApi().generateQuestions(new ProjectRequest("헬스케어 앱", "설명", "3000만원"));
+    }
+
+    @Test
+    public void serverErrors_areRetriedUntilSuccess() throws Exception {
+        RequestScheduler scheduler = createScheduler(config().maxAttempts(3));
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setBody(QUESTIONS_JSON));
+
+        Response<QuestionsResponse> response = scheduler.execute(null, questionsCall());
+
+        assertTrue(response.isSuccessful());
+        assertEquals("s-1", response.body().sessionId);
+        assertEquals(3, server.getRequestCount());
+    }
+
+    @Test
+    public void lastErrorResponse_isReturnedAfterMaxAttempts() throws Exception {
+        RequestScheduler scheduler = createScheduler(config().maxAttempts(2));
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(502));
+
+        Response<QuestionsResponse> response = scheduler.execute(null, questionsCall());
+
+        assertEquals(502, response.code());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void clientErrors_areNotRetried() throws Exception {
+        RequestScheduler scheduler = createScheduler(config().maxAttempts(3));
+        server.enqueue(new MockResponse().setResponseCode(400));
+
+        Response<QuestionsResponse> response = scheduler.execute(null, questionsCall());
+
+        assertEquals(400, response.code());
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void fullQueue_failsFastWithoutSending() throws Exception {
+        RequestScheduler scheduler = createScheduler(config().maxConcurrentRequests(1).requestQueueCapacity(1));
+        server.enqueue(new MockResponse().setBody(QUESTIONS_JSON).setHeadersDelay(500, TimeUnit.MILLISECONDS));
+        server.enqueue(new MockResponse().setBody(QUESTIONS_JSON));
+
+        CompletableFuture<Response<QuestionsResponse>> running = scheduler.enqueue(null, questionsCall());
+        CompletableFuture<Response<QuestionsResponse>> queued = scheduler.enqueue(null, questionsCall());
+        CompletableFuture<Response<QuestionsResponse>> rejected = scheduler.enqueue(null, questionsCall());
+
+        assertTrue(rejected.isCompletedExceptionally());
+        try {
+            rejected.get();
+            fail("Expected rejection");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RequestRejectedException);
+        }
+        assertTrue(running.get(2, TimeUnit.SECONDS).isSuccessful());
+        assertTrue(queued.get(2, TimeUnit.SECONDS).isSuccessful());
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void consecutiveFailures_openCircuit() throws Exception {
+        RequestScheduler scheduler = createScheduler(config().maxAttempts(1).circuitBreaker(2, 60_000));
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setResponseCode(503));
+
+        assertEquals(503, scheduler.execute(null, questionsCall()).code());
+        assertEquals(503, scheduler.execute(null, questionsCall()).code());
+        assertEquals(CircuitBreaker.State.OPEN, scheduler.getCircuitState());
+
+        try {
+            scheduler.execute(null, questionsCall());
+            fail("Expected circuit to reject");
+        } catch (RequestRejectedException expected) {
+            // 서버로 보내지 않고 바로 실패
+        }
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void identicalRequests_areCoalesced() throws Exception {
+        RequestScheduler scheduler = createScheduler(config());
+        server.enqueue(new MockResponse().setBody(QUESTIONS_JSON).setHeadersDelay(200, TimeUnit.MILLISECONDS));
+
+        CompletableFuture<Response<QuestionsResponse>> first = scheduler.enqueue("questions:a", questionsCall());
+        CompletableFuture<Response<QuestionsResponse>> second = scheduler.enqueue("questions:a", questionsCall());
+
+        assertEquals("s-1", first.get(2, TimeUnit.SECONDS).body().sessionId);
+        assertEquals("s-1", second.get(2, TimeUnit.SECONDS).body().sessionId);
+        assertEquals(1, server.getRequestCount());
+    }
+
+    @Test
+    public void cancellingOneCoalescedCaller_keepsRequestForOthers() throws Exception {
+        RequestScheduler scheduler = createScheduler(config());
+        server.enqueue(new MockResponse().setBody(QUESTIONS_JSON).setHeadersDelay(200, TimeUnit.MILLISECONDS));
+
+        CompletableFuture<Response<QuestionsResponse>> first = scheduler.enqueue("questions:a", questionsCall());
+        CompletableFuture<Response<QuestionsResponse>> second = scheduler.enqueue("questions:a", questionsCall());
+        first.cancel(true);
+
+        assertTrue(first.isCancelled());
+        assertTrue(second.get(2, TimeUnit.SECONDS).isSuccessful());
+    }
+
+    @Test
+    public void malformedBody_failsWithoutBlockingLaterRequests() throws Exception {
+        RequestScheduler scheduler = createScheduler(config());
+        server.enqueue(new MockResponse().setBody("{\"session_id\": [unterminated"));
+        server.enqueue(new MockResponse().setBody(QUESTIONS_JSON));
+
+        CompletableFuture<Response<QuestionsResponse>> malformed = scheduler.enqueue("questions:a", questionsCall());
+        try {
+            malformed.get(2, TimeUnit.SECONDS);
+            fail("Expected conversion failure");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IOException);
+            assertTrue(e.getCause().getCause() instanceof RuntimeException);
+        }
+
+        // 같은 key의 다음 요청은 끝난 작업에 묶이지 않고 새로 보냄
+        CompletableFuture<Response<QuestionsResponse>> next = scheduler.enqueue("questions:a", questionsCall());
+        assertEquals("s-1", next.get(2, TimeUnit.SECONDS).body().sessionId);
+        assertEquals(2, server.getRequestCount());
+    }
+
+    @Test
+    public void cancelledHalfOpenTrial_letsNextRequestThrough() throws Exception {
+        RequestScheduler scheduler = createScheduler(
+                config().maxAttempts(1).circuitBreaker(1, 50).maxConcurrentRequests(1)); // 취소 처리 후 다음 요청 실행
+        server.enqueue(new MockResponse().setResponseCode(503));
+        server.enqueue(new MockResponse().setBody(QUESTIONS_JSON).setHeadersDelay(1, TimeUnit.SECONDS));
+        server.enqueue(new MockResponse().setBody(QUESTIONS_JSON));
+
+        assertEquals(503, scheduler.execute(null, questionsCall()).code());
+        assertEquals(CircuitBreaker.State.OPEN, scheduler.getCircuitState());
+        Thread.sleep(80);
+
+        // 시험 요청이 서버에 도착한 뒤 취소 (화면 종료 등)
+        CompletableFuture<Response<QuestionsResponse>> trial = scheduler.enqueue(null, questionsCall());
+        server.takeRequest(2, TimeUnit.SECONDS);
+        server.takeRequest(2, TimeUnit.SECONDS);
+        trial.cancel(true);
+
+        assertTrue(scheduler.execute(null, questionsCall()).isSuccessful());
+        assertEquals(CircuitBreaker.State.CLOSED, scheduler.getCircuitState());
+    }
+
+    @Test
+    public void circuitBreaker_halfOpenTrialClosesOnSuccess() {
+        AtomicLong now = new AtomicLong();
+        CircuitBreaker breaker = new CircuitBreaker(1, 1_000, now::get);
+
+        breaker.onFailure();
+        assertFalse(breaker.allowRequest());
+
+        now.set(1_000);
+        assertTrue(breaker.allowRequest()); // 시험 요청 한 건만 허용
+        assertFalse(breaker.allowRequest());
+
+        breaker.onSuccess();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.allowRequest());
+    }
+
+    @Test
+    public void backoffDelay_growsExponentiallyWithinBounds() {
+        RequestScheduler scheduler = createScheduler(config());
+
+        for (int retry = 1; retry <= 10; retry++) {
+            long ceiling = Math.min(50, 10L << (retry - 1));
+            long delay = scheduler.backoffDelayMs(retry);
+            assertTrue(delay >= ceiling / 2 && delay <= ceiling);
+        }
+    }
+}
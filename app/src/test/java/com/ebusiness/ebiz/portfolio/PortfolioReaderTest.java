@@ -0,0 +1,89 @@
+package com.ebusiness.ebiz.portfolio;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.Assert.*;
+
+/**
+ * PortfolioReader(CSV/JSON) 로컬 단위 테스트
+ */
+public class PortfolioReaderTest {
+
+    @Test
+    public void csv_parsesQuotedFieldsAndAnswerColumns() throws Exception {
+        String csv = "\uFEFFtitle,description,budget,q1,q5\r\n" +
+                "헬스케어 앱,\"원격 진료, 예약\",3000만원,충분함,\"\"\"예\"\"\"\r\n" +
+                "\n" +
+                "\"여러 줄\n제목\",설명,미정,,\n";
+
+        try (PortfolioReader reader = PortfolioReader.open(new StringReader(csv))) {
+            PortfolioProject first = reader.next();
+            assertEquals(0, first.index);
+            assertEquals("헬스케어 앱", first.title);
+            assertEquals("원격 진료, 예약", first.description);
+            assertEquals(3000L, first.toInput().getBudgetManwon());
+            assertEquals("충분함", first.answers.get("q1"));
+            assertEquals("\"예\"", first.answers.get("q5"));
+
+            PortfolioProject second = reader.next();
+            assertEquals("여러 줄\n제목", second.title);
+            assertTrue(second.toInput().isBudgetUnknown());
+            assertTrue(second.answers.isEmpty());
+
+            assertNull(reader.next());
+            assertEquals(0, reader.getSkippedCount());
+        }
+    }
+
+    @Test
+    public void csv_rowsWithoutTitleAreSkipped() throws Exception {
+        String csv = "제목,예산\n,1000\n물류 플랫폼,1500";
+
+        try (PortfolioReader reader = PortfolioReader.open(new StringReader(csv))) {
+            assertEquals("물류 플랫폼", reader.next().title);
+            assertNull(reader.next());
+            assertEquals(1, reader.getSkippedCount());
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void csv_withoutTitleColumnFails() throws Exception {
+        try (PortfolioReader reader = PortfolioReader.open(new StringReader("name,budget\na,1\n"))) {
+            reader.next();
+        }
+    }
+
+    @Test
+    public void json_parsesArrayOfProjects() throws Exception {
+        String json = "  [{\"title\":\"A\",\"budget\":3000,\"answers\":{\"q1\":\"있음\",\"q2\":null}," +
+                "\"extra\":[1,2]}, 42, {\"description\":\"제목 없음\"}, {\"title\":\"B\"}]";
+
+        try (PortfolioReader reader = PortfolioReader.open(new StringReader(json))) {
+            PortfolioProject a = reader.next();
+            assertEquals("A", a.title);
+            assertEquals(3000L, a.toInput().getBudgetManwon());
+            assertEquals(1, a.answers.size());
+
+            PortfolioProject b = reader.next();
+            assertEquals("B", b.title);
+            assertEquals(1, b.index);
+
+            assertNull(reader.next());
+            assertEquals(2, reader.getSkippedCount());
+        }
+    }
+
+    @Test
+    public void json_parsesNdjson() throws Exception {
+        String ndjson = "{\"title\":\"A\"}\n{\"title\":\"B\"}\n";
+
+        try (PortfolioReader reader = PortfolioReader.open(new StringReader(ndjson))) {
+            assertEquals("A", reader.next().title);
+            assertEquals("B", reader.next().title);
+            assertNull(reader.next());
+        }
+    }
+}
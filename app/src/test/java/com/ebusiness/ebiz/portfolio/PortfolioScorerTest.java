@@ -0,0 +1,88 @@
+package com.ebusiness.ebiz.portfolio;
+
+import com.ebusiness.ebiz.analysis.RiskScorer;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+/**
+ * PortfolioScorer 로컬 단위 테스트
+ */
+public class PortfolioScorerTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static String csv(int rows) {
+        StringBuilder csv = new StringBuilder("title,budget,q1,q5\n");
+        for (int i = 0; i < rows; i++) {
+            csv.append("프로젝트 ").append(i).append(',').append(100 * (i + 1)).append("만원,")
+                    .append(i % 2 == 0 ? "충분" : "부족").append(',').append(i % 3 == 0 ? "완료" : "미정").append('\n');
+        }
+        return csv.toString();
+    }
+
+    @Test
+    public void run_scoresEveryProjectLikeTheReportScreen() throws Exception {
+        RiskScorer riskScorer = new RiskScorer();
+        List<PortfolioEntry> entries = new CopyOnWriteArrayList<>();
+
+        PortfolioScorer.Summary summary = new PortfolioScorer(riskScorer, executor, 3)
+                .run(PortfolioReader.open(new StringReader(csv(12))), entries::add, () -> false);
+
+        assertEquals(12, summary.scored);
+        assertEquals(0, summary.failed);
+        assertFalse(summary.cancelled);
+        assertEquals(12, entries.size());
+
+        PortfolioProject fifth;
+        try (PortfolioReader reader = PortfolioReader.open(new StringReader(csv(12)))) {
+            for (int i = 0; i < 4; i++) {
+                reader.next();
+            }
+            fifth = reader.next();
+        }
+        double expected = riskScorer.score(fifth.toInput()).overallRiskScore;
+        for (PortfolioEntry entry : entries) {
+            if (entry.index == 4) {
+                assertEquals(expected, entry.overallRiskScore, 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void run_stopsReadingWhenCancelled() throws Exception {
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        List<PortfolioEntry> entries = new CopyOnWriteArrayList<>();
+
+        PortfolioScorer.Summary summary = new PortfolioScorer(new RiskScorer(), executor, 1)
+                .run(PortfolioReader.open(new StringReader(csv(50))), entry -> {
+                    entries.add(entry);
+                    cancelled.set(true);
+                }, cancelled::get);
+
+        assertTrue(summary.cancelled);
+        assertEquals(1, entries.size());
+    }
+
+    @Test
+    public void ranking_ordersByScoreThenLoss() {
+        PortfolioEntry low = new PortfolioEntry(0, "a", "", 20, 0, 100, 0);
+        PortfolioEntry highSmallLoss = new PortfolioEntry(1, "b", "", 80, 0, 100, 0);
+        PortfolioEntry highBigLoss = new PortfolioEntry(2, "c", "", 80, 0, 900, 0);
+
+        assertTrue(PortfolioEntry.RANKING.compare(highBigLoss, highSmallLoss) < 0);
+        assertTrue(PortfolioEntry.RANKING.compare(highSmallLoss, low) < 0);
+    }
+}
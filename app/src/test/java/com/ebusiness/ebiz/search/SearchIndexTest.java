@@ -0,0 +1,120 @@
+package com.ebusiness.ebiz.search;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * KoreanTokenizer / SearchIndex 로컬 단위 테스트
+ */
+public class SearchIndexTest {
+
+    @Test
+    public void tokenizer_splitsHangulIntoBigramsAndLowercasesWords() {
+        KoreanTokenizer tokenizer = new KoreanTokenizer();
+
+        List<String> document = new ArrayList<>();
+        tokenizer.tokenizeDocument("앱을 개발, AI 3단계", document::add);
+
+        assertEquals(Arrays.asList("앱", "앱을", "을", "개", "개발", "발", "ai", "3", "단", "단계", "계"), document);
+        assertEquals(Arrays.asList("앱을", "개발", "ai"), tokenizer.tokenizeQuery("앱을 개발 앱을 AI"));
+        assertEquals(Arrays.asList("앱"), tokenizer.tokenizeQuery("앱"));
+    }
+
+    @Test
+    public void search_matchesWordsInsideInflectedKorean() {
+        SearchIndex index = new SearchIndex();
+        index.add(1, "온라인 교육 플랫폼", "강의 영상을 제작하고 결제 시스템을 연동합니다");
+        index.add(2, "카페 창업", "원두 공급업체와 계약하고 인테리어 공사를 진행합니다");
+
+        assertIds(index.search("결제 시스템", 10), 1);
+        assertIds(index.search("공사", 10), 2);
+        assertIds(index.search("앱", 10));
+        assertIds(index.search("원두 결제", 10)); // 모든 토큰을 포함해야 함
+    }
+
+    @Test
+    public void search_ranksTitleAndRepeatedTermsHigher() {
+        SearchIndex index = new SearchIndex();
+        index.add(1, "사내 메신저", "보안 점검 일정");
+        index.add(2, "보안 솔루션 도입", "보안 인증과 보안 감사 대응");
+        index.add(3, "물류 관리", "창고 보안 카메라 설치");
+
+        List<SearchIndex.Hit> hits = index.search("보안", 10);
+
+        assertEquals(3, hits.size());
+        assertEquals(2, hits.get(0).id);
+        assertTrue(hits.get(0).score > hits.get(1).score);
+    }
+
+    @Test
+    public void addAndRemove_updateIndexIncrementally() {
+        SearchIndex index = new SearchIndex();
+        index.add(1, "배달 앱", "주문 관리");
+        index.add(2, "배달 대행", "기사 배차");
+
+        index.add(1, "예약 앱", "주문 관리"); // 같은 ID는 교체
+        assertIds(index.search("배달", 10), 2);
+        assertIds(index.search("예약", 10), 1);
+
+        assertTrue(index.remove(2));
+        assertFalse(index.remove(2));
+        assertIds(index.search("배달", 10));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void compaction_keepsRemainingDocumentsSearchable() {
+        SearchIndex index = new SearchIndex();
+        for (long id = 1; id <= 300; id++) {
+            index.add(id, "프로젝트 " + id, id % 2 == 0 ? "짝수 번호 위험 분석" : "홀수 번호 위험 분석");
+        }
+        for (long id = 2; id <= 300; id += 2) {
+            index.remove(id);
+        }
+
+        assertEquals(150, index.size());
+        assertEquals(150, index.search("위험 분석", 1000).size());
+        assertIds(index.search("짝수", 10));
+        assertTrue(index.contains(299));
+    }
+
+    @Test
+    public void search_overTenThousandDocumentsIsFast() {
+        String[] words = {
+                "온라인", "플랫폼", "결제", "시스템", "물류", "창고", "보안", "인증", "교육", "콘텐츠",
+                "마케팅", "광고", "예산", "일정", "지연", "협력사", "계약", "개발", "운영", "고객"
+        };
+        Random random = new Random(42);
+        SearchIndex index = new SearchIndex();
+        StringBuilder body = new StringBuilder();
+        for (long id = 1; id <= 10_000; id++) {
+            body.setLength(0);
+            for (int w = 0; w < 60; w++) {
+                body.append(words[random.nextInt(words.length)]).append(w % 3 == 0 ? "을 " : "이 ");
+            }
+            index.add(id, words[random.nextInt(words.length)] + " 프로젝트", body);
+        }
+
+        index.search("결제 시스템", 20); // 워밍업
+        long startedAt = System.nanoTime();
+        List<SearchIndex.Hit> hits = index.search("결제 시스템 지연", 20);
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        assertEquals(20, hits.size());
+        assertTrue("search took " + elapsedMs + "ms", elapsedMs < 100);
+    }
+
+    private static void assertIds(List<SearchIndex.Hit> hits, long... expected) {
+        long[] actual = new long[hits.size()];
+        for (int i = 0; i < actual.length; i++) {
+            actual[i] = hits.get(i).id;
+        }
+        assertArrayEquals(expected, actual);
+    }
+}
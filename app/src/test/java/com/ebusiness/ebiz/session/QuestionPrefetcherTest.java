@@ -0,0 +1,99 @@
+package com.ebusiness.ebiz.session;
+
+import com.ebusiness.ebiz.analysis.Question;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * QuestionPrefetcher 로컬 단위 테스트
+ */
+public class QuestionPrefetcherTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private QuestionPrefetcher.Result result(String sessionId) {
+        return new QuestionPrefetcher.Result(
+                Collections.singletonList(new Question("q1", "Logic Model", "초기 자본은?")), sessionId);
+    }
+
+    @Test
+    public void sameInputIsRequestedOnceAndTakenOnce() {
+        QuestionPrefetcher prefetcher = new QuestionPrefetcher(request -> {
+            loads.incrementAndGet();
+            return result("s-" + request.title);
+        }, executor);
+
+        prefetcher.prefetch("헬스케어 앱", "설명", "3000만원");
+        prefetcher.prefetch(" 헬스케어 앱 ", "설명", "3000만원");
+
+        QuestionPrefetcher.Pending pending = prefetcher.take("헬스케어 앱", "설명", "3000만원");
+        assertNotNull(pending);
+        assertEquals("s-헬스케어 앱", pending.await().remoteSessionId);
+        assertEquals(1, loads.get());
+        assertNull(prefetcher.take("헬스케어 앱", "설명", "3000만원"));
+    }
+
+    @Test
+    public void changedInputCancelsPreviousRequest() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        QuestionPrefetcher prefetcher = new QuestionPrefetcher(request -> {
+            if (request.title.equals("느린 요청")) {
+                request.setCancelAction(cancelled::countDown);
+                started.countDown();
+                Thread.sleep(10_000);
+            }
+            return result(null);
+        }, executor);
+
+        prefetcher.prefetch("느린 요청", "설명", "미정");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        prefetcher.prefetch("다른 제목", "설명", "미정");
+
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+        assertNull(prefetcher.take("느린 요청", "설명", "미정"));
+    }
+
+    @Test
+    public void takeWithDifferentInputDiscardsPrefetch() {
+        QuestionPrefetcher prefetcher = new QuestionPrefetcher(request -> result(null), executor);
+
+        prefetcher.prefetch("제목", "설명", "미정");
+        assertNull(prefetcher.take("제목", "설명", "1000만원"));
+        assertNull(prefetcher.take("제목", "설명", "미정"));
+    }
+
+    @Test
+    public void failedPrefetchIsRetriedOnNextPrefetch() throws Exception {
+        QuestionPrefetcher prefetcher = new QuestionPrefetcher(request -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("네트워크 오류");
+            }
+            return result("s-2");
+        }, executor);
+
+        // 실패한 요청이 끝난 뒤 같은 입력으로 다시 요청하면 새로 시도하고, 성공한 뒤에는 재사용
+        for (int i = 0; i < 200 && loads.get() < 2; i++) {
+            prefetcher.prefetch("제목", "설명", "미정");
+            Thread.sleep(10);
+        }
+        prefetcher.prefetch("제목", "설명", "미정");
+
+        assertEquals("s-2", prefetcher.take("제목", "설명", "미정").await().remoteSessionId);
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,44 @@
+package com.ebusiness.ebiz.session;
+
+import com.ebusiness.ebiz.analysis.ProjectInput;
+import com.ebusiness.ebiz.analysis.Question;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * SessionRepository 로컬 단위 테스트
+ */
+public class SessionRepositoryTest {
+
+    @Test
+    public void sessionCarriesInputAndAnswers() {
+        SessionRepository repository = new SessionRepository();
+        AnalysisSession session = repository.create("헬스케어 앱", "다이어트 플래너", "1,500만원");
+
+        assertSame(session, repository.get(session.getId()));
+        assertEquals(1500, session.getBudgetManwon());
+
+        session.setQuestions(Arrays.asList(new Question("q1", "FMEA", "자본 조달 계획은?")));
+        session.getQuestionnaire().setAnswer(0, " 투자 유치 확정 ");
+
+        ProjectInput input = session.toProjectInput();
+        assertEquals("투자 유치 확정", input.getAnswers().get("q1"));
+        assertEquals("헬스케어 앱", input.getTitle());
+    }
+
+    @Test
+    public void oldestSessionsAreEvicted() {
+        SessionRepository repository = new SessionRepository();
+        AnalysisSession first = repository.create("첫 프로젝트", "", "미정");
+        for (int i = 0; i < SessionRepository.MAX_SESSIONS; i++) {
+            repository.create("프로젝트 " + i, "", "미정");
+        }
+
+        assertNull(repository.get(first.getId()));
+        assertEquals(SessionRepository.MAX_SESSIONS, repository.size());
+        assertNull(repository.get(null));
+    }
+}
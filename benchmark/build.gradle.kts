@@ -0,0 +1,42 @@
+// 분석/파싱 코드 JMH 벤치마크 (순수 JVM 모듈)
+// 실행: ./gradlew :benchmark:jmh  (결과: benchmark/build/results/jmh/results.json)
+plugins {
+    `java-library`
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// 앱 모듈에서 Android 의존성이 없는 소스만 그대로 컴파일하여 측정
+sourceSets {
+    main {
+        java {
+            setSrcDirs(listOf("../app/src/main/java"))
+            include(
+                "com/ebusiness/ebiz/analysis/**",
+                "com/ebusiness/ebiz/form/**",
+                "com/ebusiness/ebiz/network/AnalysisStreamParser.java",
+                "com/ebusiness/ebiz/network/AnalysisRequest.java"
+            )
+        }
+    }
+}
+
+dependencies {
+    implementation(libs.gson)
+
+    jmh(libs.jmh.core)
+    jmhAnnotationProcessor(libs.jmh.generator.annprocess)
+}
+
+jmh {
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    resultFormat.set("JSON")
+    // 특정 벤치마크만: ./gradlew :benchmark:jmh -Pjmh.includes=LossSimulator
+    (project.findProperty("jmh.includes") as String?)?.let { includes.set(listOf(it)) }
+}
@@ -0,0 +1,77 @@
+package com.ebusiness.ebiz.benchmark;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.network.AnalysisStreamParser;
+import com.google.gson.Gson;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 분석 응답 파싱 - Gson 객체 매핑과 스트리밍 파서 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnalysisParsingBenchmark {
+    private final Gson gson = new Gson();
+    private final AnalysisStreamParser parser = new AnalysisStreamParser();
+
+    @Benchmark
+    public AnalysisResult gsonFromJson() {
+        return gson.fromJson(BenchmarkData.ANALYSIS_JSON, AnalysisResult.class);
+    }
+
+    @Benchmark
+    public AnalysisResult streamParse(Blackhole blackhole) throws IOException {
+        return parser.parse(new StringReader(BenchmarkData.ANALYSIS_JSON), new BlackholeListener(blackhole));
+    }
+
+    /**
+     * 화면 갱신 대신 이벤트 값을 Blackhole로 소비
+     */
+    private static final class BlackholeListener implements AnalysisStreamParser.Listener {
+        private final Blackhole blackhole;
+
+        BlackholeListener(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void onRiskScore(double overallRiskScore) {
+            blackhole.consume(overallRiskScore);
+        }
+
+        @Override
+        public void onFactors(int severity, int occurrence, int detection) {
+            blackhole.consume(severity + occurrence + detection);
+        }
+
+        @Override
+        public void onLoss(long totalExpectedLoss, long timeCost, long directInvestment, long personnelCost) {
+            blackhole.consume(totalExpectedLoss);
+        }
+
+        @Override
+        public void onSummary(String executiveSummary) {
+            blackhole.consume(executiveSummary);
+        }
+
+        @Override
+        public void onRecommendation(int index, String recommendation) {
+            blackhole.consume(recommendation);
+        }
+
+        @Override
+        public void onComplete(AnalysisResult result) {
+            blackhole.consume(result);
+        }
+    }
+}
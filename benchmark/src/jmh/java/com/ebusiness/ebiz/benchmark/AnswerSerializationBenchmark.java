@@ -0,0 +1,52 @@
+package com.ebusiness.ebiz.benchmark;
+
+import com.ebusiness.ebiz.analysis.Questionnaire;
+import com.ebusiness.ebiz.network.AnalysisRequest;
+import com.google.gson.Gson;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 답변 입력/직렬화 비용 - 키 입력 처리, 답변 맵 변환, 백엔드 요청 JSON 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnswerSerializationBenchmark {
+    @Param({"5", "100"})
+    public int questionCount;
+
+    private final Gson gson = new Gson();
+    private Questionnaire questionnaire;
+    private int nextIndex;
+
+    @Setup
+    public void setUp() {
+        questionnaire = new Questionnaire(BenchmarkData.questions(questionCount));
+        for (int i = 0; i < questionCount; i++) {
+            questionnaire.setAnswer(i, "6개월 내 MVP 출시 가능, 초기 자본 " + i + "천만원 확보");
+        }
+    }
+
+    /**
+     * 키 입력 한 번에 해당하는 답변 갱신과 완료 여부 확인
+     */
+    @Benchmark
+    public boolean answerKeystroke() {
+        int index = nextIndex++ % questionCount;
+        questionnaire.setAnswer(index, "6개월 내 MVP 출시 가능");
+        return questionnaire.isComplete();
+    }
+
+    @Benchmark
+    public String serializeRequest() {
+        return gson.toJson(new AnalysisRequest("session-1", questionnaire.toAnswerMap()));
+    }
+}
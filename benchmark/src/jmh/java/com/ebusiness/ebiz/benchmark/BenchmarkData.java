@@ -0,0 +1,60 @@
+package com.ebusiness.ebiz.benchmark;
+
+import com.ebusiness.ebiz.analysis.ProjectInput;
+import com.ebusiness.ebiz.analysis.Question;
+import com.ebusiness.ebiz.analysis.QuestionGenerator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 벤치마크 공통 입력 데이터 (실제 화면 입력과 비슷한 길이의 한국어 답변)
+ */
+final class BenchmarkData {
+    static final String TITLE = "헬스케어 다이어트 플래너";
+    static final String DESCRIPTION = "20~30대 직장인을 위한 맞춤형 다이어트 플래너 앱을 개발하여 구독 모델로 수익화";
+    static final long BUDGET_MANWON = 3_000;
+
+    static final String ANALYSIS_JSON = "{"
+            + "\"business_name\":\"" + TITLE + "\","
+            + "\"overall_risk_score\":42.0,\"severity\":6,\"occurrence\":7,\"detection\":10,\"rpn\":420,"
+            + "\"total_expected_loss\":14280000,\"time_cost\":4620000,\"direct_investment\":3570000,"
+            + "\"personnel_cost\":4530000,"
+            + "\"executive_summary\":\"전체 리스크 수준은 '보통'입니다. 문제를 조기에 발견할 수단이 부족한 것이 가장 큰 위험 요인입니다.\","
+            + "\"ai_recommendations\":["
+            + "\"1단계: 빠른 MVP 출시 - 3개월 내 핵심 기능만으로 시장 반응 확인\","
+            + "\"2단계: 목표 고객 검증 - 인터뷰와 설문으로 핵심 문제 재확인\","
+            + "\"3단계: 초기 투자 규모 축소 - 단계별 예산 집행과 손실 한도 설정\"]"
+            + "}";
+
+    private BenchmarkData() {
+    }
+
+    static Map<String, String> answers() {
+        Map<String, String> answers = new HashMap<>();
+        answers.put("q1", "초기 자본 3000만원은 개인 자금으로 확보했고 추가 투자는 아직 미정입니다");
+        answers.put("q2", "개발 경험은 있지만 마케팅 경험은 부족합니다");
+        answers.put("q3", "20~30대 직장인, 특히 야근이 잦은 사무직");
+        answers.put("q4", "경쟁 앱 분석은 진행 중이며 차별화 포인트는 아직 불확실합니다");
+        answers.put("q5", "6개월 내 MVP 출시 가능");
+        return answers;
+    }
+
+    static ProjectInput projectInput() {
+        return new ProjectInput(TITLE, DESCRIPTION, BUDGET_MANWON, answers());
+    }
+
+    /**
+     * 질문 수가 많은 경우를 재현하기 위해 기본 질문을 반복해 count개로 만든다
+     */
+    static List<Question> questions(int count) {
+        List<Question> base = new QuestionGenerator().generate(TITLE, DESCRIPTION, BUDGET_MANWON);
+        List<Question> questions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Question question = base.get(i % base.size());
+            questions.add(new Question("q" + (i + 1), question.method, question.questionText));
+        }
+        return questions;
+    }
+}
@@ -0,0 +1,52 @@
+package com.ebusiness.ebiz.benchmark;
+
+import com.ebusiness.ebiz.analysis.LossSimulation;
+import com.ebusiness.ebiz.analysis.LossSimulator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 손실액 몬테카를로 시뮬레이션 (단일 스레드 대비 병렬 실행)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LossSimulatorBenchmark {
+    @Param({"100000"})
+    public int trials;
+
+    private ForkJoinPool singleThread;
+    private LossSimulator sequential;
+    private LossSimulator parallel;
+
+    @Setup
+    public void setUp() {
+        singleThread = new ForkJoinPool(1);
+        sequential = new LossSimulator(singleThread);
+        parallel = new LossSimulator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        singleThread.shutdown();
+    }
+
+    @Benchmark
+    public LossSimulation simulateSequential() {
+        return sequential.simulate(BenchmarkData.BUDGET_MANWON, 6, 7, 5, trials, 42L);
+    }
+
+    @Benchmark
+    public LossSimulation simulateParallel() {
+        return parallel.simulate(BenchmarkData.BUDGET_MANWON, 6, 7, 5, trials, 42L);
+    }
+}
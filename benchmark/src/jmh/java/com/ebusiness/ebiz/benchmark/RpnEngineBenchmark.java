@@ -0,0 +1,50 @@
+package com.ebusiness.ebiz.benchmark;
+
+import com.ebusiness.ebiz.analysis.AnalysisResult;
+import com.ebusiness.ebiz.analysis.ProjectInput;
+import com.ebusiness.ebiz.analysis.RpnEngine;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * RPN 점수 산정과 결과 화면 문자열 포맷 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RpnEngineBenchmark {
+    private final RpnEngine engine = new RpnEngine();
+    private ProjectInput input;
+    private AnalysisResult result;
+
+    @Setup
+    public void setUp() {
+        input = BenchmarkData.projectInput();
+        result = engine.analyze(input);
+    }
+
+    @Benchmark
+    public AnalysisResult analyze() {
+        return engine.analyze(input);
+    }
+
+    /**
+     * ReportActivity.renderLoss와 같은 방식의 금액 표시
+     */
+    @Benchmark
+    public String formatLoss() {
+        return "₩" + String.format(Locale.KOREA, "%,d", result.totalExpectedLoss);
+    }
+
+    @Benchmark
+    public long parseBudget() {
+        return ProjectInput.parseBudget("1,500만원");
+    }
+}
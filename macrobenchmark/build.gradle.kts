@@ -0,0 +1,39 @@
+// 시작 시간/화면 전환 프레임 측정과 Baseline Profile 생성 (com.android.test 모듈)
+// 측정: ./gradlew :macrobenchmark:connectedBenchmarkReleaseAndroidTest
+// 프로필 생성: ./gradlew :app:generateBaselineProfile
+plugins {
+    alias(libs.plugins.android.test)
+    alias(libs.plugins.baselineprofile)
+}
+
+android {
+    namespace = "com.ebusiness.ebiz.macrobenchmark"
+    compileSdk = 36
+
+    defaultConfig {
+        // Baseline Profile 수집은 API 28 이상 필요
+        minSdk = 28
+        targetSdk = 36
+
+        testInstrumentationRunner = "androidx.test.runner.AndroidJUnitRunner"
+        // 로컬 에뮬레이터에서도 실행 (수치는 실기기보다 부정확하므로 추세 비교용)
+        testInstrumentationRunnerArguments["androidx.benchmark.suppressErrors"] = "EMULATOR"
+    }
+
+    targetProjectPath = ":app"
+
+    compileOptions {
+        sourceCompatibility = JavaVersion.VERSION_11
+        targetCompatibility = JavaVersion.VERSION_11
+    }
+}
+
+baselineProfile {
+    useConnectedDevices = true
+}
+
+dependencies {
+    implementation(libs.ext.junit)
+    implementation(libs.uiautomator)
+    implementation(libs.benchmark.macro.junit4)
+}
@@ -0,0 +1,82 @@
+package com.ebusiness.ebiz.macrobenchmark;
+
+import androidx.benchmark.macro.MacrobenchmarkScope;
+import androidx.test.uiautomator.By;
+import androidx.test.uiautomator.BySelector;
+import androidx.test.uiautomator.Direction;
+import androidx.test.uiautomator.UiDevice;
+import androidx.test.uiautomator.UiObject2;
+import androidx.test.uiautomator.Until;
+
+/**
+ * 홈 → 새 프로젝트 → 분석 중 → 구체화 질문 → 분석 결과 흐름을 UI Automator로 재현
+ * 측정(AnalysisFlowBenchmark)과 Baseline Profile 수집(BaselineProfileGenerator)이 같은 경로를 사용한다
+ */
+final class AnalysisFlow {
+    static final String PACKAGE_NAME = "com.ebusiness.ebiz";
+
+    private static final long SCREEN_TIMEOUT_MS = 10_000;
+    private static final int MAX_SCROLLS = 10;
+
+    private AnalysisFlow() {
+    }
+
+    static void run(MacrobenchmarkScope scope) {
+        UiDevice device = scope.getDevice();
+        openNewProject(device);
+        fillProjectForm(device);
+        answerQuestions(device);
+        waitFor(device, res("total_loss"));
+    }
+
+    static void openNewProject(UiDevice device) {
+        click(device, res("btn_new_project"));
+        waitFor(device, res("project_title"));
+    }
+
+    private static void fillProjectForm(UiDevice device) {
+        device.findObject(res("project_title")).setText("헬스케어 다이어트 플래너");
+        device.findObject(res("textarea")).setText("20~30대 직장인을 위한 맞춤형 다이어트 플래너 앱을 개발하여 구독 모델로 수익화");
+        device.findObject(res("container")).setText("3000");
+
+        // 입력 검증이 지연 반영되므로 버튼이 활성화될 때까지 대기
+        click(device, res("button").enabled(true));
+        waitFor(device, res("questionsList"));
+    }
+
+    private static void answerQuestions(UiDevice device) {
+        UiObject2 list = device.findObject(res("questionsList"));
+        for (int i = 0; i < MAX_SCROLLS; i++) {
+            for (UiObject2 input : device.findObjects(res("answer_input"))) {
+                if (input.getText() == null || input.getText().isEmpty()) {
+                    input.setText("6개월 내 MVP 출시 가능, 개발 경험 있음");
+                }
+            }
+            if (device.hasObject(res("btnSubmit").enabled(true))) {
+                break;
+            }
+            // 스크롤하며 나머지 질문 카드를 표시 (재사용되는 카드의 프레임도 함께 측정)
+            list.scroll(Direction.DOWN, 1f);
+            device.waitForIdle();
+        }
+        click(device, res("btnSubmit").enabled(true));
+    }
+
+    static BySelector res(String id) {
+        return By.res(PACKAGE_NAME, id);
+    }
+
+    private static void click(UiDevice device, BySelector selector) {
+        UiObject2 target = device.wait(Until.findObject(selector), SCREEN_TIMEOUT_MS);
+        if (target == null) {
+            throw new AssertionError("View not found: " + selector);
+        }
+        target.click();
+    }
+
+    private static void waitFor(UiDevice device, BySelector selector) {
+        if (!device.wait(Until.hasObject(selector), SCREEN_TIMEOUT_MS)) {
+            throw new AssertionError("Screen did not appear: " + selector);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ebusiness.ebiz.macrobenchmark;
+
+import androidx.benchmark.macro.BaselineProfileMode;
+import androidx.benchmark.macro.CompilationMode;
+import androidx.benchmark.macro.FrameTimingMetric;
+import androidx.benchmark.macro.StartupMode;
+import androidx.benchmark.macro.junit4.MacrobenchmarkRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import java.util.Collections;
+import kotlin.Unit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * 새 프로젝트 입력부터 분석 결과 화면까지의 프레임 시간 측정
+ */
+@RunWith(AndroidJUnit4.class)
+public class AnalysisFlowBenchmark {
+    private static final int ITERATIONS = 5;
+
+    @Rule
+    public MacrobenchmarkRule benchmarkRule = new MacrobenchmarkRule();
+
+    @Test
+    public void analysisFlowWithoutCompilation() {
+        analysisFlow(new CompilationMode.None());
+    }
+
+    @Test
+    public void analysisFlowWithBaselineProfile() {
+        analysisFlow(new CompilationMode.Partial(BaselineProfileMode.Require, 0));
+    }
+
+    private void analysisFlow(CompilationMode compilationMode) {
+        benchmarkRule.measureRepeated(
+                AnalysisFlow.PACKAGE_NAME,
+                Collections.singletonList(new FrameTimingMetric()),
+                compilationMode,
+                StartupMode.WARM,
+                ITERATIONS,
+                scope -> {
+                    scope.pressHome();
+                    scope.startActivityAndWait();
+                    return Unit.INSTANCE;
+                },
+                scope -> {
+                    AnalysisFlow.run(scope);
+                    return Unit.INSTANCE;
+                });
+    }
+}
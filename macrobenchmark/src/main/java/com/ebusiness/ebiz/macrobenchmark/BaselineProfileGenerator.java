@@ -0,0 +1,39 @@
+package com.ebusiness.ebiz.macrobenchmark;
+
+import androidx.benchmark.macro.junit4.BaselineProfileRule;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import kotlin.Unit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * 앱 시작과 분석 흐름에서 실행되는 코드로 Baseline Profile 생성
+ * ./gradlew :app:generateBaselineProfile 실행 시 결과가 app/src/release/generated/baselineProfiles에 저장된다
+ */
+@RunWith(AndroidJUnit4.class)
+public class BaselineProfileGenerator {
+    private static final int MAX_ITERATIONS = 15;
+    private static final int STABLE_ITERATIONS = 3;
+
+    @Rule
+    public BaselineProfileRule baselineProfileRule = new BaselineProfileRule();
+
+    @Test
+    public void generate() {
+        baselineProfileRule.collect(
+                AnalysisFlow.PACKAGE_NAME,
+                MAX_ITERATIONS,
+                STABLE_ITERATIONS,
+                null,
+                true, // 시작 경로는 Startup Profile에도 포함 (DEX 배치 최적화)
+                false,
+                className -> true,
+                scope -> {
+                    scope.pressHome();
+                    scope.startActivityAndWait();
+                    AnalysisFlow.run(scope);
+                    return Unit.INSTANCE;
+                });
+    }
+}